@@ -28,6 +28,15 @@ public class VocabHunterConsoleArguments {
     @Parameter(names = "-ignoreinitialcapitals", description = "Ignore words that begin with a capital letter")
     private boolean isIgnoreInitialCapitals = false;
 
+    @Parameter(names = "-matchwordforms", description = "Also filter other forms of the filtered words, such as plurals and verb endings")
+    private boolean isMatchWordForms = false;
+
+    @Parameter(names = "-frequencydictionary", description = "Frequency dictionary used by -excludecommon")
+    private Path frequencyDictionary;
+
+    @Parameter(names = "-excludecommon", description = "Number of the most common words in the frequency dictionary to ignore")
+    private int excludeCommon = 0;
+
     @Parameter(names = "-hideuses", description = "Hide the lists of uses of each word")
     private boolean isHideUses = false;
 
@@ -72,6 +81,30 @@ public class VocabHunterConsoleArguments {
         isIgnoreInitialCapitals = ignoreInitialCapitals;
     }
 
+    public boolean isMatchWordForms() {
+        return isMatchWordForms;
+    }
+
+    public void setMatchWordForms(final boolean matchWordForms) {
+        isMatchWordForms = matchWordForms;
+    }
+
+    public Path getFrequencyDictionary() {
+        return frequencyDictionary;
+    }
+
+    public void setFrequencyDictionary(final Path frequencyDictionary) {
+        this.frequencyDictionary = frequencyDictionary;
+    }
+
+    public int getExcludeCommon() {
+        return excludeCommon;
+    }
+
+    public void setExcludeCommon(final int excludeCommon) {
+        this.excludeCommon = excludeCommon;
+    }
+
     public boolean isHideUses() {
         return isHideUses;
     }
@@ -5,11 +5,13 @@
 package io.github.vocabhunter.executable.console;
 
 import com.beust.jcommander.JCommander;
+import com.beust.jcommander.ParameterException;
 import io.github.vocabhunter.analysis.core.CoreConstants;
 import io.github.vocabhunter.analysis.file.FileStreamer;
 import io.github.vocabhunter.analysis.file.TextReader;
 import io.github.vocabhunter.analysis.file.TikaTool;
 import io.github.vocabhunter.analysis.filter.FilterBuilder;
+import io.github.vocabhunter.analysis.filter.FrequencyDictionary;
 import io.github.vocabhunter.analysis.filter.WordFilter;
 import io.github.vocabhunter.analysis.model.AnalysisResult;
 import io.github.vocabhunter.analysis.model.WordUse;
@@ -48,6 +50,8 @@ public final class VocabHunterConsoleExecutable {
             if (bean.isHelpRequested()) {
                 jCommander.usage();
             } else {
+                validate(bean);
+
                 String output = bean.getOutput();
 
                 if (output == null) {
@@ -68,6 +72,12 @@ public final class VocabHunterConsoleExecutable {
         }
     }
 
+    private static void validate(final VocabHunterConsoleArguments bean) {
+        if (bean.getExcludeCommon() > 0 && bean.getFrequencyDictionary() == null) {
+            throw new ParameterException("Option -excludecommon requires -frequencydictionary");
+        }
+    }
+
     private static void processInput(final VocabHunterConsoleArguments bean, final PrintWriter out) {
         for (String input : bean.getInput()) {
             Path file = Paths.get(input);
@@ -84,7 +94,6 @@ public final class VocabHunterConsoleExecutable {
     }
 
     private static WordFilter buildFilter(final VocabHunterConsoleArguments bean) {
-        SessionWordsTool sessionWordsTool = new SessionWordsToolImpl();
         FilterBuilder builder = new FilterBuilder()
             .minimumLetters(bean.getMinLetters())
             .minimumOccurrences(bean.getMinOccurrences());
@@ -92,6 +101,15 @@ public final class VocabHunterConsoleExecutable {
         if (bean.isIgnoreInitialCapitals()) {
             builder.excludeInitialCapital();
         }
+        if (bean.getExcludeCommon() > 0) {
+            builder.excludeMostFrequent(FrequencyDictionary.read(bean.getFrequencyDictionary()), bean.getExcludeCommon());
+        }
+        if (bean.isMatchWordForms()) {
+            builder.matchExcludedWordStems();
+        }
+
+        SessionWordsTool sessionWordsTool = new SessionWordsToolImpl();
+
         addFilteredWords(builder, bean.getFilterKnown(), sessionWordsTool::knownWords);
         addFilteredWords(builder, bean.getFilterSeen(), sessionWordsTool::seenWords);
 
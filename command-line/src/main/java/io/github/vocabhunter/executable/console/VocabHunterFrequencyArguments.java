@@ -0,0 +1,66 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.executable.console;
+
+import com.beust.jcommander.Parameter;
+
+import java.nio.file.Path;
+
+public class VocabHunterFrequencyArguments {
+    @Parameter(names = "-input", description = "Text, Excel, CSV or TSV word list, most common word first", required = true)
+    private Path input;
+
+    @Parameter(names = "-column", description = "Column of the Excel, CSV or TSV word list holding the words")
+    private int column = 0;
+
+    @Parameter(names = "-sheet", description = "Sheet of the Excel word list holding the words")
+    private int sheet = 0;
+
+    @Parameter(names = "-output", description = "Frequency dictionary file", required = true)
+    private Path output;
+
+    @Parameter(names = "-help", help = true, description = "Show command help")
+    private boolean isHelpRequested = false;
+
+    public Path getInput() {
+        return input;
+    }
+
+    public void setInput(final Path input) {
+        this.input = input;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    public void setColumn(final int column) {
+        this.column = column;
+    }
+
+    public int getSheet() {
+        return sheet;
+    }
+
+    public void setSheet(final int sheet) {
+        this.sheet = sheet;
+    }
+
+    public Path getOutput() {
+        return output;
+    }
+
+    public void setOutput(final Path output) {
+        this.output = output;
+    }
+
+    public boolean isHelpRequested() {
+        return isHelpRequested;
+    }
+
+    public void setHelpRequested(final boolean helpRequested) {
+        isHelpRequested = helpRequested;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.executable.console;
+
+import com.beust.jcommander.JCommander;
+import io.github.vocabhunter.analysis.core.CoreTool;
+import io.github.vocabhunter.analysis.core.ThreadPoolTool;
+import io.github.vocabhunter.analysis.core.ThreadPoolToolImpl;
+import io.github.vocabhunter.analysis.file.TikaTool;
+import io.github.vocabhunter.analysis.filter.FrequencyDictionary;
+import io.github.vocabhunter.analysis.grid.DelimitedGridReaderImpl;
+import io.github.vocabhunter.analysis.grid.DocumentGridReaderImpl;
+import io.github.vocabhunter.analysis.grid.ExcelGridReaderImpl;
+import io.github.vocabhunter.analysis.grid.FilterFileWordsExtractor;
+import io.github.vocabhunter.analysis.grid.FilterFileWordsExtractorImpl;
+import io.github.vocabhunter.analysis.grid.ParallelTextGridBuilderImpl;
+import io.github.vocabhunter.analysis.grid.TextGridManagerImpl;
+import io.github.vocabhunter.analysis.session.SessionWordsToolImpl;
+import io.github.vocabhunter.analysis.settings.BaseListedFile;
+import io.github.vocabhunter.analysis.settings.DelimitedListedFile;
+import io.github.vocabhunter.analysis.settings.DocumentListedFile;
+import io.github.vocabhunter.analysis.settings.ExcelListedFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static io.github.vocabhunter.analysis.session.FileNameTool.filename;
+
+public final class VocabHunterFrequencyExecutable {
+    private static final Logger LOG = LoggerFactory.getLogger(VocabHunterFrequencyExecutable.class);
+
+    private VocabHunterFrequencyExecutable() {
+        // Prevent instantiation - all methods are static
+    }
+
+    public static void main(final String... args) {
+        try {
+            Instant start = Instant.now();
+            VocabHunterFrequencyArguments bean = new VocabHunterFrequencyArguments();
+            JCommander jCommander = JCommander.newBuilder()
+                .addObject(bean)
+                .build();
+
+            jCommander.parse(args);
+            if (bean.isHelpRequested()) {
+                jCommander.usage();
+            } else {
+                List<String> words = extractor().extract(listedFile(bean));
+
+                FrequencyDictionary.write(bean.getOutput(), words);
+                LOG.info("Wrote {} words to frequency dictionary {}", FrequencyDictionary.read(bean.getOutput()).size(), bean.getOutput());
+
+                Instant end = Instant.now();
+                Duration duration = Duration.between(start, end);
+                LOG.info("\nExecution time: {}ms", duration.toMillis());
+            }
+        } catch (final Exception e) {
+            LOG.error("Application error", e);
+            LOG.error("Use -help to show the command-line options");
+        }
+    }
+
+    private static FilterFileWordsExtractor extractor() {
+        TextGridManagerImpl textGridManager = new TextGridManagerImpl(
+            new DocumentGridReaderImpl(new TikaTool()), new ExcelGridReaderImpl(), new DelimitedGridReaderImpl(), new ParallelTextGridBuilderImpl());
+
+        ThreadPoolTool threadPoolTool = new ThreadPoolToolImpl();
+
+        threadPoolTool.filterThreadPool().beginExecution();
+
+        return new FilterFileWordsExtractorImpl(new SessionWordsToolImpl(), textGridManager, threadPoolTool);
+    }
+
+    private static BaseListedFile listedFile(final VocabHunterFrequencyArguments bean) {
+        Path input = bean.getInput();
+        String name = CoreTool.toLowerCase(filename(input));
+
+        if (name.endsWith(".xls") || name.endsWith(".xlsx")) {
+            return new ExcelListedFile(input, Map.of(bean.getSheet(), List.of(bean.getColumn())));
+        } else if (name.endsWith(".csv") || name.endsWith(".tsv")) {
+            return new DelimitedListedFile(input, List.of(bean.getColumn()));
+        } else {
+            return new DocumentListedFile(input);
+        }
+    }
+}
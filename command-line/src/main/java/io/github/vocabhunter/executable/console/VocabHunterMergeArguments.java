@@ -0,0 +1,59 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.executable.console;
+
+import com.beust.jcommander.Parameter;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+
+public class VocabHunterMergeArguments {
+    @Parameter(names = "-base", description = "Session file that the derived sessions were copied from", required = true)
+    private Path base;
+
+    @Parameter(names = "-derived", description = "Session files containing the changes to merge", required = true)
+    private List<Path> derived;
+
+    @Parameter(names = "-output", description = "Merged session file", required = true)
+    private Path output;
+
+    @Parameter(names = "-help", help = true, description = "Show command help")
+    private boolean isHelpRequested = false;
+
+    public Path getBase() {
+        return base;
+    }
+
+    public void setBase(final Path base) {
+        this.base = base;
+    }
+
+    public List<Path> getDerived() {
+        return unmodifiableList(derived);
+    }
+
+    public void setDerived(final List<Path> derived) {
+        this.derived = new ArrayList<>(derived);
+    }
+
+    public Path getOutput() {
+        return output;
+    }
+
+    public void setOutput(final Path output) {
+        this.output = output;
+    }
+
+    public boolean isHelpRequested() {
+        return isHelpRequested;
+    }
+
+    public void setHelpRequested(final boolean helpRequested) {
+        isHelpRequested = helpRequested;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.executable.console;
+
+import com.beust.jcommander.JCommander;
+import io.github.vocabhunter.analysis.session.SessionMergeResult;
+import io.github.vocabhunter.analysis.session.SessionMergeTool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public final class VocabHunterMergeExecutable {
+    private static final Logger LOG = LoggerFactory.getLogger(VocabHunterMergeExecutable.class);
+
+    private VocabHunterMergeExecutable() {
+        // Prevent instantiation - all methods are static
+    }
+
+    public static void main(final String... args) {
+        try {
+            Instant start = Instant.now();
+            VocabHunterMergeArguments bean = new VocabHunterMergeArguments();
+            JCommander jCommander = JCommander.newBuilder()
+                .addObject(bean)
+                .build();
+
+            jCommander.parse(args);
+            if (bean.isHelpRequested()) {
+                jCommander.usage();
+            } else {
+                SessionMergeResult result = SessionMergeTool.merge(bean.getBase(), bean.getDerived(), bean.getOutput());
+
+                LOG.info("Merged {} changed words from {} sessions", result.getChangedWordCount(), bean.getDerived().size());
+                if (result.getUnmatchedWordCount() > 0) {
+                    LOG.warn("Ignored {} words that are not in the base session", result.getUnmatchedWordCount());
+                }
+                result.getConflicts()
+                    .forEach(w -> LOG.warn("Resolved conflicting changes to '{}'", w));
+
+                Instant end = Instant.now();
+                Duration duration = Duration.between(start, end);
+                LOG.info("\nExecution time: {}ms", duration.toMillis());
+            }
+        } catch (final Exception e) {
+            LOG.error("Application error", e);
+            LOG.error("Use -help to show the command-line options");
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.executable.console;
+
+import com.beust.jcommander.Parameter;
+
+import java.nio.file.Path;
+
+public class VocabHunterUpgradeArguments {
+    @Parameter(names = "-input", description = "Directory containing the session files to upgrade", required = true)
+    private Path input;
+
+    @Parameter(names = "-output", description = "Directory for the upgraded session files (defaults to upgrading in place)")
+    private Path output;
+
+    @Parameter(names = "-help", help = true, description = "Show command help")
+    private boolean isHelpRequested = false;
+
+    public Path getInput() {
+        return input;
+    }
+
+    public void setInput(final Path input) {
+        this.input = input;
+    }
+
+    public Path getOutput() {
+        if (output == null) {
+            return input;
+        } else {
+            return output;
+        }
+    }
+
+    public void setOutput(final Path output) {
+        this.output = output;
+    }
+
+    public boolean isHelpRequested() {
+        return isHelpRequested;
+    }
+
+    public void setHelpRequested(final boolean helpRequested) {
+        isHelpRequested = helpRequested;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.executable.console;
+
+import com.beust.jcommander.JCommander;
+import io.github.vocabhunter.analysis.session.SessionUpgradeResult;
+import io.github.vocabhunter.analysis.session.SessionUpgradeTool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static io.github.vocabhunter.analysis.session.FileNameTool.filename;
+
+public final class VocabHunterUpgradeExecutable {
+    private static final Logger LOG = LoggerFactory.getLogger(VocabHunterUpgradeExecutable.class);
+
+    private static final double MILLIS_PER_SECOND = 1000.0;
+
+    private VocabHunterUpgradeExecutable() {
+        // Prevent instantiation - all methods are static
+    }
+
+    public static void main(final String... args) {
+        try {
+            Instant start = Instant.now();
+            VocabHunterUpgradeArguments bean = new VocabHunterUpgradeArguments();
+            JCommander jCommander = JCommander.newBuilder()
+                .addObject(bean)
+                .build();
+
+            jCommander.parse(args);
+            if (bean.isHelpRequested()) {
+                jCommander.usage();
+            } else {
+                List<SessionUpgradeResult> results = SessionUpgradeTool.upgradeDirectory(bean.getInput(), bean.getOutput(), VocabHunterUpgradeExecutable::logProgress);
+
+                Instant end = Instant.now();
+                Duration duration = Duration.between(start, end);
+                logSummary(results, duration.toMillis());
+            }
+        } catch (final Exception e) {
+            LOG.error("Application error", e);
+            LOG.error("Use -help to show the command-line options");
+        }
+    }
+
+    private static void logProgress(final int fileNo, final int fileCount, final SessionUpgradeResult result) {
+        String name = filename(result.getFile());
+        Optional<String> error = result.getError();
+
+        if (error.isPresent()) {
+            LOG.warn("[{}/{}] {}: failed - {}", fileNo, fileCount, name, error.get());
+        } else if (result.isUpgraded()) {
+            LOG.info("[{}/{}] {}: upgraded from format {} with {} words in {}ms ({} words/s)",
+                fileNo, fileCount, name, result.getOriginalVersion(), result.getWordCount(), result.getDurationMillis(),
+                rate(result.getWordCount(), result.getDurationMillis()));
+        } else {
+            LOG.info("[{}/{}] {}: already the latest format", fileNo, fileCount, name);
+        }
+    }
+
+    private static void logSummary(final List<SessionUpgradeResult> results, final long durationMillis) {
+        long upgraded = results.stream().filter(SessionUpgradeResult::isUpgraded).count();
+        long failed = results.stream().filter(r -> r.getError().isPresent()).count();
+        long words = results.stream().filter(SessionUpgradeResult::isUpgraded).mapToLong(SessionUpgradeResult::getWordCount).sum();
+
+        LOG.info("\nUpgraded {} of {} session files ({} failed) in {}ms", upgraded, results.size(), failed, durationMillis);
+        LOG.info("Throughput: {} files/s, {} words/s", rate(results.size(), durationMillis), rate(words, durationMillis));
+    }
+
+    private static long rate(final long count, final long durationMillis) {
+        return Math.round(count * MILLIS_PER_SECOND / Math.max(durationMillis, 1));
+    }
+}
@@ -4,8 +4,18 @@
 
 package io.github.vocabhunter.analysis.file;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.nio.file.Path;
 
 public interface TextReader {
     String read(Path file);
+
+    /**
+     * Opens the text of the file for reading as it is extracted.  The caller
+     * must close the reader.
+     */
+    default Reader openReader(final Path file) {
+        return new StringReader(read(file));
+    }
 }
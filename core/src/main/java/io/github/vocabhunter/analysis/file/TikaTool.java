@@ -15,6 +15,9 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import javax.inject.Singleton;
 
@@ -40,4 +43,34 @@ public class TikaTool implements TextReader {
             throw new VocabHunterException(String.format("Unable to read file '%s'", filename(file)), e);
         }
     }
+
+    @Override
+    public Reader openReader(final Path file) {
+        try {
+            if (Files.size(file) == 0) {
+                return new StringReader("");
+            } else {
+                return openParsingReader(file);
+            }
+        } catch (final IOException | RuntimeException e) {
+            throw new VocabHunterException(String.format("Unable to read file '%s'", filename(file)), e);
+        }
+    }
+
+    // The parsing reader owns the stream, so close it only if that fails
+    private static Reader openParsingReader(final Path file) throws IOException {
+        Metadata metadata = new Metadata();
+        InputStream in = TikaInputStream.get(file, metadata);
+
+        try {
+            return new Tika().parse(in, metadata);
+        } catch (final IOException | RuntimeException e) {
+            try {
+                in.close();
+            } catch (final IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw e;
+        }
+    }
 }
@@ -6,24 +6,79 @@ package io.github.vocabhunter.analysis.filter;
 
 import io.github.vocabhunter.analysis.model.AnalysisWord;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public final class AggregateFilter implements WordFilter {
     private final List<WordFilter> filters;
 
+    private final FilterPlanner planner;
+
     public AggregateFilter(final List<WordFilter> filters) {
         this.filters = new ArrayList<>(filters);
+        planner = new FilterPlanner(filters);
     }
 
     @Override
     public boolean isShown(final AnalysisWord word) {
+        return planner.isShown(word);
+    }
+
+    @Override
+    public void hide(final WordFeatures features, final BitSet shown) {
+        planner.hide(features, shown);
+    }
+
+    @Override
+    public void hide(final ShownWordsCache cache, final BitSet shown) {
+        planner.hide(cache, shown);
+    }
+
+    /**
+     * The filters in the order they are currently applied, with what has
+     * been observed of each so far.
+     */
+    public List<FilterStatistics> getPlan() {
+        return planner.plan();
+    }
+
+    @Override
+    public int revision() {
+        int result = 0;
+
+        for (WordFilter filter : filters) {
+            result += filter.revision();
+        }
+
+        return result;
+    }
+
+    @Override
+    public void addLoadListener(final Runnable listener) {
+        for (WordFilter filter : filters) {
+            filter.addLoadListener(listener);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> readiness() {
+        return CompletableFuture.allOf(filters.stream()
+            .map(WordFilter::readiness)
+            .toArray(CompletableFuture[]::new));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> refresh(final Path file) {
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+
         for (WordFilter filter : filters) {
-            if (!filter.isShown(word)) {
-                return false;
-            }
+            futures.add(filter.refresh(file));
         }
 
-        return true;
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+            .thenApply(v -> futures.stream().anyMatch(CompletableFuture::join));
     }
 }
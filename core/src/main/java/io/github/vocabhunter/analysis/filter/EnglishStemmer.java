@@ -0,0 +1,174 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.filter;
+
+/**
+ * Reduces a lower case English word to a stem shared with its inflected
+ * forms, using step 1 of the Porter algorithm: plurals, "-ed", "-ing" and a
+ * final "y".  So "runs", "running" and "run" all give "run".  The later,
+ * derivational steps are left out as they join words a learner sees as
+ * different vocabulary, such as "nation" and "national".
+ */
+public final class EnglishStemmer {
+    private static final int MINIMUM_LENGTH = 3;
+
+    private EnglishStemmer() {
+        // Prevent instantiation - all methods are static
+    }
+
+    public static String stem(final String word) {
+        if (word.length() < MINIMUM_LENGTH) {
+            return word;
+        }
+
+        char[] w = word.toCharArray();
+        int end = removePlural(w, w.length);
+
+        end = removeEnding(w, end);
+        replaceFinalY(w, end);
+
+        return new String(w, 0, end);
+    }
+
+    private static int removePlural(final char[] w, final int end) {
+        if (endsWith(w, end, "sses") || endsWith(w, end, "ies")) {
+            return end - 2;
+        } else if (endsWith(w, end, "s") && !endsWith(w, end, "ss")) {
+            return end - 1;
+        } else {
+            return end;
+        }
+    }
+
+    private static int removeEnding(final char[] w, final int end) {
+        if (endsWith(w, end, "eed")) {
+            if (measure(w, end - 3) > 0) {
+                return end - 1;
+            }
+        } else if (endsWith(w, end, "ed") && hasVowel(w, end - 2)) {
+            return tidyStem(w, end - 2);
+        } else if (endsWith(w, end, "ing") && hasVowel(w, end - 3)) {
+            return tidyStem(w, end - 3);
+        }
+
+        return end;
+    }
+
+    private static int tidyStem(final char[] w, final int end) {
+        if (endsWith(w, end, "at") || endsWith(w, end, "bl") || endsWith(w, end, "iz")) {
+            return appendE(w, end);
+        } else if (isDoubleConsonant(w, end - 1)) {
+            return removeDoubleConsonant(w, end);
+        } else if (measure(w, end) == 1 && isShortSyllable(w, end - 1)) {
+            return appendE(w, end);
+        } else {
+            return end;
+        }
+    }
+
+    private static int appendE(final char[] w, final int end) {
+        w[end] = 'e';
+
+        return end + 1;
+    }
+
+    private static int removeDoubleConsonant(final char[] w, final int end) {
+        char last = w[end - 1];
+
+        if (last == 'l' || last == 's' || last == 'z') {
+            return end;
+        } else {
+            return end - 1;
+        }
+    }
+
+    private static void replaceFinalY(final char[] w, final int end) {
+        int last = end - 1;
+
+        if (w[last] == 'y' && hasVowel(w, last)) {
+            w[last] = 'i';
+        }
+    }
+
+    private static boolean endsWith(final char[] w, final int end, final String suffix) {
+        int start = end - suffix.length();
+
+        if (start < 0) {
+            return false;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (w[start + i] != suffix.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isConsonant(final char[] w, final int i) {
+        switch (w[i]) {
+            case 'a':
+            case 'e':
+            case 'i':
+            case 'o':
+            case 'u':
+                return false;
+            case 'y':
+                return i == 0 || !isConsonant(w, i - 1);
+            default:
+                return true;
+        }
+    }
+
+    private static boolean hasVowel(final char[] w, final int end) {
+        for (int i = 0; i < end; i++) {
+            if (!isConsonant(w, i)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * The number of vowel-consonant sequences in the first {@code end}
+     * characters, the "m" of the Porter algorithm.
+     */
+    private static int measure(final char[] w, final int end) {
+        int count = 0;
+        int i = 0;
+
+        while (i < end && isConsonant(w, i)) {
+            i++;
+        }
+        while (i < end) {
+            while (i < end && !isConsonant(w, i)) {
+                i++;
+            }
+            if (i < end) {
+                count++;
+            }
+            while (i < end && isConsonant(w, i)) {
+                i++;
+            }
+        }
+
+        return count;
+    }
+
+    private static boolean isDoubleConsonant(final char[] w, final int i) {
+        return i >= 1 && w[i] == w[i - 1] && isConsonant(w, i);
+    }
+
+    private static boolean isShortSyllable(final char[] w, final int i) {
+        if (i < 2 || !isConsonant(w, i) || isConsonant(w, i - 1) || !isConsonant(w, i - 2)) {
+            return false;
+        }
+
+        char last = w[i];
+
+        return last != 'w' && last != 'x' && last != 'y';
+    }
+}
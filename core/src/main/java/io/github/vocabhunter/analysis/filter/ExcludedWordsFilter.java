@@ -5,85 +5,190 @@
 package io.github.vocabhunter.analysis.filter;
 
 import io.github.vocabhunter.analysis.core.CoreTool;
-import io.github.vocabhunter.analysis.core.VocabHunterException;
 import io.github.vocabhunter.analysis.model.AnalysisWord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Supplier;
-
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
-
+import java.util.stream.IntStream;
+
+/**
+ * Excludes the words supplied by each filter source.  Each source is built
+ * into an {@link ExclusionDictionary} in the background, so {@link #isShown}
+ * never blocks and reflects the sources loaded so far until {@link #readiness}
+ * completes.  Load listeners hear of each source as it is stored.  A file
+ * source can be reloaded alone with {@link #refresh}.  When
+ * matching stems, excluding "run" also excludes "runs" and "running".
+ */
 public class ExcludedWordsFilter implements WordFilter {
     private static final Logger LOG = LoggerFactory.getLogger(ExcludedWordsFilter.class);
 
-    private final List<CompletableFuture<Collection<String>>> futures;
+    private final Instant start = Instant.now();
+
+    private final Executor executor;
+
+    private final List<ExcludedWordsSource> sources;
+
+    private final boolean isMatchingStems;
+
+    private final AtomicReferenceArray<ExclusionDictionary> dictionaries;
 
-    private final AtomicReference<Set<String>> computedExclusions = new AtomicReference<>();
+    private final AtomicIntegerArray generations;
 
-    public ExcludedWordsFilter(final Executor executor, final List<Supplier<Collection<String>>> excludedWordsSuppliers) {
-        futures = excludedWordsSuppliers.stream()
-            .map(s -> CompletableFuture.supplyAsync(s, executor))
-            .collect(toList());
+    private final AtomicInteger revision = new AtomicInteger();
+
+    private final List<Runnable> loadListeners = new CopyOnWriteArrayList<>();
+
+    private final CompletableFuture<Void> readiness;
+
+    public ExcludedWordsFilter(final Executor executor, final List<ExcludedWordsSource> sources, final boolean isMatchingStems) {
+        this.executor = executor;
+        this.sources = List.copyOf(sources);
+        this.isMatchingStems = isMatchingStems;
+        dictionaries = new AtomicReferenceArray<>(sources.size());
+        generations = new AtomicIntegerArray(sources.size());
+
+        CompletableFuture<?>[] futures = IntStream.range(0, sources.size())
+            .mapToObj(this::load)
+            .toArray(CompletableFuture[]::new);
+
+        readiness = CompletableFuture.allOf(futures)
+            .thenRun(this::logCompletion);
     }
 
     @Override
     public boolean isShown(final AnalysisWord word) {
-        Set<String> exclusions = exclusions();
-        String identifier = CoreTool.toLowerCase(word.getWordIdentifier());
+        String identifier = key(word.getWordIdentifier());
 
-        return !exclusions.contains(identifier);
+        return !isExcluded(identifier);
     }
 
-    private Set<String> exclusions() {
-        Set<String> result = computedExclusions.get();
+    @Override
+    public void hide(final WordFeatures features, final BitSet shown) {
+        List<String> keys = isMatchingStems ? features.stems() : features.keys();
+        BitSet excludedKeys = new BitSet(keys.size());
 
-        if (result == null) {
-            result = buildExclusionSet();
-            computedExclusions.compareAndSet(null, result);
+        for (int i = 0; i < keys.size(); i++) {
+            if (isExcluded(keys.get(i))) {
+                excludedKeys.set(i);
+            }
+        }
+        for (int i = 0; i < features.size(); i++) {
+            int keyId = isMatchingStems ? features.stemId(i) : features.keyId(i);
 
-            return computedExclusions.get();
-        } else {
-            return result;
+            if (excludedKeys.get(keyId)) {
+                shown.clear(i);
+            }
+        }
+    }
+
+    private boolean isExcluded(final String identifier) {
+        for (int i = 0; i < dictionaries.length(); i++) {
+            ExclusionDictionary dictionary = dictionaries.get(i);
+
+            if (dictionary != null && dictionary.contains(identifier)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public int revision() {
+        return revision.get();
+    }
+
+    @Override
+    public void addLoadListener(final Runnable listener) {
+        loadListeners.add(listener);
+    }
+
+    @Override
+    public CompletableFuture<Void> readiness() {
+        return readiness;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> refresh(final Path file) {
+        Optional<Path> key = Optional.of(normalise(file));
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int i = 0; i < sources.size(); i++) {
+            if (sources.get(i).getFile().map(ExcludedWordsFilter::normalise).equals(key)) {
+                futures.add(load(i));
+            }
         }
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+            .thenApply(v -> !futures.isEmpty());
     }
 
-    private Set<String> buildExclusionSet() {
-        Instant start = Instant.now();
-        Set<String> result = futures.stream()
-            .map(this::waitForResults)
-            .flatMap(Collection::stream)
-            .map(CoreTool::toLowerCase)
-            .collect(toSet());
-        Instant end = Instant.now();
-        Duration duration = Duration.between(start, end);
+    private static Path normalise(final Path file) {
+        return file.toAbsolutePath().normalize();
+    }
 
-        LOG.info("Foreground filter list completed in {}ms", duration.toMillis());
+    private CompletableFuture<Void> load(final int index) {
+        int generation = generations.incrementAndGet(index);
+        Supplier<Collection<String>> supplier = sources.get(index).getSupplier();
 
-        return result;
+        return CompletableFuture.supplyAsync(() -> dictionary(supplier), executor)
+            .thenAccept(d -> store(index, generation, d));
     }
 
-    private Collection<String> waitForResults(final CompletableFuture<Collection<String>> future) {
-        try {
-            return future.join();
-        } catch (final CompletionException e) {
-            Throwable cause = e.getCause();
+    private ExclusionDictionary dictionary(final Supplier<Collection<String>> supplier) {
+        Collection<String> words = supplier.get();
+        List<String> keys = new ArrayList<>(words.size());
 
-            if (cause instanceof RuntimeException) {
-                throw (RuntimeException) cause;
-            } else {
-                throw new VocabHunterException("Failed to load filter", e);
+        for (String word : words) {
+            keys.add(key(word));
+        }
+
+        return ExclusionDictionary.fromWords(keys);
+    }
+
+    private String key(final String word) {
+        String lowerCase = CoreTool.toLowerCase(word);
+
+        if (isMatchingStems) {
+            return EnglishStemmer.stem(lowerCase);
+        } else {
+            return lowerCase;
+        }
+    }
+
+    private void store(final int index, final int generation, final ExclusionDictionary dictionary) {
+        boolean isStored;
+
+        synchronized (dictionaries) {
+            isStored = generations.get(index) == generation;
+            if (isStored) {
+                dictionaries.set(index, dictionary);
+                revision.incrementAndGet();
             }
         }
+        if (isStored) {
+            loadListeners.forEach(Runnable::run);
+        }
+    }
+
+    private void logCompletion() {
+        Duration duration = Duration.between(start, Instant.now());
+
+        LOG.info("Filter list completed in {}ms", duration.toMillis());
     }
 }
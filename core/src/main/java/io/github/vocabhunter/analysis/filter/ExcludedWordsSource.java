@@ -0,0 +1,33 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.filter;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public final class ExcludedWordsSource {
+    private final Path file;
+
+    private final Supplier<Collection<String>> supplier;
+
+    public ExcludedWordsSource(final Supplier<Collection<String>> supplier) {
+        this(null, supplier);
+    }
+
+    public ExcludedWordsSource(final Path file, final Supplier<Collection<String>> supplier) {
+        this.file = file;
+        this.supplier = supplier;
+    }
+
+    public Optional<Path> getFile() {
+        return Optional.ofNullable(file);
+    }
+
+    public Supplier<Collection<String>> getSupplier() {
+        return supplier;
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * An immutable set of words held as sorted, front-coded UTF-8 blocks in a
+ * single byte array.  A Bloom filter in front of the blocks rejects most
+ * absent words without touching the dictionary itself.  Lookups encode the
+ * word into a buffer kept for each thread and compare it with the packed
+ * blocks in place, so they do not allocate.
+ */
+public final class ExclusionDictionary {
+    private static final int BLOCK_SIZE = 16;
+
+    private static final int BLOOM_BITS_PER_WORD = 10;
+
+    private static final int BLOOM_HASH_COUNT = 5;
+
+    private final long[] bloom;
+
+    private final int bloomMask;
+
+    private final byte[] data;
+
+    private final int[] blockOffsets;
+
+    private final int size;
+
+    private final ThreadLocal<byte[]> keyBuffers;
+
+    private ExclusionDictionary(final List<byte[]> sortedWords) {
+        int bloomBits = Math.max(Long.SIZE, Integer.highestOneBit(Math.max(1, sortedWords.size() * BLOOM_BITS_PER_WORD - 1)) << 1);
+
+        size = sortedWords.size();
+        bloom = new long[bloomBits / Long.SIZE];
+        bloomMask = bloomBits - 1;
+        blockOffsets = new int[(size + BLOCK_SIZE - 1) / BLOCK_SIZE];
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] previous = new byte[0];
+        int longest = 0;
+
+        for (int i = 0; i < size; i++) {
+            byte[] word = sortedWords.get(i);
+            int prefix = i % BLOCK_SIZE == 0 ? 0 : commonPrefix(previous, word);
+
+            if (i % BLOCK_SIZE == 0) {
+                blockOffsets[i / BLOCK_SIZE] = out.size();
+            }
+            writeVarInt(out, prefix);
+            writeVarInt(out, word.length - prefix);
+            out.write(word, prefix, word.length - prefix);
+            longest = Math.max(longest, word.length);
+            previous = word;
+        }
+        data = out.toByteArray();
+
+        int maxWordLength = longest;
+
+        keyBuffers = ThreadLocal.withInitial(() -> new byte[maxWordLength]);
+        for (byte[] word : sortedWords) {
+            addToBloom(new String(word, UTF_8));
+        }
+    }
+
+    public static ExclusionDictionary fromWords(final Collection<String> words) {
+        List<byte[]> sorted = words.stream()
+            .map(w -> w.getBytes(UTF_8))
+            .sorted(Arrays::compareUnsigned)
+            .collect(toList());
+        List<byte[]> unique = new ArrayList<>(sorted.size());
+
+        for (byte[] word : sorted) {
+            if (unique.isEmpty() || !Arrays.equals(unique.get(unique.size() - 1), word)) {
+                unique.add(word);
+            }
+        }
+
+        return new ExclusionDictionary(unique);
+    }
+
+    public boolean contains(final String word) {
+        if (size == 0 || !isInBloom(word)) {
+            return false;
+        }
+
+        byte[] key = keyBuffers.get();
+        int keyLength = Utf8Encoder.encode(word, key);
+
+        return keyLength >= 0 && isInBlocks(key, keyLength);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long byteSize() {
+        return (long) data.length + (long) blockOffsets.length * Integer.BYTES + (long) bloom.length * Long.BYTES;
+    }
+
+    private boolean isInBlocks(final byte[] key, final int keyLength) {
+        int low = 0;
+        int high = blockOffsets.length - 1;
+
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+
+            if (compareBlockHead(middle, key, keyLength) <= 0) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return isInBlock(low, key, keyLength);
+    }
+
+    private int compareBlockHead(final int block, final byte[] key, final int keyLength) {
+        int lengthPosition = skipVarInt(blockOffsets[block]);
+        int length = readVarInt(lengthPosition);
+        int position = skipVarInt(lengthPosition);
+
+        return Arrays.compareUnsigned(data, position, position + length, key, 0, keyLength);
+    }
+
+    /**
+     * Scans a block while tracking how many leading bytes the key shares with
+     * the previous word, so each word is compared only from its own suffix.
+     */
+    private boolean isInBlock(final int block, final byte[] key, final int keyLength) {
+        int end = block + 1 < blockOffsets.length ? blockOffsets[block + 1] : data.length;
+        int position = blockOffsets[block];
+        int matched = 0;
+
+        while (position < end) {
+            int prefix = readVarInt(position);
+
+            position = skipVarInt(position);
+
+            int suffix = readVarInt(position);
+
+            position = skipVarInt(position);
+            if (prefix < matched) {
+                return false;
+            } else if (prefix == matched) {
+                int mismatch = Arrays.mismatch(data, position, position + suffix, key, matched, keyLength);
+
+                if (mismatch < 0) {
+                    return true;
+                } else if (mismatch < suffix && isAfterKey(position + mismatch, key, matched + mismatch, keyLength)) {
+                    return false;
+                }
+                matched += mismatch;
+            }
+            position += suffix;
+        }
+
+        return false;
+    }
+
+    private boolean isAfterKey(final int position, final byte[] key, final int keyPosition, final int keyLength) {
+        return keyPosition == keyLength || Byte.toUnsignedInt(data[position]) > Byte.toUnsignedInt(key[keyPosition]);
+    }
+
+    private void addToBloom(final String word) {
+        int hash1 = mix(word.hashCode());
+        int hash2 = mix(hash1 ^ word.length()) | 1;
+
+        for (int i = 0; i < BLOOM_HASH_COUNT; i++) {
+            int bit = (hash1 + i * hash2) & bloomMask;
+
+            bloom[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    private boolean isInBloom(final String word) {
+        int hash1 = mix(word.hashCode());
+        int hash2 = mix(hash1 ^ word.length()) | 1;
+
+        for (int i = 0; i < BLOOM_HASH_COUNT; i++) {
+            int bit = (hash1 + i * hash2) & bloomMask;
+
+            if ((bloom[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int mix(final int value) {
+        int h = value * 0x9E3779B9;
+
+        return h ^ (h >>> 16);
+    }
+
+    private int readVarInt(final int position) {
+        int result = 0;
+        int shift = 0;
+        int i = position;
+
+        while (data[i] < 0) {
+            result |= (data[i] & 0x7f) << shift;
+            shift += 7;
+            i++;
+        }
+
+        return result | (data[i] << shift);
+    }
+
+    private int skipVarInt(final int position) {
+        int i = position;
+
+        while (data[i] < 0) {
+            i++;
+        }
+
+        return i + 1;
+    }
+
+    private static void writeVarInt(final ByteArrayOutputStream out, final int value) {
+        int remaining = value;
+
+        while ((remaining & ~0x7f) != 0) {
+            out.write((remaining & 0x7f) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write(remaining);
+    }
+
+    private static int commonPrefix(final byte[] b1, final byte[] b2) {
+        int limit = Math.min(b1.length, b2.length);
+        int i = 0;
+
+        while (i < limit && b1[i] == b2[i]) {
+            i++;
+        }
+
+        return i;
+    }
+}
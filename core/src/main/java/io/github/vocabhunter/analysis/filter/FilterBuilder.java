@@ -4,6 +4,7 @@
 
 package io.github.vocabhunter.analysis.filter;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -20,7 +21,11 @@ public class FilterBuilder {
 
     private WordFilter excludeInitialCapitalFilter;
 
-    private final List<Supplier<Collection<String>>> excludedWordsSuppliers = new ArrayList<>();
+    private WordFilter frequencyRankFilter;
+
+    private boolean isMatchingStems;
+
+    private final List<ExcludedWordsSource> excludedWordsSources = new ArrayList<>();
 
     public FilterBuilder executor(final Executor executor) {
         this.executor = executor;
@@ -46,12 +51,30 @@ public class FilterBuilder {
         return this;
     }
 
+    public FilterBuilder excludeMostFrequent(final FrequencyDictionary dictionary, final int count) {
+        frequencyRankFilter = new FrequencyRankFilter(dictionary, count);
+
+        return this;
+    }
+
+    public FilterBuilder matchExcludedWordStems() {
+        isMatchingStems = true;
+
+        return this;
+    }
+
     public FilterBuilder addExcludedWords(final Collection<String> words) {
         return addExcludedWordsSupplier(() -> words);
     }
 
     public FilterBuilder addExcludedWordsSupplier(final Supplier<Collection<String>> wordsSupplier) {
-        excludedWordsSuppliers.add(wordsSupplier);
+        excludedWordsSources.add(new ExcludedWordsSource(wordsSupplier));
+
+        return this;
+    }
+
+    public FilterBuilder addExcludedWordsFile(final Path file, final Supplier<Collection<String>> wordsSupplier) {
+        excludedWordsSources.add(new ExcludedWordsSource(file, wordsSupplier));
 
         return this;
     }
@@ -62,9 +85,10 @@ public class FilterBuilder {
         addIfUsed(filters, minimumLettersFilter);
         addIfUsed(filters, minimumOccurrencesFilter);
         addIfUsed(filters, excludeInitialCapitalFilter);
+        addIfUsed(filters, frequencyRankFilter);
 
-        if (!excludedWordsSuppliers.isEmpty()) {
-            filters.add(new ExcludedWordsFilter(getExecutor(), excludedWordsSuppliers));
+        if (!excludedWordsSources.isEmpty()) {
+            filters.add(new ExcludedWordsFilter(getExecutor(), excludedWordsSources, isMatchingStems));
         }
 
         return new AggregateFilter(filters);
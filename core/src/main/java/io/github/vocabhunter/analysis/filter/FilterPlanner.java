@@ -0,0 +1,196 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.filter;
+
+import io.github.vocabhunter.analysis.model.AnalysisWord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Chooses the order in which the filters of an {@link AggregateFilter} are
+ * applied.  Cost and rejection rate are recorded for every batch and for a
+ * random sample of single words, and the filters are periodically re-ordered
+ * so that cheap filters that reject many words go first.  As the filters are
+ * combined with AND, the order never changes the result.
+ */
+final class FilterPlanner {
+    private static final Logger LOG = LoggerFactory.getLogger(FilterPlanner.class);
+
+    private static final int SAMPLE_MASK = 63;
+
+    private static final int REPLAN_SAMPLES = 64;
+
+    private static final double MINIMUM_REJECTION_RATE = 1e-6;
+
+    private final List<WordFilter> filters;
+
+    private final List<FilterCounters> counters;
+
+    private final AtomicLong samples = new AtomicLong();
+
+    private final AtomicBoolean isReplanning = new AtomicBoolean();
+
+    private volatile int[] order;
+
+    FilterPlanner(final List<WordFilter> filters) {
+        this.filters = List.copyOf(filters);
+        counters = new ArrayList<>(filters.size());
+        filters.forEach(f -> counters.add(new FilterCounters()));
+        order = IntStream.range(0, filters.size()).toArray();
+    }
+
+    boolean isShown(final AnalysisWord word) {
+        if ((ThreadLocalRandom.current().nextInt() & SAMPLE_MASK) == 0) {
+            return isShownSampled(word);
+        } else {
+            for (int index : order) {
+                if (!filters.get(index).isShown(word)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    void hide(final WordFeatures features, final BitSet shown) {
+        hide(shown, filter -> filter.hide(features, shown));
+    }
+
+    void hide(final ShownWordsCache cache, final BitSet shown) {
+        hide(shown, filter -> filter.hide(cache, shown));
+    }
+
+    private void hide(final BitSet shown, final Consumer<WordFilter> hider) {
+        for (int index : order) {
+            int before = shown.cardinality();
+            long start = System.nanoTime();
+
+            hider.accept(filters.get(index));
+
+            long elapsed = System.nanoTime() - start;
+
+            counters.get(index).record(before, before - shown.cardinality(), before, elapsed);
+        }
+        replan();
+    }
+
+    List<FilterStatistics> plan() {
+        List<FilterStatistics> result = new ArrayList<>();
+
+        for (int index : order) {
+            result.add(counters.get(index).statistics(filters.get(index)));
+        }
+
+        return result;
+    }
+
+    private boolean isShownSampled(final AnalysisWord word) {
+        boolean isShown = true;
+
+        for (int index : order) {
+            long start = System.nanoTime();
+
+            isShown = filters.get(index).isShown(word);
+            counters.get(index).record(1, isShown ? 0 : 1, 1, System.nanoTime() - start);
+            if (!isShown) {
+                break;
+            }
+        }
+        if (samples.incrementAndGet() % REPLAN_SAMPLES == 0) {
+            replan();
+        }
+
+        return isShown;
+    }
+
+    private void replan() {
+        if (isReplanning.compareAndSet(false, true)) {
+            try {
+                reorder();
+            } finally {
+                isReplanning.set(false);
+            }
+        }
+    }
+
+    private void reorder() {
+        double[] ranks = new double[filters.size()];
+
+        for (int i = 0; i < ranks.length; i++) {
+            ranks[i] = counters.get(i).rank();
+        }
+
+        int[] newOrder = IntStream.range(0, filters.size())
+            .boxed()
+            .sorted(Comparator.comparingDouble(i -> ranks[i]))
+            .mapToInt(i -> i)
+            .toArray();
+
+        boolean isChanged = !Arrays.equals(order, newOrder);
+
+        order = newOrder;
+        if (isChanged) {
+            LOG.debug("Filter plan changed to {}", plan());
+        }
+    }
+
+    private static final class FilterCounters {
+        private final LongAdder evaluations = new LongAdder();
+
+        private final LongAdder rejections = new LongAdder();
+
+        private final LongAdder timedWords = new LongAdder();
+
+        private final LongAdder nanos = new LongAdder();
+
+        void record(final long words, final long rejected, final long timed, final long elapsed) {
+            evaluations.add(words);
+            rejections.add(rejected);
+            if (timed > 0) {
+                timedWords.add(timed);
+                nanos.add(elapsed);
+            }
+        }
+
+        double averageNanos() {
+            long timed = timedWords.sum();
+
+            if (timed == 0) {
+                return 0;
+            } else {
+                return (double) nanos.sum() / timed;
+            }
+        }
+
+        double rank() {
+            long evaluated = evaluations.sum();
+
+            if (evaluated == 0) {
+                return 0;
+            } else {
+                double rejectionRate = Math.max(MINIMUM_REJECTION_RATE, (double) rejections.sum() / evaluated);
+
+                return Math.max(1, averageNanos()) / rejectionRate;
+            }
+        }
+
+        FilterStatistics statistics(final WordFilter filter) {
+            return new FilterStatistics(filter.getClass().getSimpleName(), evaluations.sum(), rejections.sum(), averageNanos());
+        }
+    }
+}
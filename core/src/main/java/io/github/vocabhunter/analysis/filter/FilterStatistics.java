@@ -0,0 +1,63 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.filter;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * What has been observed of one filter within an {@link AggregateFilter}:
+ * how many of the sampled words it has been asked about, how many of those
+ * it rejected and its average cost per word.
+ */
+public final class FilterStatistics {
+    private final String name;
+
+    private final long evaluations;
+
+    private final long rejections;
+
+    private final double averageNanos;
+
+    public FilterStatistics(final String name, final long evaluations, final long rejections, final double averageNanos) {
+        this.name = name;
+        this.evaluations = evaluations;
+        this.rejections = rejections;
+        this.averageNanos = averageNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    public long getRejections() {
+        return rejections;
+    }
+
+    public double getAverageNanos() {
+        return averageNanos;
+    }
+
+    public double getRejectionRate() {
+        if (evaluations == 0) {
+            return 0;
+        } else {
+            return (double) rejections / evaluations;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .append("name", name)
+            .append("evaluations", evaluations)
+            .append("rejections", rejections)
+            .append("averageNanos", averageNanos)
+            .toString();
+    }
+}
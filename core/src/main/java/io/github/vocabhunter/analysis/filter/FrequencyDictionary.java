@@ -0,0 +1,202 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.filter;
+
+import io.github.vocabhunter.analysis.core.CoreTool;
+import io.github.vocabhunter.analysis.core.VocabHunterException;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The general frequency rank of each word, read from a memory-mapped file of
+ * words sorted by their UTF-8 bytes.  Opening a dictionary only maps the
+ * file, and each lookup is a binary search over the mapped bytes, so the
+ * words themselves are never loaded onto the heap.  The word looked up is
+ * encoded into a buffer kept for each thread, so lookups do not allocate.
+ */
+public final class FrequencyDictionary {
+    public static final int NOT_FOUND = -1;
+
+    private static final int MAGIC = 0x56484652;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 3 * Integer.BYTES;
+
+    private static final int INITIAL_KEY_BYTES = 64;
+
+    private static final int MAX_BYTES_PER_CHAR = 3;
+
+    private final ByteBuffer buffer;
+
+    private final int size;
+
+    private final int offsetsStart;
+
+    private final int ranksStart;
+
+    private final int wordsStart;
+
+    private final ThreadLocal<byte[]> keyBuffers = ThreadLocal.withInitial(() -> new byte[INITIAL_KEY_BYTES]);
+
+    private FrequencyDictionary(final Path file, final ByteBuffer buffer) {
+        if (!isValidHeader(buffer)) {
+            throw new VocabHunterException(String.format("File '%s' is not a frequency dictionary", file));
+        }
+        this.buffer = buffer;
+        size = buffer.getInt(2 * Integer.BYTES);
+        offsetsStart = HEADER_BYTES;
+        ranksStart = offsetsStart + (size + 1) * Integer.BYTES;
+        wordsStart = ranksStart + size * Integer.BYTES;
+    }
+
+    /**
+     * Checks the magic number and version, and that the word count agrees
+     * with the length of the file, so that no lookup reads past its end.
+     */
+    private static boolean isValidHeader(final ByteBuffer buffer) {
+        int capacity = buffer.capacity();
+
+        if (capacity < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+            return false;
+        }
+
+        int size = buffer.getInt(2 * Integer.BYTES);
+        long wordsStart = HEADER_BYTES + (2L * size + 1) * Integer.BYTES;
+
+        return size >= 0 && wordsStart <= capacity
+            && wordsStart + buffer.getInt(HEADER_BYTES + size * Integer.BYTES) == capacity;
+    }
+
+    public static FrequencyDictionary read(final Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new FrequencyDictionary(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (final IOException e) {
+            throw new VocabHunterException(String.format("Unable to read frequency dictionary '%s'", file), e);
+        }
+    }
+
+    /**
+     * Writes a dictionary of the given words, which must be in order of
+     * frequency, most common first.  Words are stored in lower case, and a
+     * repeated word keeps the rank of its first appearance.
+     */
+    public static void write(final Path file, final List<String> wordsByFrequency) {
+        List<byte[]> words = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+
+        for (String word : wordsByFrequency) {
+            String key = CoreTool.toLowerCase(word);
+
+            if (seen.add(key)) {
+                words.add(key.getBytes(UTF_8));
+            }
+        }
+
+        List<Integer> order = IntStream.range(0, words.size())
+            .boxed()
+            .sorted((i1, i2) -> Arrays.compareUnsigned(words.get(i1), words.get(i2)))
+            .collect(toList());
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            writeDictionary(out, words, order);
+        } catch (final IOException e) {
+            throw new VocabHunterException(String.format("Unable to write frequency dictionary '%s'", file), e);
+        }
+    }
+
+    private static void writeDictionary(final DataOutputStream out, final List<byte[]> words, final List<Integer> order) throws IOException {
+        int offset = 0;
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(order.size());
+        for (int index : order) {
+            out.writeInt(offset);
+            offset += words.get(index).length;
+        }
+        out.writeInt(offset);
+        for (int index : order) {
+            out.writeInt(index + 1);
+        }
+        for (int index : order) {
+            out.write(words.get(index));
+        }
+    }
+
+    /**
+     * The rank of the lower case word, starting from 1 for the most common
+     * word, or {@link #NOT_FOUND}.
+     */
+    public int rank(final String word) {
+        byte[] key = keyBuffers.get();
+        int keyLength = Utf8Encoder.encode(word, key);
+
+        if (keyLength < 0) {
+            key = new byte[word.length() * MAX_BYTES_PER_CHAR];
+            keyBuffers.set(key);
+            keyLength = Utf8Encoder.encode(word, key);
+        }
+
+        return rank(key, keyLength);
+    }
+
+    private int rank(final byte[] key, final int keyLength) {
+        int low = 0;
+        int high = size - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compare(middle, key, keyLength);
+
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return buffer.getInt(ranksStart + middle * Integer.BYTES);
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int compare(final int index, final byte[] key, final int keyLength) {
+        int start = wordsStart + buffer.getInt(offsetsStart + index * Integer.BYTES);
+        int end = wordsStart + buffer.getInt(offsetsStart + (index + 1) * Integer.BYTES);
+        int length = end - start;
+        int limit = Math.min(length, keyLength);
+
+        for (int i = 0; i < limit; i++) {
+            int difference = Byte.toUnsignedInt(buffer.get(start + i)) - Byte.toUnsignedInt(key[i]);
+
+            if (difference != 0) {
+                return difference;
+            }
+        }
+
+        return length - keyLength;
+    }
+}
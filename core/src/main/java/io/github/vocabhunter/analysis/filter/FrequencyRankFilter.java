@@ -0,0 +1,83 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.filter;
+
+import io.github.vocabhunter.analysis.core.CoreTool;
+import io.github.vocabhunter.analysis.model.AnalysisWord;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Hides the words that a {@link FrequencyDictionary} ranks among the most
+ * common, so that only words ranked below the threshold, or not in the
+ * dictionary at all, are shown.
+ */
+public final class FrequencyRankFilter implements WordFilter {
+    private final FrequencyDictionary dictionary;
+
+    private final int maximumRank;
+
+    public FrequencyRankFilter(final FrequencyDictionary dictionary, final int maximumRank) {
+        this.dictionary = dictionary;
+        this.maximumRank = maximumRank;
+    }
+
+    @Override
+    public boolean isShown(final AnalysisWord word) {
+        return !isCommon(CoreTool.toLowerCase(word.getWordIdentifier()));
+    }
+
+    @Override
+    public void hide(final WordFeatures features, final BitSet shown) {
+        List<String> keys = features.keys();
+        BitSet commonKeys = new BitSet(keys.size());
+
+        for (int i = 0; i < keys.size(); i++) {
+            if (isCommon(keys.get(i))) {
+                commonKeys.set(i);
+            }
+        }
+        for (int i = 0; i < features.size(); i++) {
+            if (commonKeys.get(features.keyId(i))) {
+                shown.clear(i);
+            }
+        }
+    }
+
+    private boolean isCommon(final String key) {
+        int rank = dictionary.rank(key);
+
+        return rank != FrequencyDictionary.NOT_FOUND && rank <= maximumRank;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        FrequencyRankFilter that = (FrequencyRankFilter) o;
+
+        return new EqualsBuilder()
+            .append(dictionary, that.dictionary)
+            .append(maximumRank, that.maximumRank)
+            .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+            .append(dictionary)
+            .append(maximumRank)
+            .toHashCode();
+    }
+}
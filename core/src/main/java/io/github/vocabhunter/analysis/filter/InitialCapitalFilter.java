@@ -6,6 +6,8 @@ package io.github.vocabhunter.analysis.filter;
 
 import io.github.vocabhunter.analysis.model.AnalysisWord;
 
+import java.util.BitSet;
+
 public final class InitialCapitalFilter implements WordFilter {
     @Override
     public boolean isShown(final AnalysisWord word) {
@@ -13,4 +15,19 @@ public final class InitialCapitalFilter implements WordFilter {
 
         return identifier.isEmpty() || Character.isLowerCase(identifier.charAt(0));
     }
+
+    @Override
+    public void hide(final WordFeatures features, final BitSet shown) {
+        features.clearInitialCapitals(shown);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return this == o || o != null && getClass() == o.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
 }
@@ -5,6 +5,10 @@
 package io.github.vocabhunter.analysis.filter;
 
 import io.github.vocabhunter.analysis.model.AnalysisWord;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+import java.util.BitSet;
 
 public final class MinimumOccurrencesFilter implements WordFilter {
     private final int minimum;
@@ -17,4 +21,37 @@ public final class MinimumOccurrencesFilter implements WordFilter {
     public boolean isShown(final AnalysisWord word) {
         return word.getUseCount() >= minimum;
     }
+
+    @Override
+    public void hide(final WordFeatures features, final BitSet shown) {
+        for (int i = 0; i < features.size(); i++) {
+            if (features.useCount(i) < minimum) {
+                shown.clear(i);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        MinimumOccurrencesFilter that = (MinimumOccurrencesFilter) o;
+
+        return new EqualsBuilder()
+            .append(minimum, that.minimum)
+            .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+            .append(minimum)
+            .toHashCode();
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.filter;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds the shown-word bitmap of each component of the current filter for one
+ * list of words.  The filter applies its components in the order it plans,
+ * each to just the words the earlier ones left, and a component's bitmap is
+ * reused while its revision is unchanged and it covers every word still
+ * shown.  Only the components that differ, or whose revision has moved on,
+ * are evaluated again.
+ */
+public final class ShownWordsCache {
+    private final WordFeatures features;
+
+    private Map<WordFilter, CachedBitmap> bitmaps = new HashMap<>();
+
+    private Map<WordFilter, CachedBitmap> retained = new HashMap<>();
+
+    public ShownWordsCache(final WordFeatures features) {
+        this.features = features;
+    }
+
+    public WordFeatures getFeatures() {
+        return features;
+    }
+
+    public BitSet shownWords(final WordFilter filter) {
+        BitSet shown = new BitSet(features.size());
+
+        shown.set(0, features.size());
+        retained = new HashMap<>();
+        filter.hide(this, shown);
+        bitmaps = retained;
+
+        return shown;
+    }
+
+    void hide(final WordFilter component, final BitSet shown) {
+        int revision = component.revision();
+        CachedBitmap cached = bitmaps.get(component);
+
+        if (cached == null || !cached.isValid(revision, shown)) {
+            BitSet candidates = (BitSet) shown.clone();
+
+            component.hide(features, shown);
+            cached = new CachedBitmap(revision, candidates, (BitSet) shown.clone());
+        } else {
+            shown.and(cached.shown);
+        }
+        retained.put(component, cached);
+    }
+
+    private static final class CachedBitmap {
+        private final int revision;
+
+        private final BitSet candidates;
+
+        private final BitSet shown;
+
+        private CachedBitmap(final int revision, final BitSet candidates, final BitSet shown) {
+            this.revision = revision;
+            this.candidates = candidates;
+            this.shown = shown;
+        }
+
+        private boolean isValid(final int currentRevision, final BitSet words) {
+            BitSet uncovered = (BitSet) words.clone();
+
+            uncovered.andNot(candidates);
+
+            return revision == currentRevision && uncovered.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.filter;
+
+final class Utf8Encoder {
+    private Utf8Encoder() {
+        // Prevent instantiation - all methods are static
+    }
+
+    /**
+     * Writes the word to the buffer as UTF-8, returning the number of bytes
+     * written or -1 if it does not fit.
+     */
+    static int encode(final String word, final byte[] buffer) {
+        int length = 0;
+        int i = 0;
+
+        while (i < word.length()) {
+            int codePoint = word.codePointAt(i);
+            int byteCount = utf8Length(codePoint);
+
+            if (length + byteCount > buffer.length) {
+                return -1;
+            }
+            writeCodePoint(buffer, length, codePoint, byteCount);
+            length += byteCount;
+            i += Character.charCount(codePoint);
+        }
+
+        return length;
+    }
+
+    private static int utf8Length(final int codePoint) {
+        if (codePoint < 0x80 || isSurrogate(codePoint)) {
+            return 1;
+        } else if (codePoint < 0x800) {
+            return 2;
+        } else if (codePoint < 0x10000) {
+            return 3;
+        } else {
+            return 4;
+        }
+    }
+
+    // Unpaired surrogates become '?', as they do in String.getBytes
+    private static void writeCodePoint(final byte[] buffer, final int position, final int codePoint, final int byteCount) {
+        if (isSurrogate(codePoint)) {
+            buffer[position] = '?';
+        } else if (byteCount == 1) {
+            buffer[position] = (byte) codePoint;
+        } else {
+            int remaining = codePoint;
+
+            for (int i = byteCount - 1; i > 0; i--) {
+                buffer[position + i] = (byte) (0x80 | (remaining & 0x3f));
+                remaining >>>= 6;
+            }
+            buffer[position] = (byte) ((0xff00 >>> byteCount) | remaining);
+        }
+    }
+
+    private static boolean isSurrogate(final int codePoint) {
+        return codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.filter;
+
+import io.github.vocabhunter.analysis.core.CoreTool;
+import io.github.vocabhunter.analysis.model.AnalysisWord;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-word values used by the filters, computed once for a fixed list of
+ * words and held in primitive columns so that each filter can be evaluated
+ * as a tight loop producing a {@link BitSet} of the words shown.  Each
+ * distinct lower case key is also stemmed once here, so that matching on
+ * stems needs no string work when a filter is evaluated.
+ */
+public final class WordFeatures {
+    private final List<? extends AnalysisWord> words;
+
+    private final int[] letterCounts;
+
+    private final int[] useCounts;
+
+    private final BitSet initialCapitals;
+
+    private final int[] keyIds;
+
+    private final List<String> keys;
+
+    private final int[] keyStemIds;
+
+    private final List<String> stems;
+
+    private WordFeatures(final List<? extends AnalysisWord> words) {
+        int size = words.size();
+        Map<String, Integer> keyIdMap = new HashMap<>();
+
+        this.words = words;
+        letterCounts = new int[size];
+        useCounts = new int[size];
+        initialCapitals = new BitSet(size);
+        keyIds = new int[size];
+        keys = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            AnalysisWord word = words.get(i);
+            String identifier = word.getWordIdentifier();
+
+            letterCounts[i] = countLetters(identifier);
+            useCounts[i] = word.getUseCount();
+            if (!identifier.isEmpty() && !Character.isLowerCase(identifier.charAt(0))) {
+                initialCapitals.set(i);
+            }
+            keyIds[i] = keyIdMap.computeIfAbsent(CoreTool.toLowerCase(identifier), this::addKey);
+        }
+
+        Map<String, Integer> stemIdMap = new HashMap<>();
+
+        keyStemIds = new int[keys.size()];
+        stems = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            keyStemIds[i] = stemIdMap.computeIfAbsent(EnglishStemmer.stem(keys.get(i)), this::addStem);
+        }
+    }
+
+    public static WordFeatures fromWords(final List<? extends AnalysisWord> words) {
+        return new WordFeatures(words);
+    }
+
+    public int size() {
+        return letterCounts.length;
+    }
+
+    public BitSet shownWords(final WordFilter filter) {
+        BitSet shown = new BitSet(size());
+
+        shown.set(0, size());
+        filter.hide(this, shown);
+
+        return shown;
+    }
+
+    AnalysisWord word(final int index) {
+        return words.get(index);
+    }
+
+    int letterCount(final int index) {
+        return letterCounts[index];
+    }
+
+    int useCount(final int index) {
+        return useCounts[index];
+    }
+
+    void clearInitialCapitals(final BitSet shown) {
+        shown.andNot(initialCapitals);
+    }
+
+    int keyId(final int index) {
+        return keyIds[index];
+    }
+
+    List<String> keys() {
+        return keys;
+    }
+
+    int stemId(final int index) {
+        return keyStemIds[keyIds[index]];
+    }
+
+    List<String> stems() {
+        return stems;
+    }
+
+    private Integer addStem(final String stem) {
+        stems.add(stem);
+
+        return stems.size() - 1;
+    }
+
+    private Integer addKey(final String key) {
+        keys.add(key);
+
+        return keys.size() - 1;
+    }
+
+    private static int countLetters(final String identifier) {
+        int count = 0;
+
+        for (int i = 0; i < identifier.length(); i++) {
+            if (Character.isLetter(identifier.charAt(i))) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+}
@@ -6,7 +6,64 @@ package io.github.vocabhunter.analysis.filter;
 
 import io.github.vocabhunter.analysis.model.AnalysisWord;
 
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.concurrent.CompletableFuture;
+
 @FunctionalInterface
 public interface WordFilter {
     boolean isShown(AnalysisWord word);
+
+    /**
+     * Clears the bit of each word in {@code shown} that this filter hides.
+     * Filters override this to work directly on the feature columns.
+     */
+    default void hide(final WordFeatures features, final BitSet shown) {
+        for (int i = shown.nextSetBit(0); i >= 0; i = shown.nextSetBit(i + 1)) {
+            if (!isShown(features.word(i))) {
+                shown.clear(i);
+            }
+        }
+    }
+
+    /**
+     * Clears the bit of each word in {@code shown} that this filter hides,
+     * reusing the bitmaps that the cache holds for its components.
+     */
+    default void hide(final ShownWordsCache cache, final BitSet shown) {
+        cache.hide(this, shown);
+    }
+
+    /**
+     * Changes whenever the words this filter shows may have changed without
+     * the filter itself being replaced, such as when its data loads.
+     */
+    default int revision() {
+        return 0;
+    }
+
+    /**
+     * Adds a listener called each time part of this filter's data loads, on
+     * the thread that loaded it, so that the words shown can be updated
+     * before the rest has loaded.
+     */
+    default void addLoadListener(final Runnable listener) {
+        // There is no data to load by default
+    }
+
+    /**
+     * Completes once the filter has all of its data.  Until then
+     * {@link #isShown} answers using whatever has loaded so far.
+     */
+    default CompletableFuture<Void> readiness() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Reloads any data read from the given file.  Completes with true if the
+     * filter uses the file.
+     */
+    default CompletableFuture<Boolean> refresh(final Path file) {
+        return CompletableFuture.completedFuture(false);
+    }
 }
@@ -0,0 +1,191 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.grid;
+
+import io.github.vocabhunter.analysis.settings.BaseListedFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import static io.github.vocabhunter.analysis.session.FileNameTool.filename;
+
+/**
+ * Keeps the words read from each filter file, so rebuilding the filters only
+ * re-reads files that are new or whose size or modification time has changed.
+ * Least recently used entries are evicted once the estimated size of the
+ * cached words exceeds the limit.  Each lookup is logged at debug level, and
+ * the hit rate is logged once for each rebuild.
+ */
+@Singleton
+public class CachingFilterFileWordsExtractor implements FilterFileWordsExtractor {
+    private static final Logger LOG = LoggerFactory.getLogger(CachingFilterFileWordsExtractor.class);
+
+    private static final long DEFAULT_MAXIMUM_BYTES = 64L * 1024 * 1024;
+
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private static final int WORD_OVERHEAD_BYTES = 48;
+
+    private final FilterFileWordsExtractor delegate;
+
+    private final long maximumBytes;
+
+    private final Map<BaseListedFile, CacheEntry> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long cachedBytes;
+
+    private long hits;
+
+    private long requests;
+
+    @Inject
+    public CachingFilterFileWordsExtractor(final FilterFileWordsExtractorImpl delegate) {
+        this(delegate, DEFAULT_MAXIMUM_BYTES);
+    }
+
+    CachingFilterFileWordsExtractor(final FilterFileWordsExtractor delegate, final long maximumBytes) {
+        this.delegate = delegate;
+        this.maximumBytes = maximumBytes;
+    }
+
+    @Override
+    public List<String> extract(final BaseListedFile file) {
+        Optional<FileStamp> stamp = FileStamp.read(file.getFile());
+        List<String> cached = stamp.map(s -> lookup(file, s)).orElse(null);
+
+        if (cached == null) {
+            List<String> words = delegate.extract(file);
+
+            stamp.ifPresent(s -> store(file, s, words));
+
+            return words;
+        } else {
+            return cached;
+        }
+    }
+
+    private List<String> lookup(final BaseListedFile file, final FileStamp stamp) {
+        synchronized (cache) {
+            CacheEntry entry = cache.get(file);
+            boolean isHit = entry != null && entry.stamp.equals(stamp);
+
+            requests++;
+            if (isHit) {
+                hits++;
+            }
+            LOG.debug("Filter file cache {} for {}", isHit ? "hit" : "miss", filename(file.getFile()));
+
+            if (isHit) {
+                return entry.words;
+            } else {
+                return null;
+            }
+        }
+    }
+
+    @Override
+    public void logRebuildStatistics() {
+        synchronized (cache) {
+            if (requests > 0) {
+                LOG.info("Rebuilt filters with {}/{} filter file cache hits ({}KB cached)", hits, requests, cachedBytes / 1024);
+            }
+            hits = 0;
+            requests = 0;
+        }
+    }
+
+    private void store(final BaseListedFile file, final FileStamp stamp, final List<String> words) {
+        CacheEntry entry = new CacheEntry(stamp, List.copyOf(words));
+
+        synchronized (cache) {
+            CacheEntry previous = cache.put(file, entry);
+
+            if (previous != null) {
+                cachedBytes -= previous.bytes;
+            }
+            cachedBytes += entry.bytes;
+            evict();
+        }
+    }
+
+    private void evict() {
+        Iterator<CacheEntry> iterator = cache.values().iterator();
+
+        while (cachedBytes > maximumBytes && iterator.hasNext()) {
+            CacheEntry entry = iterator.next();
+
+            iterator.remove();
+            cachedBytes -= entry.bytes;
+        }
+    }
+
+    private static final class FileStamp {
+        private final long size;
+
+        private final long modified;
+
+        private FileStamp(final long size, final long modified) {
+            this.size = size;
+            this.modified = modified;
+        }
+
+        static Optional<FileStamp> read(final Path file) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+
+                return Optional.of(new FileStamp(attributes.size(), attributes.lastModifiedTime().toMillis()));
+            } catch (final IOException e) {
+                return Optional.empty();
+            }
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            FileStamp that = (FileStamp) o;
+
+            return size == that.size && modified == that.modified;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(size) * 31 + Long.hashCode(modified);
+        }
+    }
+
+    private static final class CacheEntry {
+        private final FileStamp stamp;
+
+        private final List<String> words;
+
+        private final long bytes;
+
+        private CacheEntry(final FileStamp stamp, final List<String> words) {
+            this.stamp = stamp;
+            this.words = words;
+            this.bytes = ENTRY_OVERHEAD_BYTES + words.stream()
+                .mapToLong(w -> WORD_OVERHEAD_BYTES + w.length())
+                .sum();
+        }
+    }
+}
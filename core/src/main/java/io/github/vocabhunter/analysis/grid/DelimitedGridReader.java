@@ -0,0 +1,9 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.grid;
+
+public interface DelimitedGridReader extends GridReader {
+    // Marker interface - no methods defined
+}
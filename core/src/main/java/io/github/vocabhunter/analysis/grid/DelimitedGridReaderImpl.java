@@ -0,0 +1,121 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.grid;
+
+import io.github.vocabhunter.analysis.core.CoreTool;
+import io.github.vocabhunter.analysis.core.VocabHunterException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import javax.inject.Singleton;
+
+import static io.github.vocabhunter.analysis.session.FileNameTool.filename;
+
+/**
+ * Reads UTF-8 comma or tab separated word lists as a stream of lines.  The
+ * delimiter is whichever of tab, semicolon or comma appears most often in the
+ * first line, falling back on the file extension.
+ */
+@Singleton
+public class DelimitedGridReaderImpl implements DelimitedGridReader {
+    private static final int SAMPLE_LENGTH = 65_536;
+
+    private static final char[] DELIMITERS = {'\t', ';', ','};
+
+    @Override
+    public List<GridLine> readGrid(final Path file, final Predicate<String> filter) {
+        return readGrid(file, filter, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<GridLine> readGrid(final Path file, final Predicate<String> filter, final int lineLimit) {
+        List<GridLine> lines = new ArrayList<>();
+
+        readLines(file, filter, lines::add, lineLimit);
+
+        return lines;
+    }
+
+    @Override
+    public void readLines(final Path file, final Predicate<String> filter, final Consumer<GridLine> consumer) {
+        readLines(file, filter, consumer, Integer.MAX_VALUE);
+    }
+
+    private void readLines(final Path file, final Predicate<String> filter, final Consumer<GridLine> consumer, final int lineLimit) {
+        GridLineAssembler assembler = new GridLineAssembler(filter, consumer);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8))) {
+            DelimitedTextParser parser = new DelimitedTextParser(reader, delimiter(file, reader));
+            int count = 0;
+
+            while (count < lineLimit && parser.readLine(assembler)) {
+                count++;
+            }
+        } catch (final IOException e) {
+            throw new VocabHunterException(String.format("Unable to read file '%s'", filename(file)), e);
+        }
+    }
+
+    private static char delimiter(final Path file, final BufferedReader reader) throws IOException {
+        int[] counts = new int[DELIMITERS.length];
+        boolean isQuoted = false;
+
+        reader.mark(SAMPLE_LENGTH);
+        for (int i = 0; i < SAMPLE_LENGTH; i++) {
+            int c = reader.read();
+
+            if (c == -1 || !isQuoted && (c == '\n' || c == '\r')) {
+                break;
+            } else if (c == '"') {
+                isQuoted = !isQuoted;
+            } else if (!isQuoted) {
+                countDelimiter(counts, (char) c);
+            }
+        }
+        reader.reset();
+
+        return mostFrequent(counts, defaultDelimiter(file));
+    }
+
+    private static void countDelimiter(final int[] counts, final char c) {
+        for (int i = 0; i < DELIMITERS.length; i++) {
+            if (DELIMITERS[i] == c) {
+                counts[i]++;
+            }
+        }
+    }
+
+    private static char mostFrequent(final int[] counts, final char fallback) {
+        char result = fallback;
+        int best = 0;
+
+        for (int i = 0; i < DELIMITERS.length; i++) {
+            if (counts[i] > best) {
+                result = DELIMITERS[i];
+                best = counts[i];
+            }
+        }
+
+        return result;
+    }
+
+    private static char defaultDelimiter(final Path file) {
+        String name = CoreTool.toLowerCase(filename(file));
+
+        if (name.endsWith(".tsv") || name.endsWith(".tab")) {
+            return '\t';
+        } else {
+            return ',';
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.grid;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Splits comma or tab separated text into cells one line at a time, so only
+ * the current cell is held in memory.  Quoted cells may hold the delimiter,
+ * line breaks and doubled quotes, and empty cells are skipped as they are in
+ * a spreadsheet.
+ */
+final class DelimitedTextParser {
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int END_OF_FILE = -1;
+
+    private static final char QUOTE = '"';
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+
+    private final char delimiter;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    private int position;
+
+    private int limit;
+
+    private boolean isStarted;
+
+    DelimitedTextParser(final Reader reader, final char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Passes the cells of the next line to the assembler, returning false
+     * once the end of the text has been reached.
+     */
+    boolean readLine(final GridLineAssembler assembler) throws IOException {
+        skipByteOrderMark();
+        if (peek() == END_OF_FILE) {
+            return false;
+        }
+
+        StringBuilder cell = new StringBuilder();
+        int column = 0;
+        boolean isLineEnd = false;
+
+        while (!isLineEnd) {
+            isLineEnd = readCell(cell);
+            if (cell.length() > 0) {
+                assembler.addCell(column, cell.toString());
+            }
+            column++;
+        }
+        assembler.endLine();
+
+        return true;
+    }
+
+    // Returns true when the cell ends the line
+    private boolean readCell(final StringBuilder cell) throws IOException {
+        cell.setLength(0);
+        if (peek() == QUOTE) {
+            position++;
+            readQuoted(cell);
+        }
+
+        while (true) {
+            int c = next();
+
+            if (c == delimiter) {
+                return false;
+            } else if (c == END_OF_FILE || c == '\n') {
+                return true;
+            } else if (c == '\r') {
+                if (peek() == '\n') {
+                    position++;
+                }
+                return true;
+            } else {
+                cell.append((char) c);
+            }
+        }
+    }
+
+    private void readQuoted(final StringBuilder cell) throws IOException {
+        while (true) {
+            int c = next();
+
+            if (c == END_OF_FILE) {
+                return;
+            } else if (c == QUOTE) {
+                if (peek() == QUOTE) {
+                    position++;
+                    cell.append(QUOTE);
+                } else {
+                    return;
+                }
+            } else {
+                cell.append((char) c);
+            }
+        }
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        if (!isStarted) {
+            isStarted = true;
+            if (peek() == BYTE_ORDER_MARK) {
+                position++;
+            }
+        }
+    }
+
+    private int next() throws IOException {
+        int c = peek();
+
+        if (c != END_OF_FILE) {
+            position++;
+        }
+
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+
+                return END_OF_FILE;
+            }
+        }
+
+        return buffer[position];
+    }
+}
@@ -4,21 +4,27 @@
 
 package io.github.vocabhunter.analysis.grid;
 
+import io.github.vocabhunter.analysis.core.VocabHunterException;
 import io.github.vocabhunter.analysis.file.TextReader;
 
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import static java.util.stream.Collectors.toList;
+import static io.github.vocabhunter.analysis.session.FileNameTool.filename;
 
+/**
+ * Reads a document one line at a time as its text is extracted.  Empty lines
+ * at the end of the text are dropped, as splitting the full text would do.
+ */
 @Singleton
 public class DocumentGridReaderImpl implements DocumentGridReader {
-    private static final Pattern SPLITTER = Pattern.compile("\\r?\\n");
-
     private final TextReader textReader;
 
     @Inject
@@ -28,16 +34,55 @@ public class DocumentGridReaderImpl implements DocumentGridReader {
 
     @Override
     public List<GridLine> readGrid(final Path file, final Predicate<String> filter) {
-        String fullText = textReader.read(file);
-
-        if ("".equals(fullText)) {
-            return List.of();
-        } else {
-            return SPLITTER.splitAsStream(fullText)
-                .map(String::trim)
-                .map(s -> new GridCell(s, filter.test(s)))
-                .map(GridLine::new)
-                .collect(toList());
+        return readGrid(file, filter, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<GridLine> readGrid(final Path file, final Predicate<String> filter, final int lineLimit) {
+        List<GridLine> lines = new ArrayList<>();
+
+        readLines(file, filter, lines::add, lineLimit);
+
+        return lines;
+    }
+
+    @Override
+    public void readLines(final Path file, final Predicate<String> filter, final Consumer<GridLine> consumer) {
+        readLines(file, filter, consumer, Integer.MAX_VALUE);
+    }
+
+    private void readLines(final Path file, final Predicate<String> filter, final Consumer<GridLine> consumer, final int lineLimit) {
+        GridLine emptyLine = new GridLine(new GridCell("", filter.test("")));
+        int count = 0;
+        int pendingEmptyLines = 0;
+
+        try (BufferedReader reader = new BufferedReader(textReader.openReader(file))) {
+            String text = reader.readLine();
+
+            while (text != null && count < lineLimit) {
+                if (text.isEmpty()) {
+                    pendingEmptyLines++;
+                } else {
+                    int emptyLines = Math.min(pendingEmptyLines, lineLimit - count);
+
+                    for (int i = 0; i < emptyLines; i++) {
+                        consumer.accept(emptyLine);
+                    }
+                    count += emptyLines;
+                    pendingEmptyLines = 0;
+                    if (count < lineLimit) {
+                        consumer.accept(line(text.trim(), filter));
+                        count++;
+                    }
+                }
+                text = reader.readLine();
+            }
+        } catch (final IOException e) {
+            throw new VocabHunterException(String.format("Unable to read file '%s'", filename(file)), e);
         }
     }
+
+    private GridLine line(final String text, final Predicate<String> filter) {
+        return new GridLine(new GridCell(text, filter.test(text)));
+    }
 }
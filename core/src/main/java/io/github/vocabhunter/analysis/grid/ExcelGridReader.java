@@ -4,6 +4,19 @@
 
 package io.github.vocabhunter.analysis.grid;
 
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Reads spreadsheets.  The methods inherited from {@link GridReader} read the
+ * first sheet, and the others read the sheet with the given index.
+ */
 public interface ExcelGridReader extends GridReader {
-    // Marker interface - no methods defined
+    List<String> readSheetNames(Path file);
+
+    List<GridLine> readGrid(Path file, int sheet, Predicate<String> filter, int lineLimit);
+
+    void readLines(Path file, int sheet, Predicate<String> filter, Consumer<GridLine> consumer);
 }
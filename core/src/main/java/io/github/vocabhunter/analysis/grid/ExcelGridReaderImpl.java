@@ -4,55 +4,108 @@
 
 package io.github.vocabhunter.analysis.grid;
 
-import io.github.vocabhunter.analysis.core.CoreConstants;
 import io.github.vocabhunter.analysis.core.VocabHunterException;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.ss.usermodel.Row.MissingCellPolicy;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.stream.IntStream;
-import java.util.stream.StreamSupport;
 import javax.inject.Singleton;
 
-import static java.util.stream.Collectors.toList;
-
 @Singleton
 public class ExcelGridReaderImpl implements ExcelGridReader {
+    private static final Logger LOG = LoggerFactory.getLogger(ExcelGridReaderImpl.class);
+
+    private static final int FIRST_SHEET = 0;
+
     @Override
     public List<GridLine> readGrid(final Path file, final Predicate<String> filter) {
-        try (Workbook workbook = WorkbookFactory.create(file.toFile())) {
-            Sheet sheet = workbook.getSheetAt(0);
-            DataFormatter dataFormatter = new DataFormatter(CoreConstants.LOCALE);
+        List<GridLine> lines = new ArrayList<>();
 
-            return StreamSupport.stream(sheet.spliterator(), false)
-                .map(r -> row(r, filter, dataFormatter))
-                .collect(toList());
-        } catch (final IOException e) {
-            throw new VocabHunterException("Unable to read spreadsheet " + file, e);
+        readLines(file, filter, lines::add);
+
+        return lines;
+    }
+
+    @Override
+    public List<GridLine> readGrid(final Path file, final Predicate<String> filter, final int lineLimit) {
+        return readGrid(file, FIRST_SHEET, filter, lineLimit);
+    }
+
+    @Override
+    public List<GridLine> readGrid(final Path file, final int sheet, final Predicate<String> filter, final int lineLimit) {
+        List<GridLine> lines = new ArrayList<>();
+
+        try {
+            readLines(file, sheet, filter, l -> {
+                if (lines.size() == lineLimit) {
+                    throw new LineLimitReachedException();
+                }
+                lines.add(l);
+            });
+        } catch (final LineLimitReachedException e) {
+            LOG.debug("Stopped reading {} after {} lines", file, lineLimit);
         }
+
+        return lines;
     }
 
-    private GridLine row(final Row row, final Predicate<String> filter, final DataFormatter dataFormatter) {
-        List<GridCell> cells = IntStream.range(0, row.getLastCellNum())
-            .mapToObj(i -> row.getCell(i, MissingCellPolicy.RETURN_BLANK_AS_NULL))
-            .map(c -> cell(c, filter, dataFormatter))
-            .collect(toList());
+    @Override
+    public void readLines(final Path file, final Predicate<String> filter, final Consumer<GridLine> consumer) {
+        readLines(file, FIRST_SHEET, filter, consumer);
+    }
 
-        return new GridLine(cells);
+    @Override
+    public void readLines(final Path file, final int sheet, final Predicate<String> filter, final Consumer<GridLine> consumer) {
+        GridLineAssembler assembler = new GridLineAssembler(filter, consumer);
+
+        if (isXlsx(file)) {
+            XlsxSheetReader.read(file, sheet, assembler);
+        } else {
+            XlsSheetReader.read(file, sheet, assembler);
+        }
+    }
+
+    @Override
+    public List<String> readSheetNames(final Path file) {
+        if (isXlsx(file)) {
+            return XlsxSheetReader.sheetNames(file);
+        } else {
+            return XlsSheetReader.sheetNames(file);
+        }
     }
 
-    private GridCell cell(final Cell original, final Predicate<String> filter, final DataFormatter dataFormatter) {
-        String text;
+    private boolean isXlsx(final Path file) {
+        FileMagic magic = fileMagic(file);
 
-        if (original == null) {
-            text = "";
+        if (magic == FileMagic.OOXML) {
+            return true;
+        } else if (magic == FileMagic.OLE2) {
+            return false;
         } else {
-            text = dataFormatter.formatCellValue(original).trim();
+            throw new VocabHunterException("Unsupported spreadsheet format " + file);
         }
+    }
+
+    private FileMagic fileMagic(final Path file) {
+        try {
+            return FileMagic.valueOf(file.toFile());
+        } catch (final IOException e) {
+            throw new VocabHunterException("Unable to read spreadsheet " + file, e);
+        }
+    }
 
-        return new GridCell(text, filter.test(text));
+    // Unwinds the event readers once a preview has all the lines it needs
+    private static final class LineLimitReachedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private LineLimitReachedException() {
+            super(null, null, false, false);
+        }
     }
 }
@@ -10,4 +10,12 @@ import java.util.List;
 
 public interface FilterFileWordsExtractor {
     List<String> extract(BaseListedFile file);
+
+    /**
+     * Called once all the files of a filter rebuild have been extracted, to
+     * log anything gathered over the rebuild as a whole.
+     */
+    default void logRebuildStatistics() {
+        // There is nothing to log by default
+    }
 }
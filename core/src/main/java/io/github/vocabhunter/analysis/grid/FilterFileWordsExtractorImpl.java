@@ -4,27 +4,35 @@
 
 package io.github.vocabhunter.analysis.grid;
 
+import io.github.vocabhunter.analysis.core.ThreadPoolTool;
 import io.github.vocabhunter.analysis.core.VocabHunterException;
 import io.github.vocabhunter.analysis.session.SessionWordsTool;
 import io.github.vocabhunter.analysis.settings.BaseListedFile;
+import io.github.vocabhunter.analysis.settings.DelimitedListedFile;
 import io.github.vocabhunter.analysis.settings.DocumentListedFile;
 import io.github.vocabhunter.analysis.settings.ExcelListedFile;
 import io.github.vocabhunter.analysis.settings.SessionListedFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 import java.util.function.Function;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import static io.github.vocabhunter.analysis.session.FileNameTool.filename;
 import static java.util.Collections.unmodifiableMap;
+import static java.util.stream.Collectors.toList;
 
 @Singleton
 public class FilterFileWordsExtractorImpl implements FilterFileWordsExtractor {
@@ -36,15 +44,15 @@ public class FilterFileWordsExtractorImpl implements FilterFileWordsExtractor {
 
     private final SessionWordsTool sessionWordsTool;
 
-    private final GridWordsExtractor gridWordsExtractor;
-
     private final TextGridManager textGridManager;
 
+    private final ThreadPoolTool threadPoolTool;
+
     @Inject
-    public FilterFileWordsExtractorImpl(final SessionWordsTool sessionWordsTool, final GridWordsExtractor gridWordsExtractor, final TextGridManager textGridManager) {
+    public FilterFileWordsExtractorImpl(final SessionWordsTool sessionWordsTool, final TextGridManager textGridManager, final ThreadPoolTool threadPoolTool) {
         this.sessionWordsTool = sessionWordsTool;
-        this.gridWordsExtractor = gridWordsExtractor;
         this.textGridManager = textGridManager;
+        this.threadPoolTool = threadPoolTool;
     }
 
     @Override
@@ -75,18 +83,70 @@ public class FilterFileWordsExtractorImpl implements FilterFileWordsExtractor {
         }
     }
 
+    /**
+     * Reads the chosen sheets side by side on the filter thread pool.  This
+     * thread also runs any sheet that no pool thread has started, so the pool
+     * is never left waiting on itself.
+     */
     private List<String> extractExcelListedFile(final BaseListedFile baseListedFile) {
         ExcelListedFile file = (ExcelListedFile) baseListedFile;
-        TextGrid grid = textGridManager.readExcel(file.getFile());
+        List<FutureTask<List<String>>> tasks = file.getSheets().entrySet().stream()
+            .map(e -> new FutureTask<>(() -> extractSheet(file.getFile(), e.getKey(), e.getValue())))
+            .collect(toList());
+        Executor executor = threadPoolTool.filterThreadPool();
+        List<String> words = new ArrayList<>();
+
+        tasks.stream()
+            .skip(1)
+            .forEach(executor::execute);
+        for (FutureTask<List<String>> task : tasks) {
+            task.run();
+            words.addAll(sheetWords(task));
+        }
+
+        return words;
+    }
+
+    private List<String> extractSheet(final Path file, final int sheet, final Set<Integer> columns) {
+        GridColumnWords words = new GridColumnWords(columns);
+
+        textGridManager.readExcelSheetLines(file, sheet, words);
+
+        List<String> result = words.getWords();
+        int sheetNo = sheet + 1;
+
+        LOG.info("Read sheet {} and found {} words ({})", sheetNo, result.size(), filename(file));
 
-        return gridWordsExtractor.words(grid.getLines(), file.getColumns());
+        return result;
+    }
+
+    private List<String> sheetWords(final FutureTask<List<String>> task) {
+        try {
+            return task.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VocabHunterException("Interrupted while reading spreadsheet", e);
+        } catch (final ExecutionException e) {
+            throw new VocabHunterException("Unable to read spreadsheet", e);
+        }
+    }
+
+    private List<String> extractDelimitedListedFile(final BaseListedFile baseListedFile) {
+        DelimitedListedFile file = (DelimitedListedFile) baseListedFile;
+        GridColumnWords words = new GridColumnWords(file.getColumns());
+
+        textGridManager.readDelimitedLines(file.getFile(), words);
+
+        return words.getWords();
     }
 
     private List<String> extractDocumentListedFile(final BaseListedFile baseListedFile) {
         DocumentListedFile file = (DocumentListedFile) baseListedFile;
-        TextGrid grid = textGridManager.readDocument(file.getFile());
+        GridColumnWords words = new GridColumnWords(FIRST_COLUMN);
+
+        textGridManager.readDocumentLines(file.getFile(), words);
 
-        return gridWordsExtractor.words(grid.getLines(), FIRST_COLUMN);
+        return words.getWords();
     }
 
     private Map<Class<?>, Function<BaseListedFile, List<String>>> buildExtractorMap() {
@@ -95,6 +155,7 @@ public class FilterFileWordsExtractorImpl implements FilterFileWordsExtractor {
         map.put(SessionListedFile.class, this::extractSessionListedFile);
         map.put(ExcelListedFile.class, this::extractExcelListedFile);
         map.put(DocumentListedFile.class, this::extractDocumentListedFile);
+        map.put(DelimitedListedFile.class, this::extractDelimitedListedFile);
 
         return unmodifiableMap(map);
     }
@@ -27,6 +27,10 @@ public final class GridCell {
         return content.isEmpty();
     }
 
+    public boolean isRejected() {
+        return isRejected;
+    }
+
     public boolean isIncluded() {
         return !(isRejected || isEmpty());
     }
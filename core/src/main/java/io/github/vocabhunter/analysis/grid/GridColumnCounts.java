@@ -0,0 +1,48 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.grid;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Counts the included cells of each column as lines stream past, giving the
+ * same columns and counts as the {@link TextGrid} of the whole file without
+ * holding any of its text.
+ */
+public final class GridColumnCounts implements Consumer<GridLine> {
+    private int[] counts = new int[0];
+
+    private int columnCount;
+
+    @Override
+    public void accept(final GridLine line) {
+        int width = normalisedWidth(line);
+
+        if (width > counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(width, counts.length * 2));
+        }
+        columnCount = Math.max(columnCount, width);
+        for (int column = 0; column < width; column++) {
+            if (line.getCell(column).isIncluded()) {
+                counts[column]++;
+            }
+        }
+    }
+
+    private static int normalisedWidth(final GridLine line) {
+        int width = line.getCells().size();
+
+        while (width > 0 && line.getCell(width - 1).isEmpty()) {
+            width--;
+        }
+
+        return width;
+    }
+
+    public int[] getAcceptedCounts() {
+        return Arrays.copyOf(counts, columnCount);
+    }
+}
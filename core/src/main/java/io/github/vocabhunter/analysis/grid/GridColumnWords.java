@@ -0,0 +1,45 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.grid;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Collects the included words of the chosen columns as lines stream past,
+ * giving the same words in the same order as {@link GridWordsExtractor}.
+ */
+public final class GridColumnWords implements Consumer<GridLine> {
+    private final Map<Integer, List<String>> columnWords = new LinkedHashMap<>();
+
+    public GridColumnWords(final Set<Integer> columns) {
+        for (Integer column : columns) {
+            columnWords.put(column, new ArrayList<>());
+        }
+    }
+
+    @Override
+    public void accept(final GridLine line) {
+        columnWords.forEach((column, words) -> {
+            GridCell cell = line.getCell(column);
+
+            if (cell.isIncluded()) {
+                words.add(cell.getContent());
+            }
+        });
+    }
+
+    public List<String> getWords() {
+        List<String> words = new ArrayList<>();
+
+        columnWords.values().forEach(words::addAll);
+
+        return words;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.grid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Builds grid lines from cells reported one at a time by the streaming readers,
+ * padding any gaps between columns with empty cells.
+ */
+final class GridLineAssembler {
+    private final Predicate<String> filter;
+
+    private final Consumer<GridLine> consumer;
+
+    private final GridCell emptyCell;
+
+    private final List<GridCell> cells = new ArrayList<>();
+
+    GridLineAssembler(final Predicate<String> filter, final Consumer<GridLine> consumer) {
+        this.filter = filter;
+        this.consumer = consumer;
+        this.emptyCell = new GridCell("", filter.test(""));
+    }
+
+    void addCell(final int column, final String value) {
+        String text = value.trim();
+        GridCell cell = new GridCell(text, filter.test(text));
+
+        while (cells.size() < column) {
+            cells.add(emptyCell);
+        }
+        if (column < cells.size()) {
+            cells.set(column, cell);
+        } else {
+            cells.add(cell);
+        }
+    }
+
+    void endLine() {
+        consumer.accept(new GridLine(cells));
+        cells.clear();
+    }
+}
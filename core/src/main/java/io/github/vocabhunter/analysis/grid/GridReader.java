@@ -6,8 +6,26 @@ package io.github.vocabhunter.analysis.grid;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 public interface GridReader {
     List<GridLine> readGrid(Path file, Predicate<String> filter);
+
+    /**
+     * Reads no more than the given number of lines, for a quick preview.
+     */
+    default List<GridLine> readGrid(final Path file, final Predicate<String> filter, final int lineLimit) {
+        List<GridLine> lines = readGrid(file, filter);
+
+        return lines.subList(0, Math.min(lineLimit, lines.size()));
+    }
+
+    /**
+     * Passes each line to the consumer in order.  Readers that can stream
+     * the file override this so that the whole grid is never held at once.
+     */
+    default void readLines(final Path file, final Predicate<String> filter, final Consumer<GridLine> consumer) {
+        readGrid(file, filter).forEach(consumer);
+    }
 }
@@ -9,4 +9,6 @@ import java.util.Set;
 
 public interface GridWordsExtractor {
     List<String> words(List<GridLine> lines, Set<Integer> columns);
+
+    List<String> words(TextGrid grid, Set<Integer> columns);
 }
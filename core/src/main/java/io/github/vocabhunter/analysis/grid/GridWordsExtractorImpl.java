@@ -4,6 +4,8 @@
 
 package io.github.vocabhunter.analysis.grid;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -17,6 +19,21 @@ public class GridWordsExtractorImpl implements GridWordsExtractor {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public List<String> words(final TextGrid grid, final Set<Integer> columns) {
+        List<String> words = new ArrayList<>();
+
+        for (int column : columns) {
+            BitSet lines = grid.includedLines(column);
+
+            for (int line = lines.nextSetBit(0); line >= 0; line = lines.nextSetBit(line + 1)) {
+                words.add(grid.getContent(line, column));
+            }
+        }
+
+        return words;
+    }
+
     private Stream<String> wordStream(final List<GridLine> lines, final int index) {
         return lines.stream()
             .map(l -> l.getCell(index))
@@ -0,0 +1,192 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.grid;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Builds grids of at least {@link #PARALLEL_THRESHOLD} lines in chunks of
+ * lines that each keep their own bits and counts for the columns they reach.
+ * The chunks are built on the common pool before each column's bits are
+ * merged in line order.  Smaller grids are left to {@link TextGridBuilderImpl}.
+ */
+public class ParallelTextGridBuilderImpl implements TextGridBuilder {
+    public static final int PARALLEL_THRESHOLD = 50_000;
+
+    private static final int CHUNK_SIZE = 64 * 256;
+
+    private final TextGridBuilder sequentialBuilder = new TextGridBuilderImpl();
+
+    @Override
+    public TextGrid build(final List<GridLine> lines) {
+        if (lines.size() < PARALLEL_THRESHOLD) {
+            return sequentialBuilder.build(lines);
+        } else {
+            return buildInParallel(lines);
+        }
+    }
+
+    private static TextGrid buildInParallel(final List<GridLine> lines) {
+        int[] lineWidths = normalisedWidths(lines);
+        int lineCount = lineWidths.length;
+        String[][] contents = TextGrid.columnTables(lineWidths, 0);
+        List<GridChunk> chunks = chunkIndices(lineCount)
+            .mapToObj(c -> new GridChunk(lines, lineWidths, contents, c * CHUNK_SIZE, Math.min(lineCount, (c + 1) * CHUNK_SIZE)))
+            .collect(toList());
+        List<BitSet> rejected = mergeBits(chunks, contents, c -> c.rejectedBits);
+        List<BitSet> included = mergeBits(chunks, contents, c -> c.includedBits);
+
+        return new TextGrid(lineWidths, contents, mergeCounts(chunks, contents.length), rejected, included);
+    }
+
+    private static int[] normalisedWidths(final List<GridLine> lines) {
+        int size = lines.size();
+        int[] widths = new int[size];
+
+        chunkIndices(size)
+            .forEach(c -> {
+                for (int line = c * CHUNK_SIZE; line < Math.min(size, (c + 1) * CHUNK_SIZE); line++) {
+                    widths[line] = normalisedWidth(lines.get(line).getCells());
+                }
+            });
+
+        int lineCount = size;
+
+        while (lineCount > 0 && widths[lineCount - 1] == 0) {
+            lineCount--;
+        }
+
+        return Arrays.copyOf(widths, lineCount);
+    }
+
+    private static int normalisedWidth(final List<GridCell> cells) {
+        int width = cells.size();
+
+        while (width > 0 && cells.get(width - 1).isEmpty()) {
+            width--;
+        }
+
+        return width;
+    }
+
+    private static IntStream chunkIndices(final int size) {
+        int chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+        return IntStream.range(0, chunkCount).parallel();
+    }
+
+    private static List<BitSet> mergeBits(final List<GridChunk> chunks, final String[][] contents, final Function<GridChunk, long[][]> bitsGetter) {
+        return IntStream.range(0, contents.length)
+            .parallel()
+            .mapToObj(column -> mergeColumnBits(chunks, column, contents[column].length, bitsGetter))
+            .collect(toList());
+    }
+
+    private static BitSet mergeColumnBits(final List<GridChunk> chunks, final int column, final int lineCount, final Function<GridChunk, long[][]> bitsGetter) {
+        long[] bits = new long[(lineCount + Long.SIZE - 1) / Long.SIZE];
+
+        for (GridChunk chunk : chunks) {
+            long[][] chunkBits = bitsGetter.apply(chunk);
+
+            if (column < chunkBits.length && chunkBits[column] != null) {
+                orBits(bits, chunkBits[column], chunk.from);
+            }
+        }
+
+        return BitSet.valueOf(bits);
+    }
+
+    /**
+     * Sets the source bits in the target, starting from the given bit, which
+     * need not fall on a word boundary.
+     */
+    private static void orBits(final long[] target, final long[] source, final int offset) {
+        int firstWord = offset / Long.SIZE;
+        int shift = offset % Long.SIZE;
+
+        for (int i = 0; i < source.length; i++) {
+            long word = source[i];
+
+            if (word != 0) {
+                target[firstWord + i] |= word << shift;
+                if (shift != 0 && firstWord + i + 1 < target.length) {
+                    target[firstWord + i + 1] |= word >>> (Long.SIZE - shift);
+                }
+            }
+        }
+    }
+
+    private static int[] mergeCounts(final List<GridChunk> chunks, final int width) {
+        int[] counts = new int[width];
+
+        for (GridChunk chunk : chunks) {
+            for (int column = 0; column < chunk.acceptedCounts.length; column++) {
+                counts[column] += chunk.acceptedCounts[column];
+            }
+        }
+
+        return counts;
+    }
+
+    /**
+     * The bits and counts of a run of lines.  A column's bits are allocated
+     * only once a cell in the run is found for it.
+     */
+    private static final class GridChunk {
+        private final int from;
+
+        private final int wordCount;
+
+        private final long[][] rejectedBits;
+
+        private final long[][] includedBits;
+
+        private final int[] acceptedCounts;
+
+        private GridChunk(final List<GridLine> lines, final int[] lineWidths, final String[][] contents, final int from, final int to) {
+            int width = 0;
+
+            for (int line = from; line < to; line++) {
+                width = Math.max(width, lineWidths[line]);
+            }
+            this.from = from;
+            wordCount = (to - from + Long.SIZE - 1) / Long.SIZE;
+            rejectedBits = new long[width][];
+            includedBits = new long[width][];
+            acceptedCounts = new int[width];
+            for (int line = from; line < to; line++) {
+                List<GridCell> cells = lines.get(line).getCells();
+                int word = (line - from) / Long.SIZE;
+                long mask = 1L << (line - from);
+
+                for (int column = 0; column < lineWidths[line]; column++) {
+                    GridCell cell = cells.get(column);
+
+                    contents[column][line] = cell.getContent();
+                    if (cell.isRejected()) {
+                        columnBits(rejectedBits, column)[word] |= mask;
+                    } else if (!cell.isEmpty()) {
+                        columnBits(includedBits, column)[word] |= mask;
+                        acceptedCounts[column]++;
+                    }
+                }
+            }
+        }
+
+        private long[] columnBits(final long[][] bits, final int column) {
+            if (bits[column] == null) {
+                bits[column] = new long[wordCount];
+            }
+
+            return bits[column];
+        }
+    }
+}
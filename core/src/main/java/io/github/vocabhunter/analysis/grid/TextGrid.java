@@ -7,28 +7,204 @@ package io.github.vocabhunter.analysis.grid;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A grid of text held by column: one string table per column and bits for
+ * the rejected and included cells of each column, indexed by line.  Each
+ * column holds only as many lines as reach it, so a few wide lines do not
+ * widen the rest.  {@link #getLines()} rebuilds lines only on demand.  A
+ * grid read with a line limit that stopped before the end of the file is
+ * marked as truncated.
+ */
 public final class TextGrid {
-    private final List<GridLine> lines;
+    private final int[] lineWidths;
+
+    private final String[][] contents;
+
+    private final List<BitSet> rejected;
 
-    private final List<GridColumn> columns;
+    private final List<BitSet> included;
+
+    private final int[] acceptedCounts;
+
+    private final boolean isTruncated;
+
+    private final List<GridLine> lines = new LineView();
 
     public TextGrid(final List<GridLine> lines, final List<GridColumn> columns) {
-        this.lines = List.copyOf(lines);
-        this.columns = List.copyOf(columns);
+        int lineCount = lines.size();
+
+        lineWidths = new int[lineCount];
+        for (int line = 0; line < lineCount; line++) {
+            lineWidths[line] = lines.get(line).getCells().size();
+        }
+        contents = columnTables(lineWidths, columns.size());
+        rejected = columnBits(contents.length);
+        for (int line = 0; line < lineCount; line++) {
+            List<GridCell> cells = lines.get(line).getCells();
+
+            for (int column = 0; column < cells.size(); column++) {
+                GridCell cell = cells.get(column);
+
+                contents[column][line] = cell.getContent();
+                rejected.get(column).set(line, cell.isRejected());
+            }
+        }
+        included = included(contents, rejected);
+        acceptedCounts = columns.stream()
+            .mapToInt(GridColumn::getAcceptedCount)
+            .toArray();
+        isTruncated = false;
+    }
+
+    TextGrid(final int[] lineWidths, final String[][] contents, final List<BitSet> rejected) {
+        this.lineWidths = lineWidths.clone();
+        this.contents = contents.clone();
+        this.rejected = List.copyOf(rejected);
+        this.included = included(contents, rejected);
+        this.acceptedCounts = included.stream()
+            .mapToInt(BitSet::cardinality)
+            .toArray();
+        this.isTruncated = false;
+    }
+
+    TextGrid(final int[] lineWidths, final String[][] contents, final int[] acceptedCounts, final List<BitSet> rejected, final List<BitSet> included) {
+        this.lineWidths = lineWidths.clone();
+        this.contents = contents.clone();
+        this.rejected = List.copyOf(rejected);
+        this.included = List.copyOf(included);
+        this.acceptedCounts = acceptedCounts.clone();
+        this.isTruncated = false;
+    }
+
+    private TextGrid(final TextGrid grid, final boolean isTruncated) {
+        this.lineWidths = grid.lineWidths;
+        this.contents = grid.contents;
+        this.rejected = grid.rejected;
+        this.included = grid.included;
+        this.acceptedCounts = grid.acceptedCounts;
+        this.isTruncated = isTruncated;
+    }
+
+    TextGrid truncated() {
+        return new TextGrid(this, true);
+    }
+
+    /**
+     * Allocates a table for each column, at least the given number of
+     * columns, holding the lines up to the last one that reaches it.
+     */
+    static String[][] columnTables(final int[] lineWidths, final int minimumWidth) {
+        int width = minimumWidth;
+
+        for (int lineWidth : lineWidths) {
+            width = Math.max(width, lineWidth);
+        }
+
+        int[] lengths = new int[width];
+
+        for (int line = 0; line < lineWidths.length; line++) {
+            for (int column = 0; column < lineWidths[line]; column++) {
+                lengths[column] = line + 1;
+            }
+        }
+
+        String[][] result = new String[width][];
+
+        for (int column = 0; column < width; column++) {
+            result[column] = new String[lengths[column]];
+        }
+
+        return result;
+    }
+
+    static List<BitSet> columnBits(final int width) {
+        List<BitSet> result = new ArrayList<>(width);
+
+        for (int column = 0; column < width; column++) {
+            result.add(new BitSet());
+        }
+
+        return result;
+    }
+
+    private static List<BitSet> included(final String[][] contents, final List<BitSet> rejected) {
+        List<BitSet> result = columnBits(contents.length);
+
+        for (int column = 0; column < contents.length; column++) {
+            String[] table = contents[column];
+
+            for (int line = 0; line < table.length; line++) {
+                if (table[line] != null && !table[line].isEmpty() && !rejected.get(column).get(line)) {
+                    result.get(column).set(line);
+                }
+            }
+        }
+
+        return result;
     }
 
     public List<GridColumn> getColumns() {
-        return columns;
+        return Arrays.stream(acceptedCounts)
+            .mapToObj(GridColumn::new)
+            .collect(toList());
     }
 
     public List<GridLine> getLines() {
         return lines;
     }
 
+    public boolean isTruncated() {
+        return isTruncated;
+    }
+
+    public int getLineCount() {
+        return lineWidths.length;
+    }
+
+    public int getAcceptedCount(final int column) {
+        return acceptedCounts[column];
+    }
+
+    public String getContent(final int line, final int column) {
+        if (column < lineWidths[line]) {
+            return contents[column][line];
+        } else {
+            return "";
+        }
+    }
+
+    /**
+     * Returns the lines whose cell in the given column is included.
+     */
+    public BitSet includedLines(final int column) {
+        if (column < contents.length) {
+            return (BitSet) included.get(column).clone();
+        } else {
+            return new BitSet();
+        }
+    }
+
+    private GridLine buildLine(final int line) {
+        List<GridCell> cells = new ArrayList<>(lineWidths[line]);
+
+        for (int column = 0; column < lineWidths[line]; column++) {
+            cells.add(new GridCell(contents[column][line], rejected.get(column).get(line)));
+        }
+
+        return new GridLine(cells);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -42,23 +218,29 @@ public final class TextGrid {
         TextGrid textGrid = (TextGrid) o;
 
         return new EqualsBuilder()
-            .append(lines, textGrid.lines)
-            .append(columns, textGrid.columns)
+            .append(lineWidths, textGrid.lineWidths)
+            .append(contents, textGrid.contents)
+            .append(rejected, textGrid.rejected)
+            .append(acceptedCounts, textGrid.acceptedCounts)
+            .append(isTruncated, textGrid.isTruncated)
             .isEquals();
     }
 
     @Override
     public int hashCode() {
         return new HashCodeBuilder()
-            .append(lines)
-            .append(columns)
+            .append(lineWidths)
+            .append(contents)
+            .append(rejected)
+            .append(acceptedCounts)
+            .append(isTruncated)
             .toHashCode();
     }
 
     @Override
     public String toString() {
-        String header = IntStream.range(0, columns.size())
-            .mapToObj(i -> toString(i, columns.get(i)))
+        String header = IntStream.range(0, acceptedCounts.length)
+            .mapToObj(i -> String.format("Column %s (%s accepted)", i + 1, acceptedCounts[i]))
             .collect(Collectors.joining(","));
         String textBody = lines.stream()
             .map(GridLine::toString)
@@ -67,7 +249,15 @@ public final class TextGrid {
         return header + ":\n" + textBody;
     }
 
-    private String toString(final int index, final GridColumn column) {
-        return String.format("Column %s (%s accepted)", index + 1, column.getAcceptedCount());
+    private final class LineView extends AbstractList<GridLine> implements RandomAccess {
+        @Override
+        public GridLine get(final int index) {
+            return buildLine(index);
+        }
+
+        @Override
+        public int size() {
+            return lineWidths.length;
+        }
     }
 }
@@ -4,71 +4,52 @@
 
 package io.github.vocabhunter.analysis.grid;
 
-import io.github.vocabhunter.analysis.core.CoreTool;
-
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
-import java.util.stream.IntStream;
-
-import static java.util.stream.Collectors.toList;
 
 public class TextGridBuilderImpl implements TextGridBuilder {
     @Override
     public TextGrid build(final List<GridLine> lines) {
-        List<GridLine> normalised = normalise(lines);
-        Map<Integer, Integer> counts = countMap(normalised);
-        List<GridColumn> columns = counts.values().stream()
-            .map(GridColumn::new)
-            .collect(toList());
-
-        return new TextGrid(normalised, columns);
-    }
+        int[] lineWidths = normalisedWidths(lines);
+        String[][] contents = TextGrid.columnTables(lineWidths, 0);
+        List<BitSet> rejected = TextGrid.columnBits(contents.length);
 
-    private List<GridLine> normalise(final List<GridLine> lines) {
-        List<GridLine> normalised = lines.stream()
-            .map(this::normalise)
-            .collect(toList());
-        int last = CoreTool.findLast(normalised, l -> !l.getCells().isEmpty())
-            .orElse(-1) + 1;
+        for (int line = 0; line < lineWidths.length; line++) {
+            List<GridCell> cells = lines.get(line).getCells();
 
-        return normalised.subList(0, last);
-    }
-
-    private GridLine normalise(final GridLine input) {
-        List<GridCell> cells = input.getCells();
-        int fullCount = cells.size();
-        int newCount = CoreTool.findLast(cells, c -> !c.isEmpty())
-            .orElse(-1) + 1;
+            for (int column = 0; column < lineWidths[line]; column++) {
+                GridCell cell = cells.get(column);
 
-        if (fullCount == newCount) {
-            return input;
-        } else {
-            return new GridLine(cells.subList(0, newCount));
+                contents[column][line] = cell.getContent();
+                rejected.get(column).set(line, cell.isRejected());
+            }
         }
-    }
 
-    private Map<Integer, Integer> countMap(final List<GridLine> lines) {
-        Map<Integer, Integer> counts = new TreeMap<>();
+        return new TextGrid(lineWidths, contents, rejected);
+    }
 
-        for (GridLine line : lines) {
-            List<GridCell> cells = line.getCells();
+    private int[] normalisedWidths(final List<GridLine> lines) {
+        int[] widths = new int[lines.size()];
+        int lineCount = 0;
 
-            IntStream.range(0, cells.size()).forEach(i -> addToCounts(counts, i, cells.get(i)));
+        for (int line = 0; line < widths.length; line++) {
+            widths[line] = normalisedWidth(lines.get(line).getCells());
+            if (widths[line] > 0) {
+                lineCount = line + 1;
+            }
         }
 
-        return counts;
+        return Arrays.copyOf(widths, lineCount);
     }
 
-    private void addToCounts(final Map<Integer, Integer> counts, final int index, final GridCell cell) {
-        int inc;
+    private int normalisedWidth(final List<GridCell> cells) {
+        int width = cells.size();
 
-        if (cell.isIncluded()) {
-            inc = 1;
-        } else {
-            inc = 0;
+        while (width > 0 && cells.get(width - 1).isEmpty()) {
+            width--;
         }
 
-        counts.merge(index, inc, Integer::sum);
+        return width;
     }
 }
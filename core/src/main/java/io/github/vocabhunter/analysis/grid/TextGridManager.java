@@ -5,9 +5,33 @@
 package io.github.vocabhunter.analysis.grid;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface TextGridManager {
     TextGrid readDocument(Path file);
 
+    TextGrid readDocument(Path file, int lineLimit);
+
+    void readDocumentLines(Path file, Consumer<GridLine> consumer);
+
     TextGrid readExcel(Path file);
+
+    TextGrid readExcel(Path file, int lineLimit);
+
+    void readExcelLines(Path file, Consumer<GridLine> consumer);
+
+    List<String> readExcelSheetNames(Path file);
+
+    TextGrid readExcelSheet(Path file, int sheet);
+
+    TextGrid readExcelSheet(Path file, int sheet, int lineLimit);
+
+    void readExcelSheetLines(Path file, int sheet, Consumer<GridLine> consumer);
+
+    TextGrid readDelimited(Path file);
+
+    TextGrid readDelimited(Path file, int lineLimit);
+
+    void readDelimitedLines(Path file, Consumer<GridLine> consumer);
 }
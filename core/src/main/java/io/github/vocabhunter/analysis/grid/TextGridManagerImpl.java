@@ -5,29 +5,57 @@
 package io.github.vocabhunter.analysis.grid;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 import javax.inject.Inject;
 
 public class TextGridManagerImpl implements TextGridManager {
-    private static final Pattern FILTER_PATTERN = Pattern.compile("[^\\s]+\\s+[^\\s]+");
-
-    public static final Predicate<String> FILTER = FILTER_PATTERN.asPredicate();
+    public static final Predicate<String> FILTER = TextGridManagerImpl::isSeveralWords;
 
     private final DocumentGridReader documentGridReader;
 
     private final ExcelGridReader excelGridReader;
 
+    private final DelimitedGridReader delimitedGridReader;
+
     private final TextGridBuilder textGridBuilder;
 
     @Inject
-    public TextGridManagerImpl(final DocumentGridReader documentGridReader, final ExcelGridReader excelGridReader, final TextGridBuilder textGridBuilder) {
+    public TextGridManagerImpl(
+        final DocumentGridReader documentGridReader, final ExcelGridReader excelGridReader, final DelimitedGridReader delimitedGridReader, final TextGridBuilder textGridBuilder) {
         this.documentGridReader = documentGridReader;
         this.excelGridReader = excelGridReader;
+        this.delimitedGridReader = delimitedGridReader;
         this.textGridBuilder = textGridBuilder;
     }
 
+    /**
+     * Tests whether whitespace separates two words in the text, as the pattern
+     * {@code [^\s]+\s+[^\s]+} would, without allocating a matcher per cell.
+     */
+    public static boolean isSeveralWords(final String text) {
+        boolean isWordSeen = false;
+        boolean isSpaceSeen = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            if (isWhitespace(text.charAt(i))) {
+                isSpaceSeen = isWordSeen;
+            } else if (isSpaceSeen) {
+                return true;
+            } else {
+                isWordSeen = true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
     @Override
     public TextGrid readDocument(final Path file) {
         List<GridLine> lines = documentGridReader.readGrid(file, FILTER);
@@ -35,10 +63,93 @@ public class TextGridManagerImpl implements TextGridManager {
         return textGridBuilder.build(lines);
     }
 
+    @Override
+    public TextGrid readDocument(final Path file, final int lineLimit) {
+        List<GridLine> lines = documentGridReader.readGrid(file, FILTER, lineLimit);
+
+        return buildPreview(lines, lineLimit);
+    }
+
+    @Override
+    public void readDocumentLines(final Path file, final Consumer<GridLine> consumer) {
+        documentGridReader.readLines(file, FILTER, consumer);
+    }
+
     @Override
     public TextGrid readExcel(final Path file) {
         List<GridLine> lines = excelGridReader.readGrid(file, FILTER);
 
         return textGridBuilder.build(lines);
     }
+
+    @Override
+    public TextGrid readExcel(final Path file, final int lineLimit) {
+        List<GridLine> lines = excelGridReader.readGrid(file, FILTER, lineLimit);
+
+        return buildPreview(lines, lineLimit);
+    }
+
+    @Override
+    public void readExcelLines(final Path file, final Consumer<GridLine> consumer) {
+        excelGridReader.readLines(file, FILTER, consumer);
+    }
+
+    @Override
+    public List<String> readExcelSheetNames(final Path file) {
+        return excelGridReader.readSheetNames(file);
+    }
+
+    @Override
+    public TextGrid readExcelSheet(final Path file, final int sheet) {
+        List<GridLine> lines = new ArrayList<>();
+
+        excelGridReader.readLines(file, sheet, FILTER, lines::add);
+
+        return textGridBuilder.build(lines);
+    }
+
+    @Override
+    public TextGrid readExcelSheet(final Path file, final int sheet, final int lineLimit) {
+        List<GridLine> lines = excelGridReader.readGrid(file, sheet, FILTER, lineLimit);
+
+        return buildPreview(lines, lineLimit);
+    }
+
+    @Override
+    public void readExcelSheetLines(final Path file, final int sheet, final Consumer<GridLine> consumer) {
+        excelGridReader.readLines(file, sheet, FILTER, consumer);
+    }
+
+    @Override
+    public TextGrid readDelimited(final Path file) {
+        List<GridLine> lines = delimitedGridReader.readGrid(file, FILTER);
+
+        return textGridBuilder.build(lines);
+    }
+
+    @Override
+    public TextGrid readDelimited(final Path file, final int lineLimit) {
+        List<GridLine> lines = delimitedGridReader.readGrid(file, FILTER, lineLimit);
+
+        return buildPreview(lines, lineLimit);
+    }
+
+    /**
+     * Builds the grid of lines read with a limit, which reached the end of
+     * the file only if it stopped short of the limit.
+     */
+    private TextGrid buildPreview(final List<GridLine> lines, final int lineLimit) {
+        TextGrid grid = textGridBuilder.build(lines);
+
+        if (lines.size() < lineLimit) {
+            return grid;
+        } else {
+            return grid.truncated();
+        }
+    }
+
+    @Override
+    public void readDelimitedLines(final Path file, final Consumer<GridLine> consumer) {
+        delimitedGridReader.readLines(file, FILTER, consumer);
+    }
 }
@@ -0,0 +1,34 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.grid;
+
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.ss.usermodel.FormulaError;
+
+/**
+ * Text for the boolean and error values of .xls cells, as they are shown by
+ * Excel.
+ */
+final class XlsCellText {
+    private XlsCellText() {
+        // Prevent instantiation - all methods are static
+    }
+
+    static String boolErrText(final BoolErrRecord record) {
+        if (record.isBoolean()) {
+            return booleanText(record.getBooleanValue());
+        } else {
+            return FormulaError.forInt(record.getErrorValue()).getString();
+        }
+    }
+
+    static String booleanText(final boolean value) {
+        if (value) {
+            return "TRUE";
+        } else {
+            return "FALSE";
+        }
+    }
+}
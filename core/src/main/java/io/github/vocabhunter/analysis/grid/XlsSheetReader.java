@@ -0,0 +1,246 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.grid;
+
+import io.github.vocabhunter.analysis.core.CoreConstants;
+import io.github.vocabhunter.analysis.core.VocabHunterException;
+import org.apache.poi.hssf.eventusermodel.FormatTrackingHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.record.*;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Reads one sheet of an .xls workbook through the HSSF event API, stopping
+ * once that sheet has been read.  Rows are passed on as soon as the next row
+ * starts, and rows that are declared but hold no cells become empty lines, as
+ * they do in the workbook model.
+ */
+final class XlsSheetReader implements HSSFListener {
+    private static final Logger LOG = LoggerFactory.getLogger(XlsSheetReader.class);
+
+    // Cell type codes reported by FormulaRecord.getCachedResultType()
+    private static final int CACHED_BOOLEAN = 4;
+
+    private static final int CACHED_ERROR = 5;
+
+    private final int sheet;
+
+    private final GridLineAssembler assembler;
+
+    private final FormatTrackingHSSFListener formats;
+
+    private final Deque<Integer> declaredRows = new ArrayDeque<>();
+
+    private SSTRecord sharedStrings;
+
+    private int sheetIndex = -1;
+
+    private int depth;
+
+    private int currentRow = -1;
+
+    private CellValueRecordInterface pendingFormula;
+
+    private XlsSheetReader(final int sheet, final GridLineAssembler assembler) {
+        this.sheet = sheet;
+        this.assembler = assembler;
+        this.formats = new FormatTrackingHSSFListener(this, CoreConstants.LOCALE);
+    }
+
+    static void read(final Path file, final int sheet, final GridLineAssembler assembler) {
+        process(file, new XlsSheetReader(sheet, assembler).formats);
+    }
+
+    static List<String> sheetNames(final Path file) {
+        SheetNameListener listener = new SheetNameListener();
+
+        process(file, listener);
+
+        return Stream.of(BoundSheetRecord.orderByBofPosition(listener.sheets))
+            .map(BoundSheetRecord::getSheetname)
+            .collect(toList());
+    }
+
+    private static void process(final Path file, final HSSFListener listener) {
+        try (POIFSFileSystem fileSystem = new POIFSFileSystem(file.toFile(), true)) {
+            HSSFRequest request = new HSSFRequest();
+
+            request.addListenerForAllRecords(listener);
+            new HSSFEventFactory().processWorkbookEvents(request, fileSystem);
+        } catch (final ReadCompleteException e) {
+            LOG.debug("Stopped reading {} once the records needed were read", file);
+        } catch (final LineConsumerException e) {
+            throw e.failure;
+        } catch (final IOException | RuntimeException e) {
+            throw new VocabHunterException("Unable to read spreadsheet " + file, e);
+        }
+    }
+
+    @Override
+    public void processRecord(final Record record) {
+        if (record instanceof BOFRecord) {
+            startStream((BOFRecord) record);
+        } else if (record instanceof EOFRecord) {
+            endStream();
+        } else if (record instanceof SSTRecord) {
+            sharedStrings = (SSTRecord) record;
+        } else if (isSelectedSheet()) {
+            processSheetRecord(record);
+        }
+    }
+
+    // Every sheet stream, charts included, has a bound sheet record
+    private void startStream(final BOFRecord record) {
+        if (depth == 0 && record.getType() != BOFRecord.TYPE_WORKBOOK) {
+            sheetIndex++;
+        }
+        depth++;
+    }
+
+    private void endStream() {
+        depth--;
+        if (depth == 0 && sheetIndex == sheet) {
+            endRow();
+            while (!declaredRows.isEmpty()) {
+                declaredRows.poll();
+                endLine();
+            }
+            throw new ReadCompleteException();
+        }
+    }
+
+    private boolean isSelectedSheet() {
+        return sheetIndex == sheet && depth == 1;
+    }
+
+    private void processSheetRecord(final Record record) {
+        if (record instanceof RowRecord) {
+            declaredRows.add(((RowRecord) record).getRowNumber());
+        } else if (record instanceof StringRecord) {
+            if (pendingFormula != null) {
+                addCell(pendingFormula, ((StringRecord) record).getString());
+                pendingFormula = null;
+            }
+        } else if (record instanceof FormulaRecord && ((FormulaRecord) record).hasCachedResultString()) {
+            pendingFormula = (FormulaRecord) record;
+        } else if (record instanceof CellValueRecordInterface) {
+            String text = cellText((CellValueRecordInterface) record);
+
+            if (text != null) {
+                addCell((CellValueRecordInterface) record, text);
+            }
+        }
+    }
+
+    private String cellText(final CellValueRecordInterface record) {
+        if (record instanceof LabelSSTRecord) {
+            return sharedStrings.getString(((LabelSSTRecord) record).getSSTIndex()).getString();
+        } else if (record instanceof LabelRecord) {
+            return ((LabelRecord) record).getValue();
+        } else if (record instanceof NumberRecord) {
+            return formats.formatNumberDateCell(record);
+        } else if (record instanceof BoolErrRecord) {
+            return XlsCellText.boolErrText((BoolErrRecord) record);
+        } else if (record instanceof FormulaRecord) {
+            return formulaText((FormulaRecord) record);
+        } else {
+            return null;
+        }
+    }
+
+    private String formulaText(final FormulaRecord record) {
+        int type = record.getCachedResultType();
+
+        if (type == CACHED_BOOLEAN) {
+            return XlsCellText.booleanText(record.getCachedBooleanValue());
+        } else if (type == CACHED_ERROR) {
+            return FormulaError.forInt(record.getCachedErrorValue()).getString();
+        } else {
+            return formats.formatNumberDateCell(record);
+        }
+    }
+
+    private void addCell(final CellValueRecordInterface record, final String text) {
+        int row = record.getRow();
+
+        if (row != currentRow) {
+            endRow();
+            while (!declaredRows.isEmpty() && declaredRows.peek() < row) {
+                declaredRows.poll();
+                endLine();
+            }
+            if (!declaredRows.isEmpty() && declaredRows.peek() == row) {
+                declaredRows.poll();
+            }
+            currentRow = row;
+        }
+        assembler.addCell(record.getColumn(), text);
+    }
+
+    private void endRow() {
+        if (currentRow >= 0) {
+            endLine();
+            currentRow = -1;
+        }
+    }
+
+    private void endLine() {
+        try {
+            assembler.endLine();
+        } catch (final RuntimeException e) {
+            throw new LineConsumerException(e);
+        }
+    }
+
+    // The sheet names all come before the first sheet, so reading stops there
+    private static final class SheetNameListener implements HSSFListener {
+        private final List<BoundSheetRecord> sheets = new ArrayList<>();
+
+        @Override
+        public void processRecord(final Record record) {
+            if (record instanceof BoundSheetRecord) {
+                sheets.add((BoundSheetRecord) record);
+            } else if (record instanceof EOFRecord) {
+                throw new ReadCompleteException();
+            }
+        }
+    }
+
+    // Unwinds the event reader so that the rest of the workbook is skipped
+    private static final class ReadCompleteException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private ReadCompleteException() {
+            super(null, null, false, false);
+        }
+    }
+
+    // Carries a failure of the line consumer past the wrapping of POI failures
+    private static final class LineConsumerException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final RuntimeException failure;
+
+        private LineConsumerException(final RuntimeException failure) {
+            super(null, null, false, false);
+            this.failure = failure;
+        }
+    }
+}
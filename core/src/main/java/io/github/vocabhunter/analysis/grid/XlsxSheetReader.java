@@ -0,0 +1,126 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.grid;
+
+import io.github.vocabhunter.analysis.core.CoreConstants;
+import io.github.vocabhunter.analysis.core.VocabHunterException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellAddress;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.parsers.ParserConfigurationException;
+
+/**
+ * Reads one sheet of an .xlsx workbook with a SAX parser, so only the shared
+ * strings and the current row are held in memory.
+ */
+final class XlsxSheetReader implements SheetContentsHandler {
+    private final GridLineAssembler assembler;
+
+    private int nextColumn;
+
+    private XlsxSheetReader(final GridLineAssembler assembler) {
+        this.assembler = assembler;
+    }
+
+    static void read(final Path file, final int sheet, final GridLineAssembler assembler) {
+        try (ReadOnlyPackage opcPackage = new ReadOnlyPackage(OPCPackage.open(file.toFile(), PackageAccess.READ))) {
+            readSheet(opcPackage.opcPackage, sheet, assembler);
+        } catch (final IOException | OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new VocabHunterException("Unable to read spreadsheet " + file, e);
+        }
+    }
+
+    static List<String> sheetNames(final Path file) {
+        try (ReadOnlyPackage opcPackage = new ReadOnlyPackage(OPCPackage.open(file.toFile(), PackageAccess.READ))) {
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) new XSSFReader(opcPackage.opcPackage).getSheetsData();
+            List<String> names = new ArrayList<>();
+
+            while (sheets.hasNext()) {
+                sheets.next().close();
+                names.add(sheets.getSheetName());
+            }
+
+            return names;
+        } catch (final IOException | OpenXML4JException e) {
+            throw new VocabHunterException("Unable to read spreadsheet " + file, e);
+        }
+    }
+
+    private static void readSheet(final OPCPackage opcPackage, final int sheet, final GridLineAssembler assembler)
+        throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        XSSFReader reader = new XSSFReader(opcPackage);
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+
+        for (int i = 0; i < sheet && sheets.hasNext(); i++) {
+            sheets.next().close();
+        }
+        if (sheets.hasNext()) {
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(opcPackage);
+            DataFormatter formatter = new DataFormatter(CoreConstants.LOCALE);
+            XMLReader parser = XMLHelper.newXMLReader();
+
+            parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), strings, new XlsxSheetReader(assembler), formatter, false));
+            try (InputStream data = sheets.next()) {
+                parser.parse(new InputSource(data));
+            }
+        }
+    }
+
+    @Override
+    public void startRow(final int rowNum) {
+        nextColumn = 0;
+    }
+
+    @Override
+    public void endRow(final int rowNum) {
+        assembler.endLine();
+    }
+
+    @Override
+    public void cell(final String cellReference, final String formattedValue, final XSSFComment comment) {
+        int column;
+
+        if (cellReference == null) {
+            column = nextColumn;
+        } else {
+            column = new CellAddress(cellReference).getColumn();
+        }
+        if (formattedValue != null) {
+            assembler.addCell(column, formattedValue);
+        }
+        nextColumn = column + 1;
+    }
+
+    // Closing a package opened for reading logs a warning, so it is reverted instead
+    private static final class ReadOnlyPackage implements AutoCloseable {
+        private final OPCPackage opcPackage;
+
+        private ReadOnlyPackage(final OPCPackage opcPackage) {
+            this.opcPackage = opcPackage;
+        }
+
+        @Override
+        public void close() {
+            opcPackage.revert();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.marked;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The number of words in each state, with unseen words split by whether the
+ * filter shows them.  A change to a single word is applied in constant time
+ * against the filter's bitmap rather than by counting every word again.
+ */
+public final class MarkCounts {
+    private final BitSet filterShown;
+
+    private int known;
+
+    private int unknown;
+
+    private int unseenUnfiltered;
+
+    private int unseenFiltered;
+
+    public MarkCounts(final List<? extends MarkedWord> words, final BitSet filterShown) {
+        this.filterShown = filterShown;
+        for (int i = 0; i < words.size(); i++) {
+            add(i, words.get(i).getState(), 1);
+        }
+    }
+
+    MarkCounts(final BitSet filterShown, final int known, final int unknown, final int unseenUnfiltered, final int unseenFiltered) {
+        this.filterShown = filterShown;
+        this.known = known;
+        this.unknown = unknown;
+        this.unseenUnfiltered = unseenUnfiltered;
+        this.unseenFiltered = unseenFiltered;
+    }
+
+    public void updateWord(final int index, final WordState oldState, final WordState newState) {
+        add(index, oldState, -1);
+        add(index, newState, 1);
+    }
+
+    public boolean isFilterShown(final int index) {
+        return filterShown.get(index);
+    }
+
+    public int getKnown() {
+        return known;
+    }
+
+    public int getUnknown() {
+        return unknown;
+    }
+
+    public int getUnseenUnfiltered() {
+        return unseenUnfiltered;
+    }
+
+    public int getUnseenFiltered() {
+        return unseenFiltered;
+    }
+
+    private void add(final int index, final WordState state, final int delta) {
+        if (state == WordState.KNOWN) {
+            known += delta;
+        } else if (state == WordState.UNKNOWN) {
+            unknown += delta;
+        } else if (filterShown.get(index)) {
+            unseenUnfiltered += delta;
+        } else {
+            unseenFiltered += delta;
+        }
+    }
+}
@@ -4,58 +4,92 @@
 
 package io.github.vocabhunter.analysis.marked;
 
+import io.github.vocabhunter.analysis.filter.WordFeatures;
 import io.github.vocabhunter.analysis.filter.WordFilter;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
 
-import static java.util.stream.Collectors.*;
+import static java.util.stream.Collectors.toList;
 
+/**
+ * Works out which words to show and counts the words in each state in a
+ * single pass, asking the filter about each word once.  Lists of at least
+ * {@link #PARALLEL_THRESHOLD} words are split into chunks that are processed
+ * on the common pool and merged in their original order.
+ */
 public final class MarkTool<T extends MarkedWord> {
-    private final List<T> shownWords;
-
-    private final int known;
+    public static final int PARALLEL_THRESHOLD = 50_000;
 
-    private final int unknown;
+    private static final int CHUNK_SIZE = 64 * 256;
 
-    private final int unseenUnfiltered;
+    private final List<T> shownWords;
 
-    private final int unseenFiltered;
+    private final MarkCounts counts;
 
     public MarkTool(final List<T> words) {
         this(w -> true, words);
     }
 
     public MarkTool(final WordFilter filter, final List<T> words) {
-        shownWords = words.stream()
-            .filter(w -> isShown(filter, w))
-            .collect(toList());
+        this(words, i -> filter.isShown(words.get(i)));
+    }
 
-        Map<WordState, Map<Boolean, Long>> groups = words.stream()
-            .collect(groupingBy(T::getState, groupingBy(filter::isShown, counting())));
+    public MarkTool(final WordFilter filter, final List<T> words, final WordFeatures features) {
+        this(words, features.shownWords(filter));
+    }
 
-        known = extractValues(groups, WordState.KNOWN);
-        unknown = extractValues(groups, WordState.UNKNOWN);
-        unseenUnfiltered = extractValues(groups, WordState.UNSEEN, true);
-        unseenFiltered = extractValues(groups, WordState.UNSEEN, false);
+    public MarkTool(final List<T> words, final BitSet filterShown) {
+        this(words, filterShown::get);
     }
 
-    private int extractValues(final Map<WordState, Map<Boolean, Long>> groups, final WordState state) {
-        Map<Boolean, Long> subGroups = extractSubGroups(groups, state);
+    private MarkTool(final List<T> words, final IntPredicate isFilterShown) {
+        int size = words.size();
+        List<MarkChunk<T>> chunks = chunkIndices(size)
+            .mapToObj(c -> new MarkChunk<>(words, c * CHUNK_SIZE, Math.min(size, (c + 1) * CHUNK_SIZE), isFilterShown))
+            .collect(toList());
 
-        return (int) subGroups.values().stream()
-            .mapToLong(l -> l)
-            .sum();
+        shownWords = mergeShownWords(chunks);
+        counts = mergeCounts(size, chunks);
     }
 
-    private int extractValues(final Map<WordState, Map<Boolean, Long>> groups, final WordState state, final boolean isShown) {
-        Map<Boolean, Long> subGroups = extractSubGroups(groups, state);
+    private static IntStream chunkIndices(final int size) {
+        int chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
 
-        return subGroups.getOrDefault(isShown, 0L).intValue();
+        if (size >= PARALLEL_THRESHOLD) {
+            return IntStream.range(0, chunkCount).parallel();
+        } else {
+            return IntStream.range(0, chunkCount);
+        }
     }
 
-    private Map<Boolean, Long> extractSubGroups(final Map<WordState, Map<Boolean, Long>> groups, final WordState state) {
-        return groups.getOrDefault(state, Map.of());
+    private static <T extends MarkedWord> List<T> mergeShownWords(final List<MarkChunk<T>> chunks) {
+        List<T> result = new ArrayList<>(chunks.stream().mapToInt(c -> c.shown.size()).sum());
+
+        chunks.forEach(c -> result.addAll(c.shown));
+
+        return result;
+    }
+
+    private static <T extends MarkedWord> MarkCounts mergeCounts(final int size, final List<MarkChunk<T>> chunks) {
+        long[] bits = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        int known = 0;
+        int unknown = 0;
+        int unseenShown = 0;
+
+        for (int c = 0; c < chunks.size(); c++) {
+            MarkChunk<T> chunk = chunks.get(c);
+
+            System.arraycopy(chunk.filterBits, 0, bits, c * CHUNK_SIZE / Long.SIZE, chunk.filterBits.length);
+            known += chunk.known;
+            unknown += chunk.unknown;
+            unseenShown += chunk.unseenShown;
+        }
+
+        return new MarkCounts(BitSet.valueOf(bits), known, unknown, unseenShown, size - known - unknown - unseenShown);
     }
 
     public List<T> getShownWords() {
@@ -66,23 +100,62 @@ public final class MarkTool<T extends MarkedWord> {
         return !shownWords.isEmpty();
     }
 
+    public MarkCounts getCounts() {
+        return counts;
+    }
+
     public int getKnown() {
-        return known;
+        return counts.getKnown();
     }
 
     public int getUnknown() {
-        return unknown;
+        return counts.getUnknown();
     }
 
     public int getUnseenUnfiltered() {
-        return unseenUnfiltered;
+        return counts.getUnseenUnfiltered();
     }
 
     public int getUnseenFiltered() {
-        return unseenFiltered;
+        return counts.getUnseenFiltered();
     }
 
     public static <W extends MarkedWord> boolean isShown(final WordFilter filter, final W w) {
         return !w.getState().equals(WordState.UNSEEN) || filter.isShown(w);
     }
+
+    private static final class MarkChunk<T extends MarkedWord> {
+        private final List<T> shown = new ArrayList<>();
+
+        private final long[] filterBits;
+
+        private int known;
+
+        private int unknown;
+
+        private int unseenShown;
+
+        private MarkChunk(final List<T> words, final int from, final int to, final IntPredicate isFilterShown) {
+            filterBits = new long[(to - from + Long.SIZE - 1) / Long.SIZE];
+            for (int i = from; i < to; i++) {
+                T word = words.get(i);
+                WordState state = word.getState();
+                boolean isWordFilterShown = isFilterShown.test(i);
+
+                if (isWordFilterShown) {
+                    filterBits[(i - from) / Long.SIZE] |= 1L << (i - from);
+                }
+                if (state == WordState.KNOWN) {
+                    known++;
+                } else if (state == WordState.UNKNOWN) {
+                    unknown++;
+                } else if (isWordFilterShown) {
+                    unseenShown++;
+                }
+                if (state != WordState.UNSEEN || isWordFilterShown) {
+                    shown.add(word);
+                }
+            }
+        }
+    }
 }
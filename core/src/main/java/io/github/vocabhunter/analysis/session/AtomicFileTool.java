@@ -0,0 +1,41 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import static io.github.vocabhunter.analysis.session.FileNameTool.filename;
+
+/**
+ * Replaces a file by an atomic move from a uniquely named temporary file in
+ * the same directory, so that readers never see a partly written file and
+ * concurrent writers never share a temporary file.
+ */
+final class AtomicFileTool {
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private AtomicFileTool() {
+        // Prevent instantiation - all methods are static
+    }
+
+    static void replace(final Path target, final FileWriter writer) throws IOException {
+        Path temporary = Files.createTempFile(target.toAbsolutePath().getParent(), filename(target), TEMPORARY_SUFFIX);
+
+        try {
+            writer.write(temporary);
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    @FunctionalInterface
+    interface FileWriter {
+        void write(Path file) throws IOException;
+    }
+}
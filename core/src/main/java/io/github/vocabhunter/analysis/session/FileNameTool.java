@@ -15,6 +15,8 @@ public final class FileNameTool {
 
     private static final String EXPORT_SUFFIX = ".txt";
 
+    private static final String INDEX_SUFFIX = ".index";
+
     private FileNameTool() {
         // Prevent instantiation - all methods are static
     }
@@ -44,6 +46,10 @@ public final class FileNameTool {
         return file;
     }
 
+    public static Path indexFile(final Path sessionFile) {
+        return sessionFile.resolveSibling(filename(sessionFile) + INDEX_SUFFIX);
+    }
+
     public static boolean isSessionFile(final Path file) {
         return filename(file).toLowerCase(CoreConstants.LOCALE).endsWith(SESSION_SUFFIX);
     }
@@ -4,35 +4,78 @@
 
 package io.github.vocabhunter.analysis.session;
 
+import io.github.vocabhunter.analysis.core.VocabHunterException;
+
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Function;
-import java.util.stream.IntStream;
-
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toUnmodifiableList;
-import static java.util.stream.Collectors.toUnmodifiableMap;
 
 public class LineListTool<T> {
-    private final List<String> lines;
+    private static final int INITIAL_CAPACITY = 64;
 
-    private final Map<String, Integer> indices;
+    private final List<String> lines = new ArrayList<>();
+
+    /**
+     * Open-addressed table of line numbers plus one, zero marking an empty slot.
+     */
+    private int[] slots = new int[INITIAL_CAPACITY];
 
     public LineListTool(final List<T> raw, final Function<T, List<String>> extractor) {
-        lines = raw.stream()
-            .flatMap(w -> extractor.apply(w).stream())
-            .distinct()
-            .collect(toUnmodifiableList());
-        indices = IntStream.range(0, lines.size())
-            .boxed()
-            .collect(toUnmodifiableMap(lines::get, identity()));
+        for (T item : raw) {
+            for (String line : extractor.apply(item)) {
+                addLine(line);
+            }
+        }
+    }
+
+    private void addLine(final String line) {
+        int slot = findSlot(slots, line);
+
+        if (slots[slot] == 0) {
+            lines.add(line);
+            slots[slot] = lines.size();
+            if (lines.size() * 2 > slots.length) {
+                resize();
+            }
+        }
+    }
+
+    private int findSlot(final int[] table, final String line) {
+        int mask = table.length - 1;
+        int slot = spread(line.hashCode()) & mask;
+
+        while (table[slot] != 0 && !lines.get(table[slot] - 1).equals(line)) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    private void resize() {
+        int[] table = new int[slots.length * 2];
+
+        for (int lineNo = 0; lineNo < lines.size(); lineNo++) {
+            table[findSlot(table, lines.get(lineNo))] = lineNo + 1;
+        }
+        slots = table;
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
     }
 
     public List<String> getLines() {
-        return lines;
+        return Collections.unmodifiableList(lines);
     }
 
     public int getLineNo(final String line) {
-        return indices.get(line);
+        int value = slots[findSlot(slots, line)];
+
+        if (value == 0) {
+            throw new VocabHunterException(String.format("Unknown line '%s'", line));
+        } else {
+            return value - 1;
+        }
     }
 }
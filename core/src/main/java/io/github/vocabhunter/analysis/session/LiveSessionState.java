@@ -0,0 +1,81 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import io.github.vocabhunter.analysis.marked.WordState;
+
+/**
+ * The editable word states and notes of an open session.  Marks are held in
+ * fixed size chunks that are shared with snapshots and copied on the first
+ * write after a snapshot, so taking a snapshot is O(1) and later edits never
+ * affect a snapshot that is being saved in the background.
+ */
+public final class LiveSessionState {
+    private final SessionState base;
+
+    private final int[] chunkGenerations;
+
+    private SessionMarks marks;
+
+    private boolean isShared;
+
+    private int generation;
+
+    private long modificationCount;
+
+    public LiveSessionState(final SessionState base) {
+        this.base = base;
+        marks = new SessionMarks(base.rawOrderedUses());
+        chunkGenerations = new int[marks.chunkCount()];
+    }
+
+    public SessionState getBase() {
+        return base;
+    }
+
+    public WordState getState(final int index) {
+        return marks.getState(index);
+    }
+
+    public String getNote(final int index) {
+        return marks.getNote(index);
+    }
+
+    public void setState(final int index, final WordState state) {
+        ownedMarks(index).setState(index, state);
+        modificationCount++;
+    }
+
+    public void setNote(final int index, final String note) {
+        ownedMarks(index).setNote(index, note);
+        modificationCount++;
+    }
+
+    public SessionSnapshot snapshot() {
+        isShared = true;
+        generation++;
+
+        return new SessionSnapshot(base, marks, modificationCount);
+    }
+
+    public boolean isModifiedSince(final SessionSnapshot snapshot) {
+        return modificationCount != snapshot.getModificationCount();
+    }
+
+    private SessionMarks ownedMarks(final int index) {
+        int chunk = SessionMarks.chunk(index);
+
+        if (isShared) {
+            marks = marks.copy();
+            isShared = false;
+        }
+        if (chunkGenerations[chunk] != generation) {
+            marks.copyChunk(chunk);
+            chunkGenerations[chunk] = generation;
+        }
+
+        return marks;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+public final class SessionDiff {
+    private final List<String> addedWords;
+
+    private final List<String> removedWords;
+
+    private final List<SessionWordChange> changedWords;
+
+    public SessionDiff(final List<String> addedWords, final List<String> removedWords, final List<SessionWordChange> changedWords) {
+        this.addedWords = List.copyOf(addedWords);
+        this.removedWords = List.copyOf(removedWords);
+        this.changedWords = List.copyOf(changedWords);
+    }
+
+    public List<String> getAddedWords() {
+        return addedWords;
+    }
+
+    public List<String> getRemovedWords() {
+        return removedWords;
+    }
+
+    public List<SessionWordChange> getChangedWords() {
+        return changedWords;
+    }
+
+    public List<SessionWordChange> getStateChanges() {
+        return changedWords.stream()
+            .filter(SessionWordChange::isStateChanged)
+            .collect(toList());
+    }
+
+    public boolean isEmpty() {
+        return addedWords.isEmpty() && removedWords.isEmpty() && changedWords.isEmpty();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        SessionDiff that = (SessionDiff) o;
+
+        return new EqualsBuilder()
+            .append(addedWords, that.addedWords)
+            .append(removedWords, that.removedWords)
+            .append(changedWords, that.changedWords)
+            .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+            .append(addedWords)
+            .append(removedWords)
+            .append(changedWords)
+            .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.MULTI_LINE_STYLE)
+            .append("addedWords", addedWords)
+            .append("removedWords", removedWords)
+            .append("changedWords", changedWords)
+            .toString();
+    }
+}
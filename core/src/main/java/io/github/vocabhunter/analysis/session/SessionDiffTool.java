@@ -0,0 +1,194 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Compares sessions in near-linear time.  Every line of both sessions is
+ * hashed once into a shared dictionary, so that the uses of each word can
+ * then be compared as plain integer identifiers.
+ */
+public final class SessionDiffTool {
+    private static final int[] NO_LINES = {};
+
+    private SessionDiffTool() {
+        // Prevent instantiation - all methods are static
+    }
+
+    public static SessionDiff diff(final SessionState before, final SessionState after) {
+        LineIds ids = new LineIds(before.rawLines(), after.rawLines());
+        List<SessionWord> beforeWords = before.rawOrderedUses();
+        List<SessionWord> afterWords = after.rawOrderedUses();
+        Map<String, SessionWord> afterIndex = new HashMap<>(afterWords.size() * 2);
+        Set<String> beforeIdentifiers = new HashSet<>(beforeWords.size() * 2);
+        List<String> removed = new ArrayList<>();
+        List<SessionWordChange> changed = new ArrayList<>();
+
+        for (SessionWord word : afterWords) {
+            afterIndex.putIfAbsent(word.getWordIdentifier(), word);
+        }
+        for (SessionWord beforeWord : beforeWords) {
+            String identifier = beforeWord.getWordIdentifier();
+            SessionWord afterWord = afterIndex.get(identifier);
+
+            beforeIdentifiers.add(identifier);
+            if (afterWord == null) {
+                removed.add(identifier);
+            } else {
+                boolean isUsesChanged = isUsesChanged(ids, beforeWord, afterWord);
+
+                if (isUsesChanged || beforeWord.getState() != afterWord.getState() || !Objects.equals(beforeWord.getNote(), afterWord.getNote())) {
+                    changed.add(new SessionWordChange(identifier, beforeWord.getState(), afterWord.getState(), beforeWord.getNote(), afterWord.getNote(), isUsesChanged));
+                }
+            }
+        }
+
+        List<String> added = new ArrayList<>();
+
+        for (SessionWord word : afterWords) {
+            if (!beforeIdentifiers.contains(word.getWordIdentifier())) {
+                added.add(word.getWordIdentifier());
+            }
+        }
+
+        return new SessionDiff(added, removed, changed);
+    }
+
+    public static boolean isEquivalent(final SessionState lhs, final SessionState rhs) {
+        if (lhs.getFormatVersion() != rhs.getFormatVersion() || !Objects.equals(lhs.getName(), rhs.getName())) {
+            return false;
+        }
+
+        LineIds ids = new LineIds(lhs.rawLines(), rhs.rawLines());
+
+        return ids.isSameLineSet() && isEquivalentUses(ids, lhs.rawOrderedUses(), rhs.rawOrderedUses());
+    }
+
+    private static boolean isEquivalentUses(final LineIds ids, final List<SessionWord> lhs, final List<SessionWord> rhs) {
+        if (lhs.size() != rhs.size()) {
+            return false;
+        }
+        for (int i = 0; i < lhs.size(); i++) {
+            SessionWord lhsWord = lhs.get(i);
+            SessionWord rhsWord = rhs.get(i);
+
+            if (!isEquivalentWord(ids, lhsWord, rhsWord)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isEquivalentWord(final LineIds ids, final SessionWord lhs, final SessionWord rhs) {
+        return lhs.getUseCount() == rhs.getUseCount()
+            && Objects.equals(lhs.getWordIdentifier(), rhs.getWordIdentifier())
+            && Objects.equals(lhs.rawUses(), rhs.rawUses())
+            && Arrays.equals(ids.lhsLines(lhs.rawLineNos()), ids.rhsLines(rhs.rawLineNos()))
+            && lhs.getState() == rhs.getState()
+            && Objects.equals(lhs.getNote(), rhs.getNote());
+    }
+
+    private static boolean isUsesChanged(final LineIds ids, final SessionWord before, final SessionWord after) {
+        return before.getUseCount() != after.getUseCount()
+            || !Objects.equals(before.rawUses(), after.rawUses())
+            || !Arrays.equals(lineSet(ids.lhsLines(before.rawLineNos())), lineSet(ids.rhsLines(after.rawLineNos())));
+    }
+
+    private static int[] lineSet(final int... lines) {
+        if (lines.length < 2) {
+            return lines;
+        }
+        Arrays.sort(lines);
+
+        int size = 1;
+
+        for (int i = 1; i < lines.length; i++) {
+            if (lines[i] != lines[size - 1]) {
+                lines[size++] = lines[i];
+            }
+        }
+
+        return Arrays.copyOf(lines, size);
+    }
+
+    private static final class LineIds {
+        private final int[] lhsIds;
+
+        private final int[] rhsIds;
+
+        private final int distinctCount;
+
+        LineIds(final List<String> lhsLines, final List<String> rhsLines) {
+            Map<String, Integer> dictionary = new HashMap<>((lhsLines.size() + rhsLines.size()) * 2);
+
+            lhsIds = identify(dictionary, lhsLines);
+            rhsIds = identify(dictionary, rhsLines);
+            distinctCount = dictionary.size();
+        }
+
+        private static int[] identify(final Map<String, Integer> dictionary, final List<String> lines) {
+            int[] result = new int[lines.size()];
+
+            for (int i = 0; i < result.length; i++) {
+                String line = lines.get(i);
+                Integer id = dictionary.get(line);
+
+                if (id == null) {
+                    id = dictionary.size();
+                    dictionary.put(line, id);
+                }
+                result[i] = id;
+            }
+
+            return result;
+        }
+
+        boolean isSameLineSet() {
+            return toBitSet(lhsIds).equals(toBitSet(rhsIds));
+        }
+
+        private BitSet toBitSet(final int... ids) {
+            BitSet result = new BitSet(distinctCount);
+
+            for (int id : ids) {
+                result.set(id);
+            }
+
+            return result;
+        }
+
+        int[] lhsLines(final List<Integer> lineNos) {
+            return map(lhsIds, lineNos);
+        }
+
+        int[] rhsLines(final List<Integer> lineNos) {
+            return map(rhsIds, lineNos);
+        }
+
+        private static int[] map(final int[] ids, final List<Integer> lineNos) {
+            if (lineNos == null) {
+                return NO_LINES;
+            }
+
+            int[] result = new int[lineNos.size()];
+
+            for (int i = 0; i < result.length; i++) {
+                result[i] = ids[lineNos.get(i)];
+            }
+
+            return result;
+        }
+    }
+}
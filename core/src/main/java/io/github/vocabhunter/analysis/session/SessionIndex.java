@@ -0,0 +1,75 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class SessionIndex {
+    private final List<String> knownWords;
+
+    private final List<String> unknownWords;
+
+    public SessionIndex(final List<String> knownWords, final List<String> unknownWords) {
+        this.knownWords = List.copyOf(knownWords);
+        this.unknownWords = List.copyOf(unknownWords);
+    }
+
+    public List<String> getKnownWords() {
+        return knownWords;
+    }
+
+    public List<String> getUnknownWords() {
+        return unknownWords;
+    }
+
+    public List<String> getSeenWords() {
+        List<String> result = new ArrayList<>(knownWords.size() + unknownWords.size());
+
+        result.addAll(knownWords);
+        result.addAll(unknownWords);
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        SessionIndex that = (SessionIndex) o;
+
+        return new EqualsBuilder()
+            .append(knownWords, that.knownWords)
+            .append(unknownWords, that.unknownWords)
+            .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+            .append(knownWords)
+            .append(unknownWords)
+            .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.MULTI_LINE_STYLE)
+            .append("knownWords", knownWords)
+            .append("unknownWords", unknownWords)
+            .toString();
+    }
+}
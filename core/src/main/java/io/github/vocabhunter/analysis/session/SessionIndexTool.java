@@ -0,0 +1,163 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import io.github.vocabhunter.analysis.marked.WordState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static io.github.vocabhunter.analysis.session.FileNameTool.indexFile;
+
+/**
+ * Maintains the index file that sits alongside each saved session.
+ * The index holds the sorted, front-coded known and unknown words, plus the
+ * size and modification time of the session it was built from, so filters
+ * can skip the full session parse while the session is unchanged.
+ */
+public final class SessionIndexTool {
+    private static final Logger LOG = LoggerFactory.getLogger(SessionIndexTool.class);
+
+    private static final int MAGIC = 0x56484958;
+
+    private static final int INDEX_VERSION = 1;
+
+    private SessionIndexTool() {
+        // Prevent instantiation - all methods are static
+    }
+
+    public static void write(final Path sessionFile, final SessionState state) {
+        List<String> known = new ArrayList<>();
+        List<String> unknown = new ArrayList<>();
+
+        for (SessionWord word : state.getOrderedUses()) {
+            if (word.getState() == WordState.KNOWN) {
+                known.add(word.getWordIdentifier());
+            } else if (word.getState() == WordState.UNKNOWN) {
+                unknown.add(word.getWordIdentifier());
+            }
+        }
+        write(sessionFile, known, unknown);
+    }
+
+    static void write(final Path sessionFile, final List<String> known, final List<String> unknown) {
+        Path indexFile = indexFile(sessionFile);
+
+        try {
+            List<String> sortedKnown = new ArrayList<>(known);
+            List<String> sortedUnknown = new ArrayList<>(unknown);
+
+            sortedKnown.sort(null);
+            sortedUnknown.sort(null);
+            writeIndex(sessionFile, indexFile, sortedKnown, sortedUnknown);
+        } catch (final IOException | RuntimeException e) {
+            LOG.warn("Unable to write session index '{}'", indexFile, e);
+            deleteQuietly(indexFile);
+        }
+    }
+
+    public static Optional<SessionIndex> read(final Path sessionFile) {
+        Path indexFile = indexFile(sessionFile);
+
+        if (Files.isRegularFile(indexFile)) {
+            try (DataInputStream in = new DataInputStream(new GZIPInputStream(new BufferedInputStream(Files.newInputStream(indexFile))))) {
+                return readIndex(sessionFile, in);
+            } catch (final IOException | RuntimeException e) {
+                LOG.debug("Ignoring unreadable session index '{}'", indexFile, e);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private static void writeIndex(final Path sessionFile, final Path indexFile, final List<String> known, final List<String> unknown) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(indexFile))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(INDEX_VERSION);
+            out.writeLong(Files.size(sessionFile));
+            out.writeLong(Files.getLastModifiedTime(sessionFile).toMillis());
+            writeWords(out, known);
+            writeWords(out, unknown);
+        }
+    }
+
+    private static Optional<SessionIndex> readIndex(final Path sessionFile, final DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != INDEX_VERSION) {
+            return Optional.empty();
+        }
+
+        long size = in.readLong();
+        long modified = in.readLong();
+
+        if (size == Files.size(sessionFile) && modified == Files.getLastModifiedTime(sessionFile).toMillis()) {
+            List<String> known = readWords(in);
+            List<String> unknown = readWords(in);
+
+            return Optional.of(new SessionIndex(known, unknown));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static void writeWords(final DataOutputStream out, final List<String> words) throws IOException {
+        String previous = "";
+
+        out.writeInt(words.size());
+        for (String word : words) {
+            int prefix = commonPrefix(previous, word);
+
+            out.writeShort(prefix);
+            out.writeUTF(word.substring(prefix));
+            previous = word;
+        }
+    }
+
+    private static List<String> readWords(final DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<String> words = new ArrayList<>(count);
+        String previous = "";
+
+        for (int i = 0; i < count; i++) {
+            int prefix = in.readUnsignedShort();
+            String word = previous.substring(0, prefix) + in.readUTF();
+
+            words.add(word);
+            previous = word;
+        }
+
+        return words;
+    }
+
+    private static int commonPrefix(final String s1, final String s2) {
+        int limit = Math.min(Math.min(s1.length(), s2.length()), Character.MAX_VALUE);
+        int i = 0;
+
+        while (i < limit && s1.charAt(i) == s2.charAt(i)) {
+            i++;
+        }
+
+        return i;
+    }
+
+    private static void deleteQuietly(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException e) {
+            LOG.debug("Unable to delete '{}'", file, e);
+        }
+    }
+}
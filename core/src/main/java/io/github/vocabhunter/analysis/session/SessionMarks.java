@@ -0,0 +1,79 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import io.github.vocabhunter.analysis.marked.WordState;
+
+import java.util.List;
+
+final class SessionMarks {
+    private static final int CHUNK_SHIFT = 6;
+
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final WordState[][] states;
+
+    private final String[][] notes;
+
+    SessionMarks(final List<SessionWord> words) {
+        int chunkCount = chunk(words.size() + CHUNK_MASK);
+
+        states = new WordState[chunkCount][];
+        notes = new String[chunkCount][];
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int start = chunk << CHUNK_SHIFT;
+            int size = Math.min(CHUNK_SIZE, words.size() - start);
+
+            states[chunk] = new WordState[size];
+            notes[chunk] = new String[size];
+            for (int i = 0; i < size; i++) {
+                SessionWord word = words.get(start + i);
+
+                states[chunk][i] = word.getState();
+                notes[chunk][i] = word.getNote();
+            }
+        }
+    }
+
+    private SessionMarks(final SessionMarks source) {
+        states = source.states.clone();
+        notes = source.notes.clone();
+    }
+
+    static int chunk(final int index) {
+        return index >> CHUNK_SHIFT;
+    }
+
+    int chunkCount() {
+        return states.length;
+    }
+
+    SessionMarks copy() {
+        return new SessionMarks(this);
+    }
+
+    void copyChunk(final int chunk) {
+        states[chunk] = states[chunk].clone();
+        notes[chunk] = notes[chunk].clone();
+    }
+
+    WordState getState(final int index) {
+        return states[chunk(index)][index & CHUNK_MASK];
+    }
+
+    String getNote(final int index) {
+        return notes[chunk(index)][index & CHUNK_MASK];
+    }
+
+    void setState(final int index, final WordState state) {
+        states[chunk(index)][index & CHUNK_MASK] = state;
+    }
+
+    void setNote(final int index, final String note) {
+        notes[chunk(index)][index & CHUNK_MASK] = note;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.util.List;
+
+public final class SessionMergeResult {
+    private final int changedWordCount;
+
+    private final int unmatchedWordCount;
+
+    private final List<String> conflicts;
+
+    public SessionMergeResult(final int changedWordCount, final int unmatchedWordCount, final List<String> conflicts) {
+        this.changedWordCount = changedWordCount;
+        this.unmatchedWordCount = unmatchedWordCount;
+        this.conflicts = List.copyOf(conflicts);
+    }
+
+    public int getChangedWordCount() {
+        return changedWordCount;
+    }
+
+    public int getUnmatchedWordCount() {
+        return unmatchedWordCount;
+    }
+
+    public List<String> getConflicts() {
+        return conflicts;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        SessionMergeResult that = (SessionMergeResult) o;
+
+        return new EqualsBuilder()
+            .append(changedWordCount, that.changedWordCount)
+            .append(unmatchedWordCount, that.unmatchedWordCount)
+            .append(conflicts, that.conflicts)
+            .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+            .append(changedWordCount)
+            .append(unmatchedWordCount)
+            .append(conflicts)
+            .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.MULTI_LINE_STYLE)
+            .append("changedWordCount", changedWordCount)
+            .append("unmatchedWordCount", unmatchedWordCount)
+            .append("conflicts", conflicts)
+            .toString();
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.vocabhunter.analysis.core.VocabHunterException;
+import io.github.vocabhunter.analysis.marked.WordState;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Merges word states and notes from several copies of a base session, holding
+ * only identifiers, states and notes in memory.  Conflicting states resolve to
+ * the strongest mark (UNKNOWN, then KNOWN, then UNSEEN) and conflicting notes
+ * are joined in the order the derived sessions were given.
+ */
+public final class SessionMergeTool {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String FIELD_ORDERED_USES = "orderedUses";
+
+    private static final String FIELD_STATE = "state";
+
+    private static final String FIELD_NOTE = "note";
+
+    private static final String NOTE_SEPARATOR = "\n";
+
+    private SessionMergeTool() {
+        // Prevent instantiation - all methods are static
+    }
+
+    public static SessionMergeResult merge(final Path base, final List<Path> derived, final Path output) {
+        MergeState merge = new MergeState();
+
+        readLatest(base, merge::addBaseWord);
+        for (Path file : derived) {
+            readLatest(file, merge::addDerivedWord);
+        }
+        merge.resolve();
+        writeMerged(base, output, merge);
+        SessionIndexTool.write(output, merge.wordsInState(WordState.KNOWN), merge.wordsInState(WordState.UNKNOWN));
+
+        return new SessionMergeResult(merge.changedCount, merge.unmatchedCount, merge.conflicts());
+    }
+
+    private static void readLatest(final Path file, final SessionWordConsumer consumer) {
+        int version = SessionProjectionReader.read(file, consumer);
+
+        if (version != SessionFormatVersion.LATEST_VERSION) {
+            throw new VocabHunterException(String.format("Session file '%s' must be upgraded to the latest format before merging", file));
+        }
+    }
+
+    private static void writeMerged(final Path base, final Path output, final MergeState merge) {
+        JsonFactory factory = MAPPER.getFactory();
+
+        try {
+            AtomicFileTool.replace(output, t -> {
+                try (JsonParser parser = factory.createParser(base.toFile());
+                     JsonGenerator generator = factory.createGenerator(t.toFile(), JsonEncoding.UTF8)) {
+                    copySession(parser, generator, merge);
+                }
+            });
+        } catch (final IOException e) {
+            throw new VocabHunterException(String.format("Unable to save file '%s'", output), e);
+        }
+    }
+
+    private static void copySession(final JsonParser parser, final JsonGenerator generator, final MergeState merge) throws IOException {
+        parser.nextToken();
+        generator.writeStartObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+
+            generator.writeFieldName(field);
+            if (FIELD_ORDERED_USES.equals(field) && token == JsonToken.START_ARRAY) {
+                copyWords(parser, generator, merge);
+            } else {
+                generator.copyCurrentStructure(parser);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private static void copyWords(final JsonParser parser, final JsonGenerator generator, final MergeState merge) throws IOException {
+        int index = 0;
+
+        generator.writeStartArray();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            ObjectNode word = MAPPER.readTree(parser);
+
+            if (merge.isChanged(index)) {
+                String note = merge.notes.get(index);
+
+                word.put(FIELD_STATE, merge.states.get(index).name());
+                if (note == null) {
+                    word.remove(FIELD_NOTE);
+                } else {
+                    word.put(FIELD_NOTE, note);
+                }
+            }
+            MAPPER.writeTree(generator, word);
+            index++;
+        }
+        generator.writeEndArray();
+    }
+
+    private static int rank(final WordState state) {
+        switch (state) {
+            case UNKNOWN:
+                return 2;
+            case KNOWN:
+                return 1;
+            default:
+                return 0;
+        }
+    }
+
+    private static final class MergeState {
+        private final Map<String, Integer> indices = new HashMap<>();
+
+        private final List<String> identifiers = new ArrayList<>();
+
+        private final List<WordState> states = new ArrayList<>();
+
+        private final List<String> notes = new ArrayList<>();
+
+        private final Map<Integer, WordChanges> changes = new HashMap<>();
+
+        private int changedCount;
+
+        private int unmatchedCount;
+
+        void addBaseWord(final String identifier, final WordState state, final String note) {
+            indices.putIfAbsent(identifier, identifiers.size());
+            identifiers.add(identifier);
+            states.add(state);
+            notes.add(note);
+        }
+
+        void addDerivedWord(final String identifier, final WordState state, final String note) {
+            Integer index = indices.get(identifier);
+
+            if (index == null) {
+                unmatchedCount++;
+            } else {
+                if (state != states.get(index)) {
+                    changes.computeIfAbsent(index, i -> new WordChanges()).addState(state);
+                }
+                if (!Objects.equals(note, notes.get(index))) {
+                    changes.computeIfAbsent(index, i -> new WordChanges()).addNote(note);
+                }
+            }
+        }
+
+        void resolve() {
+            changes.forEach((index, change) -> {
+                if (change.state != null) {
+                    states.set(index, change.state);
+                }
+                if (!change.notes.isEmpty()) {
+                    notes.set(index, change.mergedNote());
+                }
+            });
+            changedCount = changes.size();
+        }
+
+        boolean isChanged(final int index) {
+            return changes.containsKey(index);
+        }
+
+        List<String> conflicts() {
+            List<String> result = new ArrayList<>();
+
+            for (int i = 0; i < identifiers.size(); i++) {
+                WordChanges change = changes.get(i);
+
+                if (change != null && change.isConflict()) {
+                    result.add(identifiers.get(i));
+                }
+            }
+
+            return result;
+        }
+
+        List<String> wordsInState(final WordState state) {
+            List<String> result = new ArrayList<>();
+
+            for (int i = 0; i < identifiers.size(); i++) {
+                if (states.get(i) == state) {
+                    result.add(identifiers.get(i));
+                }
+            }
+
+            return result;
+        }
+    }
+
+    private static final class WordChanges {
+        private WordState state;
+
+        private boolean isStateConflict;
+
+        private final List<String> notes = new ArrayList<>();
+
+        void addState(final WordState newState) {
+            if (state == null) {
+                state = newState;
+            } else if (state != newState) {
+                isStateConflict = true;
+                if (rank(newState) > rank(state)) {
+                    state = newState;
+                }
+            }
+        }
+
+        void addNote(final String note) {
+            if (!notes.contains(note)) {
+                notes.add(note);
+            }
+        }
+
+        boolean isConflict() {
+            return isStateConflict || notes.size() > 1;
+        }
+
+        String mergedNote() {
+            if (notes.size() == 1) {
+                return notes.get(0);
+            } else {
+                return String.join(NOTE_SEPARATOR, notes.stream().filter(Objects::nonNull).toArray(String[]::new));
+            }
+        }
+    }
+}
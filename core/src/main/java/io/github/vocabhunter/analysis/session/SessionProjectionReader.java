@@ -0,0 +1,134 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.github.vocabhunter.analysis.core.VocabHunterException;
+import io.github.vocabhunter.analysis.marked.WordState;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Reads only the word identifiers, states and notes from a session file.
+ * The lines, uses and line numbers are skipped at the token level, so no
+ * sentences are materialised.  Identifiers are returned exactly as stored,
+ * without applying any format upgrade.
+ */
+public final class SessionProjectionReader {
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private static final String FIELD_FORMAT_VERSION = "formatVersion";
+
+    private static final String FIELD_ORDERED_USES = "orderedUses";
+
+    private static final String FIELD_WORD_IDENTIFIER = "wordIdentifier";
+
+    private static final String FIELD_STATE = "state";
+
+    private static final String FIELD_NOTE = "note";
+
+    private SessionProjectionReader() {
+        // Prevent instantiation - all methods are static
+    }
+
+    public static List<String> readWords(final Path file, final Predicate<WordState> filter) {
+        List<String> words = new ArrayList<>();
+
+        read(file, (identifier, state) -> {
+            if (filter.test(state)) {
+                words.add(identifier);
+            }
+        });
+
+        return words;
+    }
+
+    public static void read(final Path file, final BiConsumer<String, WordState> consumer) {
+        read(file, (identifier, state, note) -> consumer.accept(identifier, state));
+    }
+
+    /**
+     * Streams every word to the consumer and returns the format version.
+     */
+    public static int read(final Path file, final SessionWordConsumer consumer) {
+        int version;
+
+        try (JsonParser parser = FACTORY.createParser(file.toFile())) {
+            version = readSession(parser, consumer);
+        } catch (final IOException | IllegalArgumentException e) {
+            throw new VocabHunterException(String.format("Unable to load file '%s'", file), e);
+        }
+        if (version < 1 || version > SessionFormatVersion.LATEST_VERSION) {
+            throw new VocabHunterException("This file was created with a newer version of VocabHunter.  Please upgrade and try again.");
+        }
+
+        return version;
+    }
+
+    private static int readSession(final JsonParser parser, final SessionWordConsumer consumer) throws IOException {
+        int version = SessionFormatVersion.LATEST_VERSION;
+
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+
+            if (FIELD_FORMAT_VERSION.equals(field)) {
+                version = parser.getValueAsInt();
+            } else if (FIELD_ORDERED_USES.equals(field) && token == JsonToken.START_ARRAY) {
+                readOrderedUses(parser, consumer);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return version;
+    }
+
+    private static void readOrderedUses(final JsonParser parser, final SessionWordConsumer consumer) throws IOException {
+        JsonToken token = parser.nextToken();
+
+        while (token != JsonToken.END_ARRAY) {
+            expect(parser, token, JsonToken.START_OBJECT);
+            readWord(parser, consumer);
+            token = parser.nextToken();
+        }
+    }
+
+    private static void readWord(final JsonParser parser, final SessionWordConsumer consumer) throws IOException {
+        String identifier = null;
+        WordState state = WordState.UNSEEN;
+        String note = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+
+            parser.nextToken();
+            if (FIELD_WORD_IDENTIFIER.equals(field)) {
+                identifier = parser.getValueAsString();
+            } else if (FIELD_STATE.equals(field)) {
+                state = WordState.valueOf(parser.getText());
+            } else if (FIELD_NOTE.equals(field)) {
+                note = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        consumer.accept(identifier, state, note);
+    }
+
+    private static void expect(final JsonParser parser, final JsonToken actual, final JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException(String.format("Expected %s but found %s at %s", expected, actual, parser.getCurrentLocation()));
+        }
+    }
+}
@@ -7,12 +7,14 @@ package io.github.vocabhunter.analysis.session;
 import io.github.vocabhunter.analysis.core.FileTool;
 import io.github.vocabhunter.analysis.core.PreferredFormTool;
 import io.github.vocabhunter.analysis.core.VocabHunterException;
-import io.github.vocabhunter.analysis.marked.MarkedWord;
+import io.github.vocabhunter.analysis.marked.WordState;
 import io.github.vocabhunter.analysis.simple.WordStreamTool;
 
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import static io.github.vocabhunter.analysis.session.SessionFormatVersion.*;
 import static java.util.stream.Collectors.toList;
@@ -24,13 +26,11 @@ public final class SessionSerialiser {
 
     public static void write(final Path file, final SessionState state) {
         FileTool.writeAsJson(file, state, "Unable to save file '%s'");
+        SessionIndexTool.write(file, state);
     }
 
-    public static List<String> readWords(final Path file, final Predicate<MarkedWord> filter) {
-        return readSessionState(file).getOrderedUses().stream()
-            .filter(filter)
-            .map(MarkedWord::getWordIdentifier)
-            .collect(toList());
+    public static List<String> readWords(final Path file, final Predicate<WordState> filter) {
+        return SessionProjectionReader.readWords(file, filter);
     }
 
     public static List<SessionWord> readMarkedWords(final Path file) {
@@ -42,7 +42,11 @@ public final class SessionSerialiser {
     }
 
     private static SessionState readInternal(final Path file) {
-        SessionState state = readSessionState(file);
+        return upgrade(readSessionState(file));
+    }
+
+    static SessionState upgrade(final SessionState original) {
+        SessionState state = original;
         int originalVersion = state.getFormatVersion();
 
         if (originalVersion == FORMAT_1 || originalVersion == FORMAT_2) {
@@ -58,7 +62,7 @@ public final class SessionSerialiser {
         return state;
     }
 
-    private static SessionState readSessionState(final Path file) {
+    static SessionState readSessionState(final Path file) {
         SessionState state = FileTool.readFromJson(SessionState.class, file, "Unable to load file '%s'");
         int version = state.getFormatVersion();
 
@@ -71,8 +75,15 @@ public final class SessionSerialiser {
 
     private static SessionState upgradeVersion1And2(final SessionState original) {
         SessionState state = new SessionState();
-        List<SessionWord> words = original.getOrderedUses().stream()
-            .map(SessionSerialiser::upgradeVersion1And2)
+        List<SessionWord> originalWords = original.getOrderedUses();
+        LineListTool<SessionWord> tool = new LineListTool<>(originalWords, SessionWord::getUses);
+        List<String> lines = tool.getLines();
+        String[][] lineWords = IntStream.range(0, lines.size())
+            .parallel()
+            .mapToObj(i -> WordStreamTool.words(lines.get(i)).toArray(String[]::new))
+            .toArray(String[][]::new);
+        List<SessionWord> words = originalWords.parallelStream()
+            .map(w -> upgradeVersion1And2(tool, lineWords, w))
             .sorted(WordStreamTool.WORD_COMPARATOR)
             .collect(toList());
 
@@ -83,14 +94,25 @@ public final class SessionSerialiser {
         return state;
     }
 
-    private static SessionWord upgradeVersion1And2(final SessionWord original) {
+    private static SessionWord upgradeVersion1And2(final LineListTool<SessionWord> tool, final String[][] lineWords, final SessionWord original) {
         SessionWord word = new SessionWord();
-        String identifier = original.getWordIdentifier();
+        String oldIdentifier = original.getWordIdentifier();
         List<String> uses = original.getUses();
+        String identifier = null;
+        int count = 0;
+
+        for (String use : uses) {
+            for (String w : lineWords[tool.getLineNo(use)]) {
+                if (w.equalsIgnoreCase(oldIdentifier)) {
+                    identifier = identifier == null ? w : PreferredFormTool.preferredForm(identifier, w);
+                    count++;
+                }
+            }
+        }
 
-        word.setWordIdentifier(identifier(identifier, uses));
+        word.setWordIdentifier(identifier == null ? oldIdentifier : identifier);
         word.setUses(uses);
-        word.setUseCount(countWords(identifier, uses));
+        word.setUseCount(count);
         word.setState(original.getState());
 
         return word;
@@ -98,8 +120,9 @@ public final class SessionSerialiser {
 
     private static SessionState upgradeVersion3(final SessionState original) {
         SessionState state = new SessionState();
-        LineListTool<SessionWord> tool = new LineListTool<>(original.getOrderedUses(), SessionWord::getUses);
-        List<SessionWord> words = original.getOrderedUses().stream()
+        List<SessionWord> originalWords = original.getOrderedUses();
+        LineListTool<SessionWord> tool = new LineListTool<>(originalWords, SessionWord::getUses);
+        List<SessionWord> words = originalWords.parallelStream()
             .map(w -> upgradeVersion3(tool, w))
             .collect(toList());
 
@@ -112,34 +135,21 @@ public final class SessionSerialiser {
     }
 
     private static SessionWord upgradeVersion3(final LineListTool<SessionWord> tool, final SessionWord original) {
-        List<Integer> lineNos = original.getUses().stream()
-            .map(tool::getLineNo)
-            .collect(toList());
+        List<String> uses = original.getUses();
+        Integer[] lineNos = new Integer[uses.size()];
         SessionWord word = new SessionWord();
 
+        for (int i = 0; i < lineNos.length; i++) {
+            lineNos[i] = tool.getLineNo(uses.get(i));
+        }
         word.setWordIdentifier(original.getWordIdentifier());
         word.setState(original.getState());
         word.setUseCount(original.getUseCount());
-        word.setLineNos(lineNos);
+        word.setLineNos(Arrays.asList(lineNos));
 
         return word;
     }
 
-    private static int countWords(final String identifier, final List<String> uses) {
-        return (int) uses.stream()
-            .flatMap(WordStreamTool::words)
-            .filter(w -> w.equalsIgnoreCase(identifier))
-            .count();
-    }
-
-    private static String identifier(final String oldIdentifier, final List<String> uses) {
-        return uses.stream()
-            .flatMap(WordStreamTool::words)
-            .filter(w -> w.equalsIgnoreCase(oldIdentifier))
-            .reduce(PreferredFormTool::preferredForm)
-            .orElse(oldIdentifier);
-    }
-
     private static void upgradeVersion4(final SessionState original) {
         original.setFormatVersion(FORMAT_5);
     }
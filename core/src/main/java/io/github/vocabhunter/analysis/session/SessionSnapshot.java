@@ -0,0 +1,47 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A frozen view of a {@link LiveSessionState}, safe to read from any thread.
+ */
+public final class SessionSnapshot {
+    private final SessionState base;
+
+    private final SessionMarks marks;
+
+    private final long modificationCount;
+
+    SessionSnapshot(final SessionState base, final SessionMarks marks, final long modificationCount) {
+        this.base = base;
+        this.marks = marks;
+        this.modificationCount = modificationCount;
+    }
+
+    long getModificationCount() {
+        return modificationCount;
+    }
+
+    public SessionState toSessionState() {
+        List<SessionWord> baseWords = base.rawOrderedUses();
+        List<SessionWord> words = new ArrayList<>(baseWords.size());
+
+        for (int i = 0; i < baseWords.size(); i++) {
+            words.add(new SessionWord(baseWords.get(i), marks.getState(i), marks.getNote(i)));
+        }
+
+        SessionState state = new SessionState();
+
+        state.setFormatVersion(base.getFormatVersion());
+        state.setName(base.getName());
+        state.setLines(base.rawLines());
+        state.setOrderedUses(words);
+
+        return state;
+    }
+}
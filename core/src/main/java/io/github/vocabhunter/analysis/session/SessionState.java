@@ -11,8 +11,7 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
-import java.util.*;
-import java.util.function.Function;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -66,6 +65,14 @@ public class SessionState {
         return List.copyOf(lines);
     }
 
+    List<SessionWord> rawOrderedUses() {
+        return orderedUses;
+    }
+
+    List<String> rawLines() {
+        return lines;
+    }
+
     public void setLines(final List<String> lines) {
         this.lines = List.copyOf(lines);
     }
@@ -91,45 +98,7 @@ public class SessionState {
     }
 
     public boolean isEquivalent(final SessionState that) {
-        return formatVersion == that.formatVersion
-            && name.equals(that.name)
-            && isEquivalentLines(lines, that.lines)
-            && isEquivalentUses(orderedUses, that.orderedUses, this.lines, that.lines);
-    }
-
-    private static boolean isEquivalentLines(final List<String> lhs, final List<String> rhs) {
-        Set<String> lhsSet = new HashSet<>(lhs);
-        Set<String> rhsSet = new HashSet<>(rhs);
-
-        return lhsSet.equals(rhsSet);
-    }
-
-    private static boolean isEquivalentUses(final List<SessionWord> lhs, final List<SessionWord> rhs, final List<String> lhsLines, final List<String> rhsLines) {
-        if (lhs.size() != rhs.size()) {
-            return false;
-        }
-        Iterator<SessionWord> lhsI = lhs.iterator();
-        Iterator<SessionWord> rhsI = rhs.iterator();
-
-        while (lhsI.hasNext()) {
-            SessionWord lhsWord = lhsI.next();
-            SessionWord rhsWord = rhsI.next();
-
-            Function<SessionWord, List<?>> lhsF = extractor(lhsLines);
-            Function<SessionWord, List<?>> rhsF = extractor(rhsLines);
-
-            if (!lhsWord.isEquivalent(rhsWord, lhsF, rhsF)) {
-                return false;
-            }
-        }
-
-        return true;
-    }
-
-    private static Function<SessionWord, List<?>> extractor(final List<String> lhsLines) {
-        return w -> w.getLineNos().stream()
-                    .map(lhsLines::get)
-                    .collect(Collectors.toList());
+        return SessionDiffTool.isEquivalent(this, that);
     }
 
     @Override
@@ -0,0 +1,10 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+@FunctionalInterface
+public interface SessionUpgradeListener {
+    void fileCompleted(int fileNo, int fileCount, SessionUpgradeResult result);
+}
@@ -0,0 +1,108 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+public final class SessionUpgradeResult {
+    private final Path file;
+
+    private final int originalVersion;
+
+    private final int wordCount;
+
+    private final long durationMillis;
+
+    private final String error;
+
+    private SessionUpgradeResult(final Path file, final int originalVersion, final int wordCount, final long durationMillis, final String error) {
+        this.file = file;
+        this.originalVersion = originalVersion;
+        this.wordCount = wordCount;
+        this.durationMillis = durationMillis;
+        this.error = error;
+    }
+
+    public static SessionUpgradeResult success(final Path file, final int originalVersion, final int wordCount, final long durationMillis) {
+        return new SessionUpgradeResult(file, originalVersion, wordCount, durationMillis, null);
+    }
+
+    public static SessionUpgradeResult failure(final Path file, final long durationMillis, final String error) {
+        return new SessionUpgradeResult(file, 0, 0, durationMillis, error);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public int getOriginalVersion() {
+        return originalVersion;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public Optional<String> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    public boolean isUpgraded() {
+        return error == null && originalVersion < SessionFormatVersion.LATEST_VERSION;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        SessionUpgradeResult that = (SessionUpgradeResult) o;
+
+        return new EqualsBuilder()
+            .append(originalVersion, that.originalVersion)
+            .append(wordCount, that.wordCount)
+            .append(durationMillis, that.durationMillis)
+            .append(file, that.file)
+            .append(error, that.error)
+            .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+            .append(file)
+            .append(originalVersion)
+            .append(wordCount)
+            .append(durationMillis)
+            .append(error)
+            .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.MULTI_LINE_STYLE)
+            .append("file", file)
+            .append("originalVersion", originalVersion)
+            .append("wordCount", wordCount)
+            .append("durationMillis", durationMillis)
+            .append("error", error)
+            .toString();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import io.github.vocabhunter.analysis.core.FileTool;
+import io.github.vocabhunter.analysis.core.VocabHunterException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static io.github.vocabhunter.analysis.session.FileNameTool.filename;
+import static java.util.stream.Collectors.toList;
+
+public final class SessionUpgradeTool {
+    private static final Logger LOG = LoggerFactory.getLogger(SessionUpgradeTool.class);
+
+    private SessionUpgradeTool() {
+        // Prevent instantiation - all methods are static
+    }
+
+    public static List<Path> listSessionFiles(final Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(Files::isRegularFile)
+                .filter(FileNameTool::isSessionFile)
+                .sorted()
+                .collect(toList());
+        } catch (final IOException e) {
+            throw new VocabHunterException(String.format("Unable to list directory '%s'", directory), e);
+        }
+    }
+
+    /**
+     * Upgrades the session files of a directory in parallel, returning the
+     * results in file order.  The listener is called once for each file, in
+     * the order the files complete, and never from two threads at once.
+     */
+    public static List<SessionUpgradeResult> upgradeDirectory(final Path source, final Path target, final SessionUpgradeListener listener) {
+        List<Path> files = listSessionFiles(source);
+        ProgressReporter reporter = new ProgressReporter(listener, files.size());
+
+        createDirectory(target);
+
+        return files.parallelStream()
+            .map(f -> reporter.completed(upgradeFile(f, target.resolve(filename(f)))))
+            .collect(toList());
+    }
+
+    /**
+     * Upgrades one session file.  The target is replaced by an atomic move
+     * from a temporary file in the same directory, so that upgrading in place
+     * never leaves a partly written session behind.
+     */
+    public static SessionUpgradeResult upgradeFile(final Path source, final Path target) {
+        Instant start = Instant.now();
+
+        try {
+            SessionState original = SessionSerialiser.readSessionState(source);
+            int originalVersion = original.getFormatVersion();
+            SessionState upgraded = SessionSerialiser.upgrade(original);
+
+            if (originalVersion < SessionFormatVersion.LATEST_VERSION) {
+                AtomicFileTool.replace(target, t -> FileTool.writeAsJson(t, upgraded, "Unable to save file '%s'"));
+                SessionIndexTool.write(target, upgraded);
+            } else if (!isSameFile(source, target)) {
+                AtomicFileTool.replace(target, t -> Files.copy(source, t, StandardCopyOption.REPLACE_EXISTING));
+            }
+
+            return SessionUpgradeResult.success(source, originalVersion, upgraded.getOrderedUses().size(), elapsed(start));
+        } catch (final IOException | RuntimeException e) {
+            LOG.debug("Failed to upgrade '{}'", source, e);
+
+            return SessionUpgradeResult.failure(source, elapsed(start), e.getMessage());
+        }
+    }
+
+    private static boolean isSameFile(final Path source, final Path target) throws IOException {
+        return Files.exists(target) && Files.isSameFile(source, target);
+    }
+
+    private static void createDirectory(final Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (final IOException e) {
+            throw new VocabHunterException(String.format("Unable to create directory '%s'", directory), e);
+        }
+    }
+
+    private static long elapsed(final Instant start) {
+        return Duration.between(start, Instant.now()).toMillis();
+    }
+
+    private static final class ProgressReporter {
+        private final Object lock = new Object();
+
+        private final SessionUpgradeListener listener;
+
+        private final int fileCount;
+
+        private int completedCount;
+
+        private ProgressReporter(final SessionUpgradeListener listener, final int fileCount) {
+            this.listener = listener;
+            this.fileCount = fileCount;
+        }
+
+        private SessionUpgradeResult completed(final SessionUpgradeResult result) {
+            synchronized (lock) {
+                completedCount++;
+                listener.fileCompleted(completedCount, fileCount, result);
+            }
+
+            return result;
+        }
+    }
+}
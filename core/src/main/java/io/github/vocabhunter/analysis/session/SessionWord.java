@@ -40,6 +40,15 @@ public class SessionWord implements MarkedWord {
         useCount = use.getUseCount();
     }
 
+    SessionWord(final SessionWord source, final WordState state, final String note) {
+        wordIdentifier = source.wordIdentifier;
+        uses = source.uses;
+        lineNos = source.lineNos;
+        useCount = source.useCount;
+        this.state = state;
+        this.note = note;
+    }
+
     @Override
     public String getWordIdentifier() {
         return wordIdentifier;
@@ -61,6 +70,14 @@ public class SessionWord implements MarkedWord {
         return List.copyOf(lineNos);
     }
 
+    List<Integer> rawLineNos() {
+        return lineNos;
+    }
+
+    List<String> rawUses() {
+        return uses;
+    }
+
     @Override
     public int getUseCount() {
         return useCount;
@@ -0,0 +1,115 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import io.github.vocabhunter.analysis.marked.WordState;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.util.Objects;
+
+public final class SessionWordChange {
+    private final String wordIdentifier;
+
+    private final WordState beforeState;
+
+    private final WordState afterState;
+
+    private final String beforeNote;
+
+    private final String afterNote;
+
+    private final boolean isUsesChanged;
+
+    public SessionWordChange(final String wordIdentifier, final WordState beforeState, final WordState afterState,
+                             final String beforeNote, final String afterNote, final boolean isUsesChanged) {
+        this.wordIdentifier = wordIdentifier;
+        this.beforeState = beforeState;
+        this.afterState = afterState;
+        this.beforeNote = beforeNote;
+        this.afterNote = afterNote;
+        this.isUsesChanged = isUsesChanged;
+    }
+
+    public String getWordIdentifier() {
+        return wordIdentifier;
+    }
+
+    public WordState getBeforeState() {
+        return beforeState;
+    }
+
+    public WordState getAfterState() {
+        return afterState;
+    }
+
+    public String getBeforeNote() {
+        return beforeNote;
+    }
+
+    public String getAfterNote() {
+        return afterNote;
+    }
+
+    public boolean isStateChanged() {
+        return beforeState != afterState;
+    }
+
+    public boolean isNoteChanged() {
+        return !Objects.equals(beforeNote, afterNote);
+    }
+
+    public boolean isUsesChanged() {
+        return isUsesChanged;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        SessionWordChange that = (SessionWordChange) o;
+
+        return new EqualsBuilder()
+            .append(isUsesChanged, that.isUsesChanged)
+            .append(wordIdentifier, that.wordIdentifier)
+            .append(beforeState, that.beforeState)
+            .append(afterState, that.afterState)
+            .append(beforeNote, that.beforeNote)
+            .append(afterNote, that.afterNote)
+            .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+            .append(wordIdentifier)
+            .append(beforeState)
+            .append(afterState)
+            .append(beforeNote)
+            .append(afterNote)
+            .append(isUsesChanged)
+            .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.MULTI_LINE_STYLE)
+            .append("wordIdentifier", wordIdentifier)
+            .append("beforeState", beforeState)
+            .append("afterState", afterState)
+            .append("beforeNote", beforeNote)
+            .append("afterNote", afterNote)
+            .append("isUsesChanged", isUsesChanged)
+            .toString();
+    }
+}
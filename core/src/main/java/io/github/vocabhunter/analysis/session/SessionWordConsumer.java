@@ -0,0 +1,12 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import io.github.vocabhunter.analysis.marked.WordState;
+
+@FunctionalInterface
+public interface SessionWordConsumer {
+    void accept(String wordIdentifier, WordState state, String note);
+}
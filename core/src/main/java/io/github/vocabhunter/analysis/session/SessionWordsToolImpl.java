@@ -5,12 +5,12 @@
 package io.github.vocabhunter.analysis.session;
 
 import io.github.vocabhunter.analysis.core.VocabHunterException;
-import io.github.vocabhunter.analysis.marked.MarkedWord;
 import io.github.vocabhunter.analysis.marked.WordState;
 
 import java.nio.file.Path;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import javax.inject.Singleton;
 
 import static io.github.vocabhunter.analysis.session.FileNameTool.filename;
@@ -19,21 +19,25 @@ import static io.github.vocabhunter.analysis.session.FileNameTool.filename;
 public class SessionWordsToolImpl implements SessionWordsTool {
     @Override
     public List<String> knownWords(final Path file) {
-        return guardRead(f -> SessionSerialiser.readWords(f, SessionWordsToolImpl::isKnown), file);
+        return guardRead(f -> readWords(f, SessionIndex::getKnownWords, SessionWordsToolImpl::isKnown), file);
     }
 
     @Override
     public List<String> seenWords(final Path file) {
-        return guardRead(f -> SessionSerialiser.readWords(f, SessionWordsToolImpl::isSeen), file);
+        return guardRead(f -> readWords(f, SessionIndex::getSeenWords, SessionWordsToolImpl::isSeen), file);
     }
 
-    private static boolean isKnown(final MarkedWord w) {
-        return w.getState().equals(WordState.KNOWN);
+    private static List<String> readWords(final Path file, final Function<SessionIndex, List<String>> indexReader, final Predicate<WordState> filter) {
+        return SessionIndexTool.read(file)
+            .map(indexReader)
+            .orElseGet(() -> SessionSerialiser.readWords(file, filter));
     }
 
-    private static boolean isSeen(final MarkedWord w) {
-        WordState state = w.getState();
+    private static boolean isKnown(final WordState state) {
+        return state.equals(WordState.KNOWN);
+    }
 
+    private static boolean isSeen(final WordState state) {
         return state.equals(WordState.KNOWN) || state.equals(WordState.UNKNOWN);
     }
 
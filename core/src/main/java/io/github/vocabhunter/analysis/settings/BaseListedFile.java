@@ -20,7 +20,8 @@ import java.nio.file.Path;
 @JsonSubTypes({
     @JsonSubTypes.Type(value = SessionListedFile.class, name = "SESSION"),
     @JsonSubTypes.Type(value = DocumentListedFile.class, name = "DOCUMENT"),
-    @JsonSubTypes.Type(value = ExcelListedFile.class, name = "EXCEL")})
+    @JsonSubTypes.Type(value = ExcelListedFile.class, name = "EXCEL"),
+    @JsonSubTypes.Type(value = DelimitedListedFile.class, name = "DELIMITED")})
 public class BaseListedFile {
     private final Path file;
 
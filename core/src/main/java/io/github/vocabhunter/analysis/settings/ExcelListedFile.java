@@ -13,24 +13,61 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.TreeSet;
 
+/**
+ * A spreadsheet word list, with the chosen columns of each chosen sheet.  The
+ * columns of the first sheet are also saved as {@code columns}, which is all
+ * that file lists written before sheets could be chosen contain.
+ */
 public final class ExcelListedFile extends BaseListedFile {
-    private final Set<Integer> columns;
+    private static final int FIRST_SHEET = 0;
+
+    private final SortedMap<Integer, Set<Integer>> sheets = new TreeMap<>();
+
+    public ExcelListedFile(final Path file, final Collection<Integer> columns) {
+        this(file, Map.of(FIRST_SHEET, columns));
+    }
+
+    public ExcelListedFile(final Path file, final Map<Integer, ? extends Collection<Integer>> sheets) {
+        super(file);
+        sheets.forEach((sheet, columns) -> {
+            if (!columns.isEmpty()) {
+                this.sheets.put(sheet, Collections.unmodifiableSet(new TreeSet<>(columns)));
+            }
+        });
+    }
 
     @JsonCreator
-    public ExcelListedFile(
+    private ExcelListedFile(
         @JsonProperty("file")
         final Path file,
         @JsonProperty("columns")
-        final Collection<Integer> columns) {
-        super(file);
-        this.columns = new TreeSet<>(columns);
+        final Collection<Integer> columns,
+        @JsonProperty("sheets")
+        final Map<Integer, ? extends Collection<Integer>> sheets) {
+        this(file, sheetsOrColumns(columns, sheets));
+    }
+
+    private static Map<Integer, ? extends Collection<Integer>> sheetsOrColumns(
+        final Collection<Integer> columns, final Map<Integer, ? extends Collection<Integer>> sheets) {
+        if (sheets == null) {
+            return Map.of(FIRST_SHEET, columns);
+        } else {
+            return sheets;
+        }
     }
 
     public Set<Integer> getColumns() {
-        return Collections.unmodifiableSet(columns);
+        return sheets.getOrDefault(FIRST_SHEET, Set.of());
+    }
+
+    public SortedMap<Integer, Set<Integer>> getSheets() {
+        return Collections.unmodifiableSortedMap(sheets);
     }
 
     @Override
@@ -47,7 +84,7 @@ public final class ExcelListedFile extends BaseListedFile {
 
         return new EqualsBuilder()
             .appendSuper(super.equals(o))
-            .append(columns, that.columns)
+            .append(sheets, that.sheets)
             .isEquals();
     }
 
@@ -55,7 +92,7 @@ public final class ExcelListedFile extends BaseListedFile {
     public int hashCode() {
         return new HashCodeBuilder()
             .appendSuper(super.hashCode())
-            .append(columns)
+            .append(sheets)
             .toHashCode();
     }
 
@@ -63,7 +100,7 @@ public final class ExcelListedFile extends BaseListedFile {
     public String toString() {
         return new ToStringBuilder(this)
             .append("file", getFile())
-            .append("columns", columns)
+            .append("sheets", sheets)
             .toString();
     }
 }
@@ -0,0 +1,181 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.settings;
+
+import io.github.vocabhunter.analysis.core.VocabHunterException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Watches the directories holding the filter files and reports each changed
+ * file once it has been quiet for the debounce period, so that a burst of
+ * writes from an editor or a save results in a single notification.
+ */
+public final class FilterFileWatcher implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(FilterFileWatcher.class);
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Duration debounce;
+
+    private final Consumer<Path> listener;
+
+    private final WatchService watchService;
+
+    private final Object lock = new Object();
+
+    private final Set<Path> files = new HashSet<>();
+
+    private final Map<Path, WatchKey> directoryKeys = new HashMap<>();
+
+    private final Map<Path, ScheduledFuture<?>> pending = new HashMap<>();
+
+    private Thread thread;
+
+    public FilterFileWatcher(final ScheduledExecutorService scheduler, final Duration debounce, final Consumer<Path> listener) {
+        this.scheduler = scheduler;
+        this.debounce = debounce;
+        this.listener = listener;
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (final IOException e) {
+            throw new VocabHunterException("Unable to watch filter files", e);
+        }
+    }
+
+    public void watch(final Collection<Path> newFiles) {
+        synchronized (lock) {
+            files.clear();
+            for (Path file : newFiles) {
+                files.add(file.toAbsolutePath().normalize());
+            }
+
+            Set<Path> directories = new HashSet<>();
+
+            for (Path file : files) {
+                directories.add(file.getParent());
+            }
+            removeUnusedDirectories(directories);
+            for (Path directory : directories) {
+                directoryKeys.computeIfAbsent(directory, this::register);
+            }
+            if (thread == null) {
+                thread = new Thread(this::processEvents, "filter-file-watcher");
+                thread.setDaemon(true);
+                thread.start();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (final IOException e) {
+            LOG.debug("Unable to close filter file watcher", e);
+        }
+    }
+
+    private void removeUnusedDirectories(final Set<Path> directories) {
+        Iterator<Map.Entry<Path, WatchKey>> iterator = directoryKeys.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            Map.Entry<Path, WatchKey> entry = iterator.next();
+
+            if (!directories.contains(entry.getKey())) {
+                entry.getValue().cancel();
+                iterator.remove();
+            }
+        }
+    }
+
+    private WatchKey register(final Path directory) {
+        try {
+            return directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+        } catch (final IOException | RuntimeException e) {
+            LOG.warn("Unable to watch directory '{}'", directory, e);
+
+            return null;
+        }
+    }
+
+    private void processEvents() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+
+                processKey(key);
+                key.reset();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ClosedWatchServiceException e) {
+            LOG.debug("Filter file watcher closed");
+        }
+    }
+
+    private void processKey(final WatchKey key) {
+        Path directory = (Path) key.watchable();
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                scheduleDirectory(directory);
+            } else {
+                schedule(directory.resolve((Path) event.context()));
+            }
+        }
+    }
+
+    private void scheduleDirectory(final Path directory) {
+        synchronized (lock) {
+            for (Path file : files) {
+                if (file.getParent().equals(directory)) {
+                    schedule(file);
+                }
+            }
+        }
+    }
+
+    private void schedule(final Path file) {
+        synchronized (lock) {
+            if (files.contains(file)) {
+                ScheduledFuture<?> previous = pending.put(file, scheduler.schedule(() -> notifyListener(file), debounce.toMillis(), TimeUnit.MILLISECONDS));
+
+                if (previous != null) {
+                    previous.cancel(false);
+                }
+            }
+        }
+    }
+
+    private void notifyListener(final Path file) {
+        synchronized (lock) {
+            pending.remove(file);
+        }
+        LOG.info("Filter file changed ({})", file);
+        listener.accept(file);
+    }
+}
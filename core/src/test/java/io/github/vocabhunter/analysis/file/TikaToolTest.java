@@ -4,15 +4,20 @@
 
 package io.github.vocabhunter.analysis.file;
 
+import io.github.vocabhunter.analysis.core.VocabHunterException;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.Reader;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class TikaToolTest {
     private static final Pattern SPACE_PATTERN = Pattern.compile("\\s+");
@@ -33,6 +38,26 @@ public class TikaToolTest {
         assertEquals(TEXT, result, "Lines from file");
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"sample.txt", "sample.doc", "sample.odt", "sample.pdf", "empty.txt"})
+    public void testOpenReader(final String file) throws Exception {
+        Path path = getFile(file);
+        String streamed;
+
+        try (Reader reader = target.openReader(path)) {
+            streamed = IOUtils.toString(reader);
+        }
+
+        assertEquals(target.read(path), streamed, "Streamed text");
+    }
+
+    @Test
+    public void testOpenMissingFile() throws Exception {
+        Path path = getFile("sample.txt").resolveSibling("missing.txt");
+
+        assertThrows(VocabHunterException.class, () -> target.openReader(path));
+    }
+
     private Path getFile(final String fileName) throws Exception {
         URL resource = TikaToolTest.class.getResource("/" + fileName);
 
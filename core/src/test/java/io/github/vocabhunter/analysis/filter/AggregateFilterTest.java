@@ -0,0 +1,105 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.filter;
+
+import io.github.vocabhunter.analysis.model.AnalysisWord;
+import io.github.vocabhunter.analysis.model.WordUse;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AggregateFilterTest {
+    private static final int WORD_COUNT = 10_000;
+
+    private static final List<AnalysisWord> WORDS = IntStream.range(0, WORD_COUNT)
+        .mapToObj(i -> new WordUse("word" + i, i % 10 + 1, List.of()))
+        .collect(toList());
+
+    private final CountingFilter expensive = new CountingFilter(w -> slowCheck(w.getWordIdentifier()));
+
+    private final CountingFilter selective = new CountingFilter(w -> w.getUseCount() > 9);
+
+    private final AggregateFilter target = new AggregateFilter(List.of(expensive, selective));
+
+    @Test
+    public void testInitialPlan() {
+        List<FilterStatistics> plan = target.getPlan();
+
+        assertAll(
+            () -> assertEquals(2, plan.size(), "Size"),
+            () -> assertEquals(0, plan.get(0).getEvaluations(), "Evaluations")
+        );
+    }
+
+    @Test
+    public void testReorder() {
+        long shown = WORDS.stream().filter(target::isShown).count();
+        int expensiveCalls = expensive.calls;
+
+        WORDS.forEach(target::isShown);
+
+        List<FilterStatistics> plan = target.getPlan();
+
+        assertAll(
+            () -> assertEquals(WORD_COUNT / 10, shown, "Shown"),
+            () -> assertEquals(List.of("CountingFilter", "CountingFilter"), plan.stream().map(FilterStatistics::getName).collect(toList()), "Names"),
+            () -> assertTrue(plan.get(0).getRejectionRate() > 0.5, "Selective filter first"),
+            () -> assertTrue(expensive.calls - expensiveCalls < WORD_COUNT / 2, "Expensive filter skipped")
+        );
+    }
+
+    @Test
+    public void testResultUnchangedByPlan() {
+        List<Boolean> before = WORDS.stream().map(target::isShown).collect(toList());
+        List<Boolean> after = WORDS.stream().map(target::isShown).collect(toList());
+
+        assertEquals(before, after);
+    }
+
+    @Test
+    public void testHide() {
+        WordFeatures features = WordFeatures.fromWords(WORDS);
+        BitSet shown = features.shownWords(target);
+        List<FilterStatistics> plan = target.getPlan();
+
+        assertAll(
+            () -> assertEquals(WORD_COUNT / 10, shown.cardinality(), "Shown"),
+            () -> assertTrue(plan.get(0).getRejectionRate() > 0.5, "Selective filter first"),
+            () -> assertEquals(shown, features.shownWords(target), "Repeated")
+        );
+    }
+
+    private static boolean slowCheck(final String identifier) {
+        int hash = 0;
+
+        for (int i = 0; i < 100; i++) {
+            hash = hash * 31 + identifier.hashCode();
+        }
+
+        return hash != 1;
+    }
+
+    private static final class CountingFilter implements WordFilter {
+        private final WordFilter delegate;
+
+        private int calls;
+
+        private CountingFilter(final WordFilter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean isShown(final AnalysisWord word) {
+            calls++;
+
+            return delegate.isShown(word);
+        }
+    }
+}
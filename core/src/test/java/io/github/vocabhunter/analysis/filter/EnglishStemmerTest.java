@@ -0,0 +1,56 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.filter;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class EnglishStemmerTest {
+    @ParameterizedTest
+    @CsvSource({
+        // Short words are unchanged
+        "a,          a",
+        "is,         is",
+
+        // Plurals
+        "caresses,   caress",
+        "ponies,     poni",
+        "caress,     caress",
+        "cats,       cat",
+
+        // Endings
+        "feed,       feed",
+        "agreed,     agree",
+        "plastered,  plaster",
+        "bled,       bled",
+        "motoring,   motor",
+        "sing,       sing",
+        "conflated,  conflate",
+        "troubled,   trouble",
+        "sized,      size",
+        "hopping,    hop",
+        "falling,    fall",
+        "hissing,    hiss",
+        "filing,     file",
+        "failing,    fail",
+
+        // Final y
+        "happy,      happi",
+        "sky,        sky",
+
+        // Forms sharing a stem
+        "run,        run",
+        "runs,       run",
+        "running,    run",
+        "make,       make",
+        "making,     make",
+        "makes,      make"
+    })
+    public void testStem(final String word, final String expected) {
+        assertEquals(expected, EnglishStemmer.stem(word));
+    }
+}
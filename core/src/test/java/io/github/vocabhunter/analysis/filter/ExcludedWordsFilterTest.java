@@ -11,14 +11,22 @@ import io.github.vocabhunter.analysis.model.WordUse;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class ExcludedWordsFilterTest {
     private static final String ERROR_MESSAGE = "ERROR_MESSAGE";
@@ -44,9 +52,16 @@ public class ExcludedWordsFilterTest {
 
     private final ExecutorService executorService = Executors.newSingleThreadExecutor();
 
+    private final ExecutorService parallelExecutorService = Executors.newFixedThreadPool(2);
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    private final CountDownLatch fastLatch = new CountDownLatch(1);
+
     @AfterEach
     public void tearDown() {
         executorService.shutdown();
+        parallelExecutorService.shutdown();
     }
 
     @Test
@@ -100,19 +115,104 @@ public class ExcludedWordsFilterTest {
             .addExcludedWordsSupplier(this::throwException)
             .build();
 
-        try {
-            filter.isShown(word("test"));
-            fail("No exception thrown");
-        } catch (final VocabHunterException e) {
-            assertEquals(ERROR_MESSAGE, e.getMessage());
+        CompletionException e = assertThrows(CompletionException.class, () -> filter.readiness().join());
+
+        assertAll(
+            () -> assertTrue(filter.isShown(word("test")), "Unfiltered word"),
+            () -> assertEquals(ERROR_MESSAGE, e.getCause().getMessage(), "Message")
+        );
+    }
+
+    @Test
+    public void testPartialExclusions() throws Exception {
+        WordFilter filter = new FilterBuilder()
+            .executor(parallelExecutorService)
+            .addExcludedWordsSupplier(() -> WORDS_1)
+            .addExcludedWordsSupplier(this::waitForLatch)
+            .build();
+
+        while (filter.isShown(word("apple"))) {
+            Thread.sleep(1);
         }
+
+        assertFalse(filter.readiness().isDone(), "Ready before all sources loaded");
+        validateCurrent(filter, List.of(WORDS_2, WORDS_3));
+        latch.countDown();
+        validate(filter, List.of(WORDS_3));
+    }
+
+    @Test
+    public void testLoadListener() throws Exception {
+        BlockingQueue<Integer> revisions = new LinkedBlockingQueue<>();
+        WordFilter filter = new FilterBuilder()
+            .executor(parallelExecutorService)
+            .addExcludedWordsSupplier(this::waitForFastLatch)
+            .addExcludedWordsSupplier(this::waitForLatch)
+            .build();
+
+        filter.addLoadListener(() -> revisions.add(filter.revision()));
+        fastLatch.countDown();
+
+        assertEquals(1, revisions.poll(10, TimeUnit.SECONDS), "Revision after fast source");
+        assertFalse(filter.readiness().isDone(), "Ready before slow source loaded");
+        validateCurrent(filter, List.of(WORDS_2, WORDS_3));
+
+        latch.countDown();
+
+        assertEquals(2, revisions.poll(10, TimeUnit.SECONDS), "Revision after slow source");
+        validate(filter, List.of(WORDS_3));
+    }
+
+    @Test
+    public void testRefresh() {
+        Path file = Paths.get("filter.txt");
+        AtomicReference<List<String>> words = new AtomicReference<>(WORDS_1);
+        WordFilter filter = new FilterBuilder()
+            .executor(executorService)
+            .addExcludedWordsFile(file, words::get)
+            .addExcludedWords(WORDS_2)
+            .build();
+
+        validate(filter, List.of(WORDS_3));
+        words.set(WORDS_3);
+
+        assertAll(
+            () -> assertFalse(filter.refresh(Paths.get("other.txt")).join(), "Unrelated file"),
+            () -> assertTrue(filter.refresh(file).join(), "Filter file"),
+            () -> validateCurrent(filter, List.of(WORDS_1))
+        );
     }
 
     private List<String> throwException() {
         throw new VocabHunterException(ERROR_MESSAGE);
     }
 
+    private Collection<String> waitForLatch() {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return WORDS_2;
+    }
+
+    private Collection<String> waitForFastLatch() {
+        try {
+            fastLatch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return WORDS_1;
+    }
+
     private void validate(final WordFilter filter, final List<List<String>> lists) {
+        filter.readiness().join();
+        validateCurrent(filter, lists);
+    }
+
+    private void validateCurrent(final WordFilter filter, final List<List<String>> lists) {
         List<String> expected = lists.stream()
             .flatMap(List::stream)
             .map(CoreTool::toLowerCase)
@@ -0,0 +1,127 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.filter;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExclusionDictionaryTest {
+    private static final Logger LOG = LoggerFactory.getLogger(ExclusionDictionaryTest.class);
+
+    private static final int MANY_WORD_COUNT = 1_000;
+
+    private static final int LARGE_WORD_COUNT = 300_000;
+
+    private static final List<String> WORDS = List.of(
+        "pear", "apple", "app", "applesauce", "zebra", "caf\u00e9", "na\u00efve", "\ud83d\ude00smile", "apple", "a".repeat(300)
+    );
+
+    private final ExclusionDictionary target = ExclusionDictionary.fromWords(WORDS);
+
+    @Test
+    public void testEmpty() {
+        ExclusionDictionary empty = ExclusionDictionary.fromWords(List.of());
+
+        assertAll(
+            () -> assertEquals(0, empty.size(), "Size"),
+            () -> assertFalse(empty.contains("apple"), "Contains")
+        );
+    }
+
+    @Test
+    public void testSize() {
+        assertEquals(9, target.size());
+    }
+
+    @Test
+    public void testContains() {
+        for (String word : WORDS) {
+            assertTrue(target.contains(word), word);
+        }
+    }
+
+    @Test
+    public void testNotContains() {
+        for (String word : List.of("ap", "appl", "apples", "", "cafe", "zebras", "a".repeat(299), "a".repeat(301), "\ud83d\ude00")) {
+            assertFalse(target.contains(word), word);
+        }
+    }
+
+    @Test
+    public void testManyWords() {
+        List<String> words = words(0, MANY_WORD_COUNT);
+        List<String> absent = words(MANY_WORD_COUNT, 2 * MANY_WORD_COUNT);
+        ExclusionDictionary dictionary = ExclusionDictionary.fromWords(words);
+
+        assertAll(
+            () -> assertEquals(MANY_WORD_COUNT, dictionary.size(), "Size"),
+            () -> assertTrue(words.stream().allMatch(dictionary::contains), "Present words"),
+            () -> assertTrue(absent.stream().noneMatch(dictionary::contains), "Absent words")
+        );
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testLargeDictionary() {
+        List<String> words = words(0, LARGE_WORD_COUNT);
+        List<String> absent = words(LARGE_WORD_COUNT, 2 * LARGE_WORD_COUNT);
+        Set<String> hashSet = time("HashSet build", () -> new HashSet<>(words));
+        ExclusionDictionary dictionary = time("Dictionary build", () -> ExclusionDictionary.fromWords(words));
+        long hashSetMemory = hashSetMemory(words);
+
+        LOG.info("Memory for {} words: HashSet at least {}KB, dictionary {}KB", LARGE_WORD_COUNT, hashSetMemory / 1024, dictionary.byteSize() / 1024);
+        lookups("HashSet", hashSet::contains, words, absent);
+        lookups("Dictionary", dictionary::contains, words, absent);
+
+        assertAll(
+            () -> assertEquals(LARGE_WORD_COUNT, dictionary.size(), "Size"),
+            () -> assertTrue(words.stream().allMatch(dictionary::contains), "Present words"),
+            () -> assertTrue(absent.stream().noneMatch(dictionary::contains), "Absent words"),
+            () -> assertTrue(dictionary.byteSize() < hashSetMemory, "Smaller than HashSet")
+        );
+    }
+
+    private void lookups(final String description, final Predicate<String> contains, final List<String> present, final List<String> absent) {
+        time(description + " present lookups", () -> present.stream().filter(contains).count());
+        time(description + " absent lookups", () -> absent.stream().filter(contains).count());
+    }
+
+    private static List<String> words(final int from, final int to) {
+        return IntStream.range(from, to)
+            .mapToObj(i -> "word" + Integer.toString(i * 7919, Character.MAX_RADIX))
+            .collect(toList());
+    }
+
+    // Lower bound: table slot, map node, String and its byte array
+    private static long hashSetMemory(final List<String> words) {
+        return words.stream()
+            .mapToLong(w -> 4 + 32 + 24 + ((16 + w.length() + 7) / 8 * 8))
+            .sum();
+    }
+
+    private <T> T time(final String description, final Supplier<T> supplier) {
+        Instant start = Instant.now();
+        T result = supplier.get();
+        Duration duration = Duration.between(start, Instant.now());
+
+        LOG.info("{} of {} words completed in {}ms", description, LARGE_WORD_COUNT, duration.toMillis());
+
+        return result;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.filter;
+
+import io.github.vocabhunter.analysis.core.VocabHunterException;
+import io.github.vocabhunter.analysis.model.AnalysisWord;
+import io.github.vocabhunter.analysis.model.WordUse;
+import io.github.vocabhunter.test.utils.TestFileManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrequencyDictionaryTest {
+    private static final Logger LOG = LoggerFactory.getLogger(FrequencyDictionaryTest.class);
+
+    private static final int MANY_WORD_COUNT = 1_000;
+
+    private static final int LARGE_WORD_COUNT = 200_000;
+
+    private static final List<String> WORDS = List.of("the", "Of", "and", "the", "caf\u00e9", "zebra");
+
+    private TestFileManager files;
+
+    private Path file;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        files = new TestFileManager(getClass());
+        file = files.addFile("frequency.dat");
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        files.cleanup();
+    }
+
+    @Test
+    public void testRank() {
+        FrequencyDictionary.write(file, WORDS);
+
+        FrequencyDictionary target = FrequencyDictionary.read(file);
+
+        assertAll(
+            () -> assertEquals(5, target.size(), "Size"),
+            () -> assertEquals(1, target.rank("the"), "First"),
+            () -> assertEquals(2, target.rank("of"), "Lower case"),
+            () -> assertEquals(4, target.rank("caf\u00e9"), "Accented"),
+            () -> assertEquals(5, target.rank("zebra"), "Last"),
+            () -> assertEquals(FrequencyDictionary.NOT_FOUND, target.rank("aardvark"), "Before first"),
+            () -> assertEquals(FrequencyDictionary.NOT_FOUND, target.rank("zz"), "After last"),
+            () -> assertEquals(FrequencyDictionary.NOT_FOUND, target.rank("th"), "Prefix")
+        );
+    }
+
+    @Test
+    public void testLongWords() {
+        String longWord = "\u00e9".repeat(100);
+
+        FrequencyDictionary.write(file, List.of("the", longWord));
+
+        FrequencyDictionary target = FrequencyDictionary.read(file);
+
+        assertAll(
+            () -> assertEquals(2, target.rank(longWord), "Long word"),
+            () -> assertEquals(FrequencyDictionary.NOT_FOUND, target.rank(longWord + "s"), "Longer word"),
+            () -> assertEquals(1, target.rank("the"), "Short word after long word")
+        );
+    }
+
+    @Test
+    public void testEmpty() {
+        FrequencyDictionary.write(file, List.of());
+
+        assertEquals(FrequencyDictionary.NOT_FOUND, FrequencyDictionary.read(file).rank("the"));
+    }
+
+    @Test
+    public void testInvalidFile() throws Exception {
+        Files.writeString(file, "Not a dictionary");
+
+        assertThrows(VocabHunterException.class, () -> FrequencyDictionary.read(file));
+    }
+
+    @Test
+    public void testTruncatedFile() throws Exception {
+        FrequencyDictionary.write(file, WORDS);
+
+        byte[] bytes = Files.readAllBytes(file);
+
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(VocabHunterException.class, () -> FrequencyDictionary.read(file));
+    }
+
+    @Test
+    public void testWrongVersion() throws Exception {
+        validateCorruptHeader(Integer.BYTES, 2);
+    }
+
+    @Test
+    public void testNegativeSize() throws Exception {
+        validateCorruptHeader(2 * Integer.BYTES, -1);
+    }
+
+    @Test
+    public void testOversizedSize() throws Exception {
+        validateCorruptHeader(2 * Integer.BYTES, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testMissingFile() {
+        Path missing = files.addFile("missing.dat");
+
+        assertThrows(VocabHunterException.class, () -> FrequencyDictionary.read(missing));
+    }
+
+    @Test
+    public void testFilter() {
+        FrequencyDictionary.write(file, WORDS);
+
+        List<AnalysisWord> words = List.of(word("The"), word("and"), word("zebra"), word("unlisted"));
+        WordFilter filter = new FilterBuilder()
+            .excludeMostFrequent(FrequencyDictionary.read(file), 3)
+            .build();
+
+        assertAll(
+            () -> assertEquals(List.of("zebra", "unlisted"), shown(words, filter), "Word by word"),
+            () -> assertEquals(List.of(2, 3), WordFeatures.fromWords(words).shownWords(filter).stream().boxed().collect(toList()), "Features")
+        );
+    }
+
+    @Test
+    public void testManyWords() {
+        List<String> words = generatedWords(MANY_WORD_COUNT);
+
+        FrequencyDictionary.write(file, words);
+
+        FrequencyDictionary target = FrequencyDictionary.read(file);
+
+        assertTrue(IntStream.range(0, MANY_WORD_COUNT).allMatch(i -> target.rank(words.get(i)) == i + 1));
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testLargeDictionary() {
+        List<String> words = generatedWords(LARGE_WORD_COUNT);
+
+        FrequencyDictionary.write(file, words);
+
+        Instant start = Instant.now();
+        FrequencyDictionary target = FrequencyDictionary.read(file);
+        Duration openDuration = Duration.between(start, Instant.now());
+
+        Instant lookupStart = Instant.now();
+        boolean isAllFound = IntStream.range(0, LARGE_WORD_COUNT)
+            .allMatch(i -> target.rank(words.get(i)) == i + 1);
+        Duration lookupDuration = Duration.between(lookupStart, Instant.now());
+
+        LOG.info("Frequency dictionary of {} words opened in {}ms and searched for every word in {}ms",
+            LARGE_WORD_COUNT, openDuration.toMillis(), lookupDuration.toMillis());
+        assertTrue(isAllFound);
+    }
+
+    private void validateCorruptHeader(final int position, final int value) throws Exception {
+        FrequencyDictionary.write(file, WORDS);
+
+        byte[] bytes = Files.readAllBytes(file);
+
+        ByteBuffer.wrap(bytes).putInt(position, value);
+        Files.write(file, bytes);
+
+        assertThrows(VocabHunterException.class, () -> FrequencyDictionary.read(file));
+    }
+
+    private static List<String> generatedWords(final int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> "word" + Integer.toString(i, Character.MAX_RADIX))
+            .collect(toList());
+    }
+
+    private static List<String> shown(final List<AnalysisWord> words, final WordFilter filter) {
+        return words.stream()
+            .filter(filter::isShown)
+            .map(AnalysisWord::getWordIdentifier)
+            .collect(toList());
+    }
+
+    private static AnalysisWord word(final String word) {
+        return new WordUse(word, 1, List.of());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.filter;
+
+import io.github.vocabhunter.analysis.model.AnalysisWord;
+import io.github.vocabhunter.analysis.model.WordUse;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShownWordsCacheTest {
+    private static final List<AnalysisWord> WORDS = List.of(
+        new WordUse("a", 1, List.of()),
+        new WordUse("bb", 2, List.of()),
+        new WordUse("Ccc", 3, List.of()),
+        new WordUse("dddd", 4, List.of())
+    );
+
+    private final ShownWordsCache target = new ShownWordsCache(WordFeatures.fromWords(WORDS));
+
+    private final CountingFilter letters = new CountingFilter(new MinimumLettersFilter(2));
+
+    private final CountingFilter capitals = new CountingFilter(new InitialCapitalFilter());
+
+    @Test
+    public void testShownWords() {
+        BitSet shown = target.shownWords(new AggregateFilter(List.of(letters, capitals)));
+
+        assertEquals(bits(1, 3), shown);
+    }
+
+    @Test
+    public void testUnchangedComponentReused() {
+        target.shownWords(new AggregateFilter(List.of(letters, capitals)));
+
+        CountingFilter occurrences = new CountingFilter(new MinimumOccurrencesFilter(4));
+        BitSet shown = target.shownWords(new AggregateFilter(List.of(letters, occurrences)));
+
+        assertAll(
+            () -> assertEquals(bits(3), shown, "Shown"),
+            () -> assertEquals(1, letters.evaluations, "Letters evaluations"),
+            () -> assertEquals(1, occurrences.evaluations, "Occurrences evaluations")
+        );
+    }
+
+    @Test
+    public void testEqualFilterReused() {
+        target.shownWords(new AggregateFilter(List.of(new MinimumLettersFilter(2), capitals)));
+        target.shownWords(new AggregateFilter(List.of(new MinimumLettersFilter(2), capitals)));
+
+        assertEquals(1, capitals.evaluations);
+    }
+
+    @Test
+    public void testRevisionChange() {
+        target.shownWords(letters);
+        letters.revision++;
+        target.shownWords(letters);
+
+        assertEquals(2, letters.evaluations);
+    }
+
+    @Test
+    public void testDroppedComponentEvicted() {
+        target.shownWords(new AggregateFilter(List.of(letters, capitals)));
+        target.shownWords(letters);
+        target.shownWords(new AggregateFilter(List.of(letters, capitals)));
+
+        assertEquals(2, capitals.evaluations);
+    }
+
+    @Test
+    public void testPlanFollowed() {
+        CountingFilter everything = new CountingFilter(w -> true);
+        CountingFilter longWords = new CountingFilter(new MinimumLettersFilter(4));
+        AggregateFilter filter = new AggregateFilter(List.of(everything, longWords));
+
+        target.shownWords(filter);
+        everything.revision++;
+        longWords.revision++;
+
+        BitSet shown = target.shownWords(filter);
+
+        assertAll(
+            () -> assertEquals(bits(3), shown, "Shown"),
+            () -> assertEquals(8, filter.getPlan().get(0).getEvaluations(), "Selective filter first"),
+            () -> assertEquals(1, everything.candidates, "Words checked by unselective filter")
+        );
+    }
+
+    @Test
+    public void testNarrowedBitmapNotReused() {
+        target.shownWords(new AggregateFilter(List.of(letters, capitals)));
+        target.shownWords(capitals);
+
+        assertEquals(2, capitals.evaluations);
+    }
+
+    private static BitSet bits(final int... indices) {
+        BitSet result = new BitSet();
+
+        for (int i : indices) {
+            result.set(i);
+        }
+
+        return result;
+    }
+
+    private static final class CountingFilter implements WordFilter {
+        private final WordFilter delegate;
+
+        private int evaluations;
+
+        private int candidates;
+
+        private int revision;
+
+        private CountingFilter(final WordFilter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean isShown(final AnalysisWord word) {
+            return delegate.isShown(word);
+        }
+
+        @Override
+        public void hide(final WordFeatures features, final BitSet shown) {
+            evaluations++;
+            candidates = shown.cardinality();
+            delegate.hide(features, shown);
+        }
+
+        @Override
+        public int revision() {
+            return revision;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.filter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class Utf8EncoderTest {
+    private static final int BUFFER_SIZE = 20;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "word", "caf\u00e9", "\u0915\u093e", "\ud83d\ude00smile", "lone\ud83d", "\ude00lone"})
+    public void testSameAsGetBytes(final String word) {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int length = Utf8Encoder.encode(word, buffer);
+
+        assertArrayEquals(word.getBytes(UTF_8), Arrays.copyOf(buffer, length));
+    }
+
+    @Test
+    public void testTooLong() {
+        assertEquals(-1, Utf8Encoder.encode("caf\u00e9", new byte[4]));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.filter;
+
+import io.github.vocabhunter.analysis.model.AnalysisWord;
+import io.github.vocabhunter.analysis.model.WordUse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordFeaturesTest {
+    private static final Logger LOG = LoggerFactory.getLogger(WordFeaturesTest.class);
+
+    private static final int SMALL_WORD_COUNT = 500;
+
+    private static final int LARGE_WORD_COUNT = 100_000;
+
+    private static final List<AnalysisWord> WORDS = List.of(
+        word("Apple", 1),
+        word("apple", 2),
+        word("pear", 3),
+        word("", 4),
+        word("x-ray", 5)
+    );
+
+    private final WordFeatures target = WordFeatures.fromWords(WORDS);
+
+    @Test
+    public void testColumns() {
+        assertAll(
+            () -> assertEquals(5, target.size(), "Size"),
+            () -> assertEquals(4, target.letterCount(4), "Letter count"),
+            () -> assertEquals(3, target.useCount(2), "Use count"),
+            () -> assertEquals(target.keyId(0), target.keyId(1), "Shared key"),
+            () -> assertEquals(List.of("apple", "pear", "", "x-ray"), target.keys(), "Keys")
+        );
+    }
+
+    @Test
+    public void testExcludedWords() {
+        WordFilter filter = new FilterBuilder()
+            .addExcludedWords(List.of("APPLE"))
+            .build();
+
+        assertEquals(bits(2, 3, 4), target.shownWords(filter));
+    }
+
+    @Test
+    public void testDefaultFilter() {
+        WordFilter filter = w -> w.getUseCount() % 2 == 0;
+
+        assertEquals(bits(1, 3), target.shownWords(filter));
+    }
+
+    @Test
+    public void testCombinedFilters() {
+        List<AnalysisWord> words = generatedWords(SMALL_WORD_COUNT);
+        WordFeatures features = WordFeatures.fromWords(words);
+
+        for (int letters = 1; letters <= 12; letters++) {
+            WordFilter filter = combinedFilter(letters);
+
+            assertEquals(words.stream().filter(filter::isShown).count(), features.shownWords(filter).cardinality(), "Shown words for minimum letters " + letters);
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testLargeSession() {
+        List<AnalysisWord> words = generatedWords(LARGE_WORD_COUNT);
+        WordFeatures features = time("Feature build", () -> WordFeatures.fromWords(words));
+
+        for (int letters = 1; letters <= 12; letters++) {
+            WordFilter filter = combinedFilter(letters);
+            long expected = time("Word-by-word filter", () -> words.stream().filter(filter::isShown).count());
+            long actual = time("Column filter", () -> (long) features.shownWords(filter).cardinality());
+
+            assertEquals(expected, actual, "Shown words for minimum letters " + letters);
+        }
+    }
+
+    private static List<AnalysisWord> generatedWords(final int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> word((i % 3 == 0 ? "W" : "w") + "ord".repeat(i % 5) + i, i % 7 + 1))
+            .collect(toList());
+    }
+
+    private static WordFilter combinedFilter(final int letters) {
+        return new FilterBuilder()
+            .minimumLetters(letters)
+            .minimumOccurrences(2)
+            .excludeInitialCapital()
+            .addExcludedWords(List.of("word1", "word2"))
+            .build();
+    }
+
+    private static <T> T time(final String description, final Supplier<T> supplier) {
+        Instant start = Instant.now();
+        T result = supplier.get();
+        Duration duration = Duration.between(start, Instant.now());
+
+        LOG.info("{} of {} words completed in {}ms", description, LARGE_WORD_COUNT, duration.toMillis());
+
+        return result;
+    }
+
+    private static BitSet bits(final int... indices) {
+        BitSet result = new BitSet();
+
+        for (int i : indices) {
+            result.set(i);
+        }
+
+        return result;
+    }
+
+    private static AnalysisWord word(final String word, final int uses) {
+        return new WordUse(word, uses, List.of());
+    }
+}
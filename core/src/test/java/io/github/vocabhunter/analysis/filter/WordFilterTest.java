@@ -8,9 +8,11 @@ import io.github.vocabhunter.analysis.model.AnalysisWord;
 import io.github.vocabhunter.analysis.model.WordUse;
 import org.junit.jupiter.api.Test;
 
+import java.util.BitSet;
 import java.util.List;
 
 import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class WordFilterTest {
@@ -63,13 +65,35 @@ public class WordFilterTest {
         validate(filter, "banana");
     }
 
+    @Test
+    public void testExcludedWords() {
+        WordFilter filter = new FilterBuilder().addExcludedWords(List.of("bananas", "hello")).build();
+
+        validate(filter, "A", "don't", "banana");
+    }
+
+    @Test
+    public void testExcludedWordStems() {
+        WordFilter filter = new FilterBuilder().matchExcludedWordStems().addExcludedWords(List.of("bananas", "hellos")).build();
+
+        validate(filter, "A", "don't");
+    }
+
     private void validate(final WordFilter filter, final String... expected) {
         List<String> actual = WORDS.stream()
             .filter(filter::isShown)
             .map(AnalysisWord::getWordIdentifier)
             .collect(toList());
 
-        assertEquals(List.of(expected), actual, "Filtered words");
+        BitSet shown = WordFeatures.fromWords(WORDS).shownWords(filter);
+        List<String> actualFromFeatures = shown.stream()
+            .mapToObj(i -> WORDS.get(i).getWordIdentifier())
+            .collect(toList());
+
+        assertAll(
+            () -> assertEquals(List.of(expected), actual, "Filtered words"),
+            () -> assertEquals(List.of(expected), actualFromFeatures, "Filtered words from features")
+        );
     }
 
     private static AnalysisWord word(final String word, final int uses) {
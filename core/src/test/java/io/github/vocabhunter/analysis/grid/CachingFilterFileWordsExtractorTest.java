@@ -0,0 +1,126 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.grid;
+
+import io.github.vocabhunter.analysis.settings.BaseListedFile;
+import io.github.vocabhunter.analysis.settings.DocumentListedFile;
+import io.github.vocabhunter.analysis.settings.SessionListedFile;
+import io.github.vocabhunter.test.utils.TestFileManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingFilterFileWordsExtractorTest {
+    private static final List<String> WORDS_1 = List.of("apple", "pear");
+
+    private static final List<String> WORDS_2 = List.of("plum", "cherry");
+
+    @Mock
+    private FilterFileWordsExtractor delegate;
+
+    private TestFileManager files;
+
+    private Path file1;
+
+    private Path file2;
+
+    private CachingFilterFileWordsExtractor target;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        files = new TestFileManager(getClass());
+        file1 = files.addFile("file1.txt");
+        file2 = files.addFile("file2.txt");
+        Files.writeString(file1, "File 1");
+        Files.writeString(file2, "File 2");
+        target = new CachingFilterFileWordsExtractor(delegate, 1024);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        files.cleanup();
+    }
+
+    @Test
+    public void testRepeatedRead() {
+        DocumentListedFile listedFile = new DocumentListedFile(file1);
+
+        when(delegate.extract(listedFile)).thenReturn(WORDS_1);
+
+        validate(listedFile, WORDS_1);
+        validate(listedFile, WORDS_1);
+        verify(delegate, times(1)).extract(listedFile);
+    }
+
+    @Test
+    public void testFileChanged() throws Exception {
+        DocumentListedFile listedFile = new DocumentListedFile(file1);
+
+        when(delegate.extract(listedFile)).thenReturn(WORDS_1).thenReturn(WORDS_2);
+
+        validate(listedFile, WORDS_1);
+        Files.setLastModifiedTime(file1, FileTime.from(Instant.now().plusSeconds(60)));
+        validate(listedFile, WORDS_2);
+        validate(listedFile, WORDS_2);
+        verify(delegate, times(2)).extract(listedFile);
+    }
+
+    @Test
+    public void testDifferentSettingsForSameFile() {
+        SessionListedFile known = new SessionListedFile(file1, false);
+        SessionListedFile seen = new SessionListedFile(file1, true);
+
+        when(delegate.extract(known)).thenReturn(WORDS_1);
+        when(delegate.extract(seen)).thenReturn(WORDS_2);
+
+        validate(known, WORDS_1);
+        validate(seen, WORDS_2);
+        validate(known, WORDS_1);
+        verify(delegate, times(1)).extract(known);
+    }
+
+    @Test
+    public void testEviction() {
+        DocumentListedFile listedFile1 = new DocumentListedFile(file1);
+        DocumentListedFile listedFile2 = new DocumentListedFile(file2);
+        List<String> largeWords = List.of("x".repeat(700));
+
+        when(delegate.extract(listedFile1)).thenReturn(largeWords);
+        when(delegate.extract(listedFile2)).thenReturn(largeWords);
+
+        validate(listedFile1, largeWords);
+        validate(listedFile2, largeWords);
+        validate(listedFile1, largeWords);
+        verify(delegate, times(2)).extract(listedFile1);
+    }
+
+    @Test
+    public void testMissingFile() {
+        DocumentListedFile listedFile = new DocumentListedFile(files.addFile("missing.txt"));
+
+        when(delegate.extract(listedFile)).thenReturn(WORDS_1);
+
+        validate(listedFile, WORDS_1);
+        validate(listedFile, WORDS_1);
+        verify(delegate, times(2)).extract(listedFile);
+    }
+
+    private void validate(final BaseListedFile listedFile, final List<String> expected) {
+        assertEquals(expected, target.extract(listedFile));
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.grid;
+
+import io.github.vocabhunter.test.utils.TestFileManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.vocabhunter.analysis.grid.GridTestTool.acceptedCell;
+import static io.github.vocabhunter.analysis.grid.GridTestTool.rejectedCell;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DelimitedGridReaderTest {
+    private static final Logger LOG = LoggerFactory.getLogger(DelimitedGridReaderTest.class);
+
+    private static final List<GridLine> EXPECTED = GridTestTool.normalisedGridLines();
+
+    private static final int SMALL_ROW_COUNT = 1_000;
+
+    private static final int LARGE_ROW_COUNT = 1_000_000;
+
+    private TestFileManager files;
+
+    private final GridReader target = new DelimitedGridReaderImpl();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        files = new TestFileManager(DelimitedGridReaderTest.class);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        files.cleanup();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "test.csv",
+        "test.tsv"
+    })
+    public void testReadGrid(final String name) throws Exception {
+        Path file = GridTestTool.getFile(name);
+
+        List<GridLine> result = target.readGrid(file, "B1"::equals);
+
+        assertEquals(EXPECTED, result, "Validate " + name);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "test.csv",
+        "test.tsv"
+    })
+    public void testReadGridLimit(final String name) throws Exception {
+        Path file = GridTestTool.getFile(name);
+
+        List<GridLine> result = target.readGrid(file, "B1"::equals, 2);
+
+        assertEquals(EXPECTED.subList(0, 2), result, "Validate " + name);
+    }
+
+    @Test
+    public void testQuoting() throws Exception {
+        List<GridLine> result = read("quoted.csv", "\uFEFF\" one, two \",\"say \"\"hi\"\"\"\r\n\"multi\nline\",,reject\r\n\r\nlast,\"\"");
+        List<GridLine> expected = List.of(
+            new GridLine(acceptedCell("one, two"), acceptedCell("say \"hi\"")),
+            new GridLine(acceptedCell("multi\nline"), acceptedCell(""), rejectedCell("reject")),
+            new GridLine(),
+            new GridLine(acceptedCell("last")));
+
+        assertEquals(expected, result);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "list.csv, 'a;b,c;d', 3",
+        "list.csv, 'a,b\tc,d', 3",
+        "list.tsv, 'a\tb,c\td', 3",
+        "list.tsv, 'single', 1",
+        "list.csv, '\"a;b;c\",d', 2"
+    })
+    public void testDelimiter(final String name, final String text, final int expectedCells) throws Exception {
+        List<GridLine> result = read(name, text);
+
+        assertEquals(expectedCells, result.get(0).getCells().size());
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        List<GridLine> result = read("empty.csv", "");
+
+        assertEquals(List.of(), result);
+    }
+
+    @Test
+    public void testStreamFile() throws Exception {
+        validateStream(SMALL_ROW_COUNT);
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testStreamLargeFile() throws Exception {
+        validateStream(LARGE_ROW_COUNT);
+    }
+
+    private void validateStream(final int rowCount) throws Exception {
+        Path file = files.addFile("stream.tsv");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < rowCount; i++) {
+                writer.write("word" + i + "\t" + i + "\n");
+            }
+        }
+
+        List<GridLine> sample = new ArrayList<>();
+        AtomicInteger count = new AtomicInteger();
+        Instant start = Instant.now();
+
+        target.readLines(file, s -> false, l -> {
+            if (count.getAndIncrement() % (rowCount / 4) == 0) {
+                sample.add(l);
+            }
+        });
+        Duration duration = Duration.between(start, Instant.now());
+        String sampleNo = String.valueOf(rowCount / 4);
+
+        LOG.info("Streamed {} delimited rows completed in {}ms", count.get(), duration.toMillis());
+        assertAll(
+            () -> assertEquals(rowCount, count.get(), "Row count"),
+            () -> assertEquals(new GridLine(acceptedCell("word" + sampleNo), acceptedCell(sampleNo)), sample.get(1), "Sample row")
+        );
+    }
+
+    private List<GridLine> read(final String name, final String text) throws Exception {
+        Path file = files.addFile(name);
+
+        Files.writeString(file, text);
+
+        return target.readGrid(file, "reject"::equals);
+    }
+}
@@ -7,10 +7,15 @@ package io.github.vocabhunter.analysis.grid;
 import io.github.vocabhunter.analysis.file.TextReader;
 import io.github.vocabhunter.analysis.file.TikaTool;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class DocumentGridReaderTest {
@@ -30,6 +35,36 @@ public class DocumentGridReaderTest {
         validate("test.txt", EXPECTED);
     }
 
+    @Test
+    public void testLimit() throws Exception {
+        Path file = GridTestTool.getFile("test.txt");
+
+        List<GridLine> result = target.readGrid(file, "Rejected1"::equals, 2);
+
+        assertEquals(EXPECTED.subList(0, 2), result);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'one\n\ntwo\n\n\n', 3",
+        "'\n\none\r\ntwo', 4",
+        "'  one  \n', 1",
+        "'', 0"
+    })
+    public void testLineSplitting(final String text, final int expectedCount) {
+        GridReader reader = new DocumentGridReaderImpl(f -> text);
+        List<String> expected = text.isEmpty() ? List.of() : Arrays.stream(text.split("\\r?\\n"))
+            .map(String::trim)
+            .collect(toList());
+
+        List<GridLine> result = reader.readGrid(null, s -> false);
+
+        assertAll(
+            () -> assertEquals(expectedCount, result.size(), "Line count"),
+            () -> assertEquals(expected, result.stream().map(l -> l.getCell(0).getContent()).collect(toList()), "Lines")
+        );
+    }
+
     private void validate(final String name, final List<GridLine> expected) throws Exception {
         Path file = GridTestTool.getFile(name);
 
@@ -4,23 +4,55 @@
 
 package io.github.vocabhunter.analysis.grid;
 
+import io.github.vocabhunter.analysis.core.VocabHunterException;
 import io.github.vocabhunter.test.utils.TestFileManager;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static io.github.vocabhunter.analysis.grid.GridTestTool.acceptedCell;
+import static io.github.vocabhunter.analysis.grid.GridTestTool.rejectedCell;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ExcelGridReaderTest {
+    private static final Logger LOG = LoggerFactory.getLogger(ExcelGridReaderTest.class);
+
     private static final List<GridLine> EXPECTED = GridTestTool.normalisedGridLines();
 
+    private static final int CORRUPT_STREAM_SIZE = 4_096;
+
+    private static final int SMALL_ROW_COUNT = 1_000;
+
+    private static final int LARGE_ROW_COUNT = 200_000;
+
     private TestFileManager files;
 
-    private final GridReader target = new ExcelGridReaderImpl();
+    private final ExcelGridReader target = new ExcelGridReaderImpl();
 
     @BeforeEach
     public void setUp() throws Exception {
@@ -44,4 +76,160 @@ public class ExcelGridReaderTest {
 
         assertEquals(EXPECTED, result, "Validate " + name);
     }
+
+    @ParameterizedTest
+    @CsvSource({
+        "test.xls",
+        "test.xlsx"
+    })
+    public void testReadGridLimit(final String name) throws Exception {
+        Path file = files.addCopy(name);
+
+        List<GridLine> result = target.readGrid(file, "B1"::equals, 2);
+
+        assertEquals(EXPECTED.subList(0, 2), result, "Validate " + name);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "mixed.xls, false",
+        "mixed.xlsx, true"
+    })
+    public void testMixedCells(final String name, final boolean isXssf) throws Exception {
+        Path file = files.addFile(name);
+
+        try (Workbook workbook = WorkbookFactory.create(isXssf); OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("first");
+            Row row = sheet.createRow(0);
+
+            row.createCell(0).setCellValue(" word ");
+            row.createCell(1).setCellValue(42);
+            row.createCell(2).setCellValue(true);
+            sheet.createRow(1);
+            sheet.createRow(3).createCell(2).setCellValue("reject");
+            workbook.createSheet("second").createRow(0).createCell(0).setCellValue("other");
+            workbook.write(out);
+        }
+
+        List<GridLine> expected = List.of(
+            new GridLine(acceptedCell("word"), acceptedCell("42"), acceptedCell("TRUE")),
+            new GridLine(),
+            new GridLine(acceptedCell(""), acceptedCell(""), rejectedCell("reject")));
+
+        assertEquals(expected, target.readGrid(file, "reject"::equals), "Validate " + name);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "sheets.xls, false",
+        "sheets.xlsx, true"
+    })
+    public void testSheets(final String name, final boolean isXssf) throws Exception {
+        Path file = files.addFile(name);
+
+        try (Workbook workbook = WorkbookFactory.create(isXssf); OutputStream out = Files.newOutputStream(file)) {
+            workbook.createSheet("Level 1").createRow(0).createCell(0).setCellValue("one");
+            workbook.createSheet("Level 2");
+
+            Sheet sheet = workbook.createSheet("Level 3");
+
+            sheet.createRow(0).createCell(1).setCellValue("three");
+            sheet.createRow(1).createCell(0).setCellValue("reject");
+            workbook.write(out);
+        }
+
+        List<GridLine> lines = new ArrayList<>();
+
+        target.readLines(file, 2, "reject"::equals, lines::add);
+        assertAll(
+            () -> assertEquals(List.of("Level 1", "Level 2", "Level 3"), target.readSheetNames(file), "Sheet names"),
+            () -> assertEquals(List.of(new GridLine(acceptedCell(""), acceptedCell("three")), new GridLine(rejectedCell("reject"))), lines, "Last sheet"),
+            () -> assertEquals(List.of(new GridLine(acceptedCell(""), acceptedCell("three"))), target.readGrid(file, 2, "reject"::equals, 1), "Last sheet limit"),
+            () -> assertEquals(List.of(), target.readGrid(file, 1, "reject"::equals, 1), "Empty sheet"),
+            () -> assertEquals(List.of(new GridLine(acceptedCell("one"))), target.readGrid(file, s -> false), "First sheet")
+        );
+    }
+
+    @Test
+    public void testUnsupportedFormat() throws Exception {
+        Path file = files.addCopy("test.txt");
+
+        assertThrows(VocabHunterException.class, () -> target.readGrid(file, s -> false));
+    }
+
+    @Test
+    public void testCorruptXls() throws Exception {
+        Path file = files.addFile("corrupt.xls");
+
+        try (POIFSFileSystem fileSystem = new POIFSFileSystem(); OutputStream out = Files.newOutputStream(file)) {
+            byte[] garbage = new byte[CORRUPT_STREAM_SIZE];
+
+            Arrays.fill(garbage, (byte) 0x7f);
+            fileSystem.createDocument(new ByteArrayInputStream(garbage), "Workbook");
+            fileSystem.writeFilesystem(out);
+        }
+
+        assertAll(
+            () -> assertThrows(VocabHunterException.class, () -> target.readGrid(file, s -> false), "Read grid"),
+            () -> assertThrows(VocabHunterException.class, () -> target.readSheetNames(file), "Sheet names")
+        );
+    }
+
+    @Test
+    public void testConsumerFailure() throws Exception {
+        Path file = files.addCopy("test.xls");
+        IllegalStateException failure = new IllegalStateException("Consumer failure");
+
+        Exception e = assertThrows(IllegalStateException.class, () -> target.readLines(file, s -> false, l -> {
+            throw failure;
+        }));
+
+        assertSame(failure, e);
+    }
+
+    @Test
+    public void testStreamSheet() throws Exception {
+        validateStream(SMALL_ROW_COUNT);
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testStreamLargeSheet() throws Exception {
+        validateStream(LARGE_ROW_COUNT);
+    }
+
+    private void validateStream(final int rowCount) throws Exception {
+        Path file = files.addFile("stream.xlsx");
+
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet();
+
+            for (int i = 0; i < rowCount; i++) {
+                Row row = sheet.createRow(i);
+
+                row.createCell(0).setCellValue("word" + i);
+                row.createCell(1).setCellValue(i);
+            }
+            workbook.write(out);
+            workbook.dispose();
+        }
+
+        List<GridLine> sample = new ArrayList<>();
+        AtomicInteger count = new AtomicInteger();
+        Instant start = Instant.now();
+
+        target.readLines(file, s -> false, l -> {
+            if (count.getAndIncrement() % (rowCount / 4) == 0) {
+                sample.add(l);
+            }
+        });
+        Duration duration = Duration.between(start, Instant.now());
+        String sampleNo = String.valueOf(rowCount / 4);
+
+        LOG.info("Streamed {} spreadsheet rows completed in {}ms", count.get(), duration.toMillis());
+        assertAll(
+            () -> assertEquals(rowCount, count.get(), "Row count"),
+            () -> assertEquals(new GridLine(acceptedCell("word" + sampleNo), acceptedCell(sampleNo)), sample.get(1), "Sample row")
+        );
+    }
 }
@@ -4,9 +4,13 @@
 
 package io.github.vocabhunter.analysis.grid;
 
+import io.github.vocabhunter.analysis.core.DelayedExecutor;
+import io.github.vocabhunter.analysis.core.DelayedExecutorImpl;
+import io.github.vocabhunter.analysis.core.ThreadPoolTool;
 import io.github.vocabhunter.analysis.core.VocabHunterException;
 import io.github.vocabhunter.analysis.session.SessionWordsTool;
 import io.github.vocabhunter.analysis.settings.BaseListedFile;
+import io.github.vocabhunter.analysis.settings.DelimitedListedFile;
 import io.github.vocabhunter.analysis.settings.DocumentListedFile;
 import io.github.vocabhunter.analysis.settings.ExcelListedFile;
 import io.github.vocabhunter.analysis.settings.SessionListedFile;
@@ -19,11 +23,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
 import static io.github.vocabhunter.analysis.grid.GridTestTool.acceptedCell;
+import static io.github.vocabhunter.analysis.grid.GridTestTool.rejectedCell;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,22 +50,22 @@ public class FilterFileWordsExtractorTest {
 
     private static final ExcelListedFile FILE_EXCEL = new ExcelListedFile(FILE, SPREADSHEET_COLUMNS);
 
-    private static final DocumentListedFile FILE_DOCUMENT = new DocumentListedFile(FILE);
+    private static final ExcelListedFile FILE_EXCEL_SHEETS = new ExcelListedFile(FILE, Map.of(0, Set.of(0), 1, Set.of(1), 3, Set.of(0)));
 
-    private static final List<String> WORDS = List.of("WORD1", "WORD2");
+    private static final DocumentListedFile FILE_DOCUMENT = new DocumentListedFile(FILE);
 
-    private static final List<GridLine> LINES = List.of(new GridLine(acceptedCell("test")));
+    private static final DelimitedListedFile FILE_DELIMITED = new DelimitedListedFile(FILE, SPREADSHEET_COLUMNS);
 
-    private static final TextGrid GRID = new TextGrid(LINES, List.of());
+    private static final List<String> WORDS = List.of("WORD1", "WORD2");
 
     @Mock
     private SessionWordsTool sessionWordsTool;
 
     @Mock
-    private GridWordsExtractor gridWordsExtractor;
+    private TextGridManager textGridManager;
 
     @Mock
-    private TextGridManager textGridManager;
+    private ThreadPoolTool threadPoolTool;
 
     @Mock
     private BaseListedFile unsupportedFile;
@@ -77,20 +89,68 @@ public class FilterFileWordsExtractorTest {
 
     @Test
     public void testExcel() {
-        when(textGridManager.readExcel(FILE)).thenReturn(GRID);
-        when(gridWordsExtractor.words(LINES, SPREADSHEET_COLUMNS)).thenReturn(WORDS);
+        GridLine line = new GridLine(acceptedCell(""), acceptedCell(""), acceptedCell("WORD1"), acceptedCell("WORD2"));
+
+        when(threadPoolTool.filterThreadPool()).thenReturn(new DelayedExecutorImpl(Runnable::run));
+        doAnswer(i -> sendLines(i.getArgument(2), line)).when(textGridManager).readExcelSheetLines(eq(FILE), eq(0), any());
 
-        validate(FILE_EXCEL);
+        List<String> result = target.extract(FILE_EXCEL);
+
+        assertEquals(Set.copyOf(WORDS), Set.copyOf(result));
+    }
+
+    @Test
+    public void testExcelSheets() {
+        validateSheets(true);
+    }
+
+    @Test
+    public void testExcelSheetsBeforePoolStarts() {
+        validateSheets(false);
+    }
+
+    private void validateSheets(final boolean isPoolStarted) {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        DelayedExecutor executor = new DelayedExecutorImpl(pool);
+
+        try {
+            if (isPoolStarted) {
+                executor.beginExecution();
+            }
+            when(threadPoolTool.filterThreadPool()).thenReturn(executor);
+            doAnswer(i -> sendLines(i.getArgument(2), new GridLine(acceptedCell("WORD1")))).when(textGridManager).readExcelSheetLines(eq(FILE), eq(0), any());
+            doAnswer(i -> sendLines(i.getArgument(2), new GridLine(acceptedCell("WORD2"), acceptedCell("WORD3")))).when(textGridManager).readExcelSheetLines(eq(FILE), eq(1), any());
+            doAnswer(i -> sendLines(i.getArgument(2), new GridLine(acceptedCell("WORD4")))).when(textGridManager).readExcelSheetLines(eq(FILE), eq(3), any());
+
+            List<String> result = target.extract(FILE_EXCEL_SHEETS);
+
+            assertEquals(List.of("WORD1", "WORD3", "WORD4"), result);
+        } finally {
+            pool.shutdownNow();
+        }
     }
 
     @Test
     public void testDocument() {
-        when(textGridManager.readDocument(FILE)).thenReturn(GRID);
-        when(gridWordsExtractor.words(LINES, Set.of(0))).thenReturn(WORDS);
+        GridLine line1 = new GridLine(acceptedCell("WORD1"));
+        GridLine line2 = new GridLine(rejectedCell("REJECTED"));
+        GridLine line3 = new GridLine(acceptedCell("WORD2"));
+
+        doAnswer(i -> sendLines(i.getArgument(1), line1, line2, line3)).when(textGridManager).readDocumentLines(eq(FILE), any());
 
         validate(FILE_DOCUMENT);
     }
 
+    @Test
+    public void testDelimited() {
+        GridLine line1 = new GridLine(acceptedCell(""), acceptedCell(""), acceptedCell("WORD1"));
+        GridLine line2 = new GridLine(acceptedCell(""), acceptedCell(""), rejectedCell("REJECTED"), acceptedCell("WORD2"));
+
+        doAnswer(i -> sendLines(i.getArgument(1), line1, line2)).when(textGridManager).readDelimitedLines(eq(FILE), any());
+
+        validate(FILE_DELIMITED);
+    }
+
     @Test
     public void testUnknownType() {
         assertThrows(VocabHunterException.class, () -> target.extract(unsupportedFile));
@@ -101,4 +161,12 @@ public class FilterFileWordsExtractorTest {
 
         assertEquals(WORDS, result);
     }
+
+    private static Object sendLines(final Consumer<GridLine> consumer, final GridLine... lines) {
+        for (GridLine line : lines) {
+            consumer.accept(line);
+        }
+
+        return null;
+    }
 }
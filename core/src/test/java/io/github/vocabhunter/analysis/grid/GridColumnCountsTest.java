@@ -0,0 +1,36 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.grid;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class GridColumnCountsTest {
+    @Test
+    public void testEmpty() {
+        GridColumnCounts target = new GridColumnCounts();
+
+        assertArrayEquals(new int[0], target.getAcceptedCounts());
+    }
+
+    @Test
+    public void testMatchesGrid() {
+        List<GridLine> lines = GridTestTool.unnormalisedGridLines();
+        GridColumnCounts target = new GridColumnCounts();
+
+        lines.forEach(target);
+
+        assertArrayEquals(acceptedCounts(new TextGridBuilderImpl().build(lines)), target.getAcceptedCounts());
+    }
+
+    private int[] acceptedCounts(final TextGrid grid) {
+        return grid.getColumns().stream()
+            .mapToInt(GridColumn::getAcceptedCount)
+            .toArray();
+    }
+}
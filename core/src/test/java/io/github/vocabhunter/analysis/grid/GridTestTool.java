@@ -25,6 +25,10 @@ public final class GridTestTool {
         return new TextGrid(normalisedGridLines(), columns(2, 0, 1));
     }
 
+    public static TextGrid truncated(final TextGrid grid) {
+        return grid.truncated();
+    }
+
     public static List<GridLine> documentLines() {
         GridLine line1 = new GridLine(acceptedCell("Accepted1"));
         GridLine line2 = new GridLine(rejectedCell("Rejected1"));
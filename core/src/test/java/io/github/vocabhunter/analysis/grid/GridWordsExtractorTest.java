@@ -12,6 +12,7 @@ import java.util.TreeSet;
 
 import static io.github.vocabhunter.analysis.grid.GridTestTool.acceptedCell;
 import static io.github.vocabhunter.analysis.grid.GridTestTool.rejectedCell;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class GridWordsExtractorTest {
@@ -78,11 +79,34 @@ public class GridWordsExtractorTest {
         validate(GRID_1, columns(0, 1), WORD_1, WORD_2, WORD_3);
     }
 
+    @Test
+    public void testColumnWordsMatchExtractor() {
+        List<GridLine> lines = List.of(LINE_ACCEPTED_WORD, LINE_REJECTED_WORD, LINE_EMPTY, LINE_TWO_COLUMNS);
+        Set<Integer> columns = columns(1, 0);
+        GridColumnWords columnWords = new GridColumnWords(columns);
+
+        lines.forEach(columnWords);
+
+        assertEquals(target.words(lines, columns), columnWords.getWords());
+    }
+
+    @Test
+    public void testGridMatchesLines() {
+        List<GridLine> lines = List.of(LINE_ACCEPTED_WORD, LINE_REJECTED_WORD, LINE_EMPTY, LINE_TWO_COLUMNS);
+        TextGrid grid = new TextGridBuilderImpl().build(lines);
+
+        assertEquals(target.words(lines, columns(0, 1, 2)), target.words(grid, columns(0, 1, 2)));
+    }
+
     private void validate(final List<GridLine> lines, final Set<Integer> columns, final String... words) {
         Set<String> result = new TreeSet<>(target.words(lines, columns));
+        Set<String> gridResult = new TreeSet<>(target.words(new TextGridBuilderImpl().build(lines), columns));
         Set<String> expected = new TreeSet<>(List.of(words));
 
-        assertEquals(expected, result);
+        assertAll(
+            () -> assertEquals(expected, result, "Lines"),
+            () -> assertEquals(expected, gridResult, "Grid")
+        );
     }
 
     private Set<Integer> columns(final Integer... columns) {
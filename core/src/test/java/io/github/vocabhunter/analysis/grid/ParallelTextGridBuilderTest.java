@@ -0,0 +1,165 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.grid;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static io.github.vocabhunter.analysis.grid.GridTestTool.*;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ParallelTextGridBuilderTest {
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelTextGridBuilderTest.class);
+
+    private static final int LARGE_LINE_COUNT = 1_000_000;
+
+    private static final int LARGE_COLUMN_COUNT = 20;
+
+    private static final int DISTINCT_LINE_COUNT = 997;
+
+    private static final int WIDE_COLUMN_COUNT = 500;
+
+    private final TextGridBuilder target = new ParallelTextGridBuilderImpl();
+
+    private final TextGridBuilder sequentialBuilder = new TextGridBuilderImpl();
+
+    @Test
+    public void testEmpty() {
+        assertEquals(emptyGrid(), target.build(List.of()));
+    }
+
+    @Test
+    public void testUnchanged() {
+        assertEquals(grid(), target.build(normalisedGridLines()));
+    }
+
+    @Test
+    public void testNormalise() {
+        assertEquals(grid(), target.build(unnormalisedGridLines()));
+    }
+
+    @Test
+    public void testLegalSpacing() {
+        assertEquals(legalSpacingGrid(), target.build(legalSpacingGridLines()));
+    }
+
+    @Test
+    public void testThreshold() {
+        validateSameAsSequential(largeLines(ParallelTextGridBuilderImpl.PARALLEL_THRESHOLD + 1, 3));
+    }
+
+    @Test
+    public void testWideHeader() {
+        List<GridLine> lines = wideHeaderLines(ParallelTextGridBuilderImpl.PARALLEL_THRESHOLD + 1);
+        TextGrid result = target.build(lines);
+        BitSet header = new BitSet();
+
+        header.set(0);
+        assertAll(
+            () -> validateSame(sequentialBuilder.build(lines), result),
+            () -> assertEquals(WIDE_COLUMN_COUNT, result.getColumns().size(), "Column count"),
+            () -> assertEquals(header, result.includedLines(WIDE_COLUMN_COUNT - 1), "Included header cell"),
+            () -> assertEquals("", result.getContent(1, WIDE_COLUMN_COUNT - 1), "Missing content")
+        );
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testLargeGrid() {
+        List<GridLine> lines = largeLines(LARGE_LINE_COUNT, LARGE_COLUMN_COUNT);
+        Instant sequentialStart = Instant.now();
+        TextGrid expected = sequentialBuilder.build(lines);
+        Instant parallelStart = Instant.now();
+        TextGrid result = target.build(lines);
+        Instant end = Instant.now();
+        long sequentialMillis = Duration.between(sequentialStart, parallelStart).toMillis();
+        long parallelMillis = Duration.between(parallelStart, end).toMillis();
+
+        LOG.info("Built {}x{} grid sequentially in {}ms and in parallel in {}ms", LARGE_LINE_COUNT, LARGE_COLUMN_COUNT, sequentialMillis, parallelMillis);
+        validateSame(expected, result);
+    }
+
+    private void validateSameAsSequential(final List<GridLine> lines) {
+        validateSame(sequentialBuilder.build(lines), target.build(lines));
+    }
+
+    private void validateSame(final TextGrid expected, final TextGrid result) {
+        assertAll(
+            () -> assertEquals(expected.getColumns(), result.getColumns(), "Columns"),
+            () -> assertEquals(expected.getLineCount(), result.getLineCount(), "Line count"),
+            () -> assertEquals(expected.includedLines(1), result.includedLines(1), "Included lines"),
+            () -> assertEquals(expected, result, "Grid")
+        );
+    }
+
+    /**
+     * A header line much wider than the single-cell lines below it.
+     */
+    private static List<GridLine> wideHeaderLines(final int lineCount) {
+        GridLine header = new GridLine(IntStream.range(0, WIDE_COLUMN_COUNT)
+            .mapToObj(c -> acceptedCell("H" + c))
+            .collect(toList()));
+        GridLine line = new GridLine(acceptedCell("Word"));
+
+        return IntStream.range(0, lineCount)
+            .mapToObj(i -> i == 0 ? header : line)
+            .collect(toList());
+    }
+
+    /**
+     * Lines with rejected, empty and trailing empty cells, repeating a small
+     * set of distinct lines so that very long inputs fit in memory.
+     */
+    private static List<GridLine> largeLines(final int lineCount, final int columnCount) {
+        List<GridLine> distinctLines = IntStream.range(0, DISTINCT_LINE_COUNT)
+            .mapToObj(i -> largeLine(i, columnCount))
+            .collect(toList());
+
+        return new AbstractList<>() {
+            @Override
+            public GridLine get(final int index) {
+                if (index >= lineCount - 2) {
+                    return new GridLine(acceptedCell(""));
+                } else {
+                    return distinctLines.get(index % DISTINCT_LINE_COUNT);
+                }
+            }
+
+            @Override
+            public int size() {
+                return lineCount;
+            }
+        };
+    }
+
+    private static GridLine largeLine(final int line, final int columnCount) {
+        int width = columnCount - line % 4;
+
+        return new GridLine(IntStream.range(0, columnCount)
+            .mapToObj(c -> largeCell(line, c, width))
+            .collect(toList()));
+    }
+
+    private static GridCell largeCell(final int line, final int column, final int width) {
+        if (column >= width || (line + column) % 7 == 0) {
+            return acceptedCell("");
+        } else if ((line * column) % 11 == 0) {
+            return rejectedCell("R" + line + "." + column);
+        } else {
+            return acceptedCell("W" + line + "." + column);
+        }
+    }
+}
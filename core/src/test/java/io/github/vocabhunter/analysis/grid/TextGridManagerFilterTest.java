@@ -5,10 +5,17 @@
 package io.github.vocabhunter.analysis.grid;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class TextGridManagerFilterTest {
+    private static final Pattern PATTERN = Pattern.compile("[^\\s]+\\s+[^\\s]+");
+
     @Test
     public void testEmpty() {
         validate("", false);
@@ -34,6 +41,22 @@ public class TextGridManagerFilterTest {
         validate("Two Words", true);
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "' Leading', false",
+        "'Trailing ', false",
+        "'Tab\tSeparated', true",
+        "'Many   spaces here', true",
+        "'\u00a0Hello\u00a0', false",
+        "'  Two words  ', true"
+    })
+    public void testMatchesPattern(final String text, final boolean expected) {
+        assertAll(
+            () -> assertEquals(expected, TextGridManagerImpl.isSeveralWords(text), "Filter"),
+            () -> assertEquals(PATTERN.matcher(text).find(), TextGridManagerImpl.isSeveralWords(text), "Pattern")
+        );
+    }
+
     private void validate(final String text, final boolean expected) {
         assertEquals(expected, TextGridManagerImpl.FILTER.test(text));
     }
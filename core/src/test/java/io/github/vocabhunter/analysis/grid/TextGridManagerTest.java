@@ -17,12 +17,17 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class TextGridManagerTest {
     private static final Path FILE = Paths.get("test");
 
+    private static final int LINE_LIMIT = 10;
+
+    private static final int SHEET = 2;
+
     private static final TextGrid GRID = new TextGrid(List.of(), List.of());
 
     @Mock
@@ -34,6 +39,9 @@ public class TextGridManagerTest {
     @Mock
     private ExcelGridReader excelGridReader;
 
+    @Mock
+    private DelimitedGridReader delimitedGridReader;
+
     @Mock
     private TextGridBuilder textGridBuilder;
 
@@ -54,6 +62,15 @@ public class TextGridManagerTest {
         assertEquals(GRID, result);
     }
 
+    @Test
+    public void testReadDocumentLimit() {
+        when(documentGridReader.readGrid(FILE, TextGridManagerImpl.FILTER, LINE_LIMIT)).thenReturn(lines);
+
+        TextGrid result = target.readDocument(FILE, LINE_LIMIT);
+
+        assertSame(GRID, result);
+    }
+
     @Test
     public void testReadExcel() {
         when(excelGridReader.readGrid(FILE, TextGridManagerImpl.FILTER)).thenReturn(lines);
@@ -62,4 +79,50 @@ public class TextGridManagerTest {
 
         assertSame(GRID, result);
     }
+
+    @Test
+    public void testReadExcelLimit() {
+        when(excelGridReader.readGrid(FILE, TextGridManagerImpl.FILTER, LINE_LIMIT)).thenReturn(lines);
+
+        TextGrid result = target.readExcel(FILE, LINE_LIMIT);
+
+        assertSame(GRID, result);
+    }
+
+    @Test
+    public void testReadExcelSheetLimit() {
+        when(excelGridReader.readGrid(FILE, SHEET, TextGridManagerImpl.FILTER, LINE_LIMIT)).thenReturn(lines);
+
+        TextGrid result = target.readExcelSheet(FILE, SHEET, LINE_LIMIT);
+
+        assertSame(GRID, result);
+    }
+
+    @Test
+    public void testReadDelimited() {
+        when(delimitedGridReader.readGrid(FILE, TextGridManagerImpl.FILTER)).thenReturn(lines);
+
+        TextGrid result = target.readDelimited(FILE);
+
+        assertSame(GRID, result);
+    }
+
+    @Test
+    public void testReadDelimitedLimit() {
+        when(delimitedGridReader.readGrid(FILE, TextGridManagerImpl.FILTER, LINE_LIMIT)).thenReturn(lines);
+
+        TextGrid result = target.readDelimited(FILE, LINE_LIMIT);
+
+        assertSame(GRID, result);
+    }
+
+    @Test
+    public void testReadDelimitedLimitReached() {
+        when(lines.size()).thenReturn(LINE_LIMIT);
+        when(delimitedGridReader.readGrid(FILE, TextGridManagerImpl.FILTER, LINE_LIMIT)).thenReturn(lines);
+
+        TextGrid result = target.readDelimited(FILE, LINE_LIMIT);
+
+        assertTrue(result.isTruncated());
+    }
 }
@@ -5,9 +5,17 @@
 package io.github.vocabhunter.analysis.grid;
 
 import io.github.vocabhunter.test.utils.AbstractBeanTest;
+import org.junit.jupiter.api.Test;
 
+import java.util.BitSet;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 public class TextGridTest extends AbstractBeanTest<TextGrid> {
     @Override
     protected TextGrid buildPrimary() {
@@ -18,4 +26,51 @@ public class TextGridTest extends AbstractBeanTest<TextGrid> {
     protected TextGrid buildSecondary() {
         return new TextGrid(List.of(GridLineTest.SECONDARY), List.of(GridColumnTest.SECONDARY));
     }
+
+    @Test
+    public void testColumnarAccess() {
+        TextGrid grid = GridTestTool.grid();
+        BitSet firstColumn = new BitSet();
+
+        firstColumn.set(0, 2);
+        assertAll(
+            () -> assertEquals(GridTestTool.normalisedGridLines(), grid.getLines(), "Lines"),
+            () -> assertEquals(3, grid.getLineCount(), "Line count"),
+            () -> assertEquals("C3", grid.getContent(2, 2), "Content"),
+            () -> assertEquals("", grid.getContent(1, 2), "Missing content"),
+            () -> assertEquals(firstColumn, grid.includedLines(0), "Included first column"),
+            () -> assertEquals(new BitSet(), grid.includedLines(1), "Included second column"),
+            () -> assertEquals(1, grid.getAcceptedCount(2), "Accepted count")
+        );
+    }
+
+    @Test
+    public void testRaggedLines() {
+        GridLine wide = new GridLine(GridTestTool.acceptedCell("A1"), GridTestTool.acceptedCell("B1"), GridTestTool.rejectedCell("C1"));
+        GridLine narrow = new GridLine(GridTestTool.acceptedCell("A2"));
+        TextGrid grid = new TextGridBuilderImpl().build(List.of(narrow, wide, narrow));
+        BitSet secondLine = new BitSet();
+
+        secondLine.set(1);
+        assertAll(
+            () -> assertEquals(List.of(narrow, wide, narrow), grid.getLines(), "Lines"),
+            () -> assertEquals("", grid.getContent(2, 1), "Missing content"),
+            () -> assertEquals(secondLine, grid.includedLines(1), "Included second column"),
+            () -> assertEquals(new BitSet(), grid.includedLines(2), "Included third column"),
+            () -> assertEquals(List.of(new GridColumn(3), new GridColumn(1), new GridColumn(0)), grid.getColumns(), "Columns")
+        );
+    }
+
+    @Test
+    public void testTruncated() {
+        TextGrid grid = GridTestTool.grid();
+        TextGrid truncated = grid.truncated();
+
+        assertAll(
+            () -> assertFalse(grid.isTruncated(), "Grid"),
+            () -> assertTrue(truncated.isTruncated(), "Truncated grid"),
+            () -> assertEquals(grid.getLines(), truncated.getLines(), "Lines"),
+            () -> assertNotEquals(grid, truncated, "Equality")
+        );
+    }
 }
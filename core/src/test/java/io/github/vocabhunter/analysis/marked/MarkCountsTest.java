@@ -0,0 +1,75 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.marked;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static io.github.vocabhunter.analysis.marked.WordState.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MarkCountsTest {
+    private static final int FILTERED_INDEX = 3;
+
+    private final List<MarkedWord> words = List.of(
+        new TestMarkedWord("known", 1, KNOWN),
+        new TestMarkedWord("unknown", 1, UNKNOWN),
+        new TestMarkedWord("unseen", 1, UNSEEN),
+        new TestMarkedWord("filtered", 1, UNSEEN)
+    );
+
+    private final MarkCounts target = new MarkCounts(words, filterShown());
+
+    @Test
+    public void testInitial() {
+        validate(1, 1, 1, 1);
+    }
+
+    @Test
+    public void testMarkUnseen() {
+        target.updateWord(2, UNSEEN, KNOWN);
+        validate(2, 1, 0, 1);
+    }
+
+    @Test
+    public void testMarkFiltered() {
+        target.updateWord(FILTERED_INDEX, UNSEEN, UNKNOWN);
+        validate(1, 2, 1, 0);
+    }
+
+    @Test
+    public void testUnmarkFiltered() {
+        target.updateWord(FILTERED_INDEX, UNSEEN, KNOWN);
+        target.updateWord(FILTERED_INDEX, KNOWN, UNSEEN);
+        validate(1, 1, 1, 1);
+    }
+
+    @Test
+    public void testIsFilterShown() {
+        assertAll(
+            () -> assertTrue(target.isFilterShown(0), "Shown"),
+            () -> assertFalse(target.isFilterShown(FILTERED_INDEX), "Filtered")
+        );
+    }
+
+    private void validate(final int known, final int unknown, final int unseenUnfiltered, final int unseenFiltered) {
+        assertAll(
+            () -> assertEquals(known, target.getKnown(), "Known"),
+            () -> assertEquals(unknown, target.getUnknown(), "Unknown"),
+            () -> assertEquals(unseenUnfiltered, target.getUnseenUnfiltered(), "Unseen unfiltered"),
+            () -> assertEquals(unseenFiltered, target.getUnseenFiltered(), "Unseen filtered")
+        );
+    }
+
+    private static BitSet filterShown() {
+        BitSet result = new BitSet();
+
+        result.set(0, FILTERED_INDEX);
+
+        return result;
+    }
+}
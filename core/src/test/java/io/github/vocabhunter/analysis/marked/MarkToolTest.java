@@ -6,15 +6,31 @@ package io.github.vocabhunter.analysis.marked;
 
 import io.github.vocabhunter.analysis.filter.WordFilter;
 import io.github.vocabhunter.analysis.model.AnalysisWord;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 
+import static io.github.vocabhunter.analysis.marked.MarkTool.isShown;
 import static io.github.vocabhunter.analysis.marked.WordState.*;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class MarkToolTest {
+    private static final Logger LOG = LoggerFactory.getLogger(MarkToolTest.class);
+
+    private static final List<String> IDENTIFIERS = IntStream.range(0, 1000)
+        .mapToObj(i -> "word" + i)
+        .collect(toList());
+
     private final List<MarkedWord> allWords = List.of(
         word(KNOWN, 1),
         word(KNOWN, 2),
@@ -107,6 +123,89 @@ public class MarkToolTest {
         assertEquals(1, target.getUnseenFiltered());
     }
 
+    @Test
+    public void testFilterBitmap() {
+        BitSet filterShown = new BitSet();
+
+        filterShown.set(0, allWords.size() - 2);
+
+        MarkTool<MarkedWord> bitmapTarget = new MarkTool<>(allWords, filterShown);
+
+        assertAll(
+            () -> assertEquals(allWords.subList(0, allWords.size() - 2), bitmapTarget.getShownWords(), "Shown words"),
+            () -> assertEquals(5, bitmapTarget.getUnseenUnfiltered(), "Unseen unfiltered"),
+            () -> assertEquals(2, bitmapTarget.getUnseenFiltered(), "Unseen filtered")
+        );
+    }
+
+    @Test
+    public void testChunkedWordLists() {
+        validateLargeWordList(10_000);
+        validateLargeWordList(MarkTool.PARALLEL_THRESHOLD);
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testLargeWordLists() {
+        validateLargeWordList(100_000);
+        validateLargeWordList(1_000_000);
+    }
+
+    @Test
+    public void testLargeFilterBitmap() {
+        List<MarkedWord> words = new ArrayList<>(largeWords(MarkTool.PARALLEL_THRESHOLD));
+        int last = words.size();
+
+        words.add(new TestMarkedWord("last", 1, KNOWN));
+
+        BitSet filterShown = new BitSet();
+
+        filterShown.set(0, last);
+
+        MarkCounts counts = new MarkTool<>(words, filterShown).getCounts();
+        int known = counts.getKnown();
+        int unseenFiltered = counts.getUnseenFiltered();
+
+        counts.updateWord(last, KNOWN, UNSEEN);
+        assertAll(
+            () -> assertEquals(0, unseenFiltered, "Initial unseen filtered"),
+            () -> assertEquals(known - 1, counts.getKnown(), "Known"),
+            () -> assertEquals(1, counts.getUnseenFiltered(), "Unseen filtered")
+        );
+    }
+
+    private void validateLargeWordList(final int size) {
+        WordFilter largeFilter = w -> w.getUseCount() % 3 != 0;
+        List<MarkedWord> words = largeWords(size);
+        Instant start = Instant.now();
+        MarkTool<MarkedWord> markTool = new MarkTool<>(largeFilter, words);
+        Duration duration = Duration.between(start, Instant.now());
+        List<MarkedWord> expected = words.stream()
+            .filter(w -> isShown(largeFilter, w))
+            .collect(toList());
+
+        LOG.info("Marked {} words completed in {}ms", size, duration.toMillis());
+        assertAll(
+            () -> assertEquals(expected, markTool.getShownWords(), "Shown words"),
+            () -> assertEquals(size, markTool.getKnown() + markTool.getUnknown() + markTool.getUnseenUnfiltered() + markTool.getUnseenFiltered(), "Total"),
+            () -> assertEquals(countUnseen(words, largeFilter, false), markTool.getUnseenFiltered(), "Unseen filtered")
+        );
+    }
+
+    private static long countUnseen(final List<MarkedWord> words, final WordFilter filter, final boolean isShown) {
+        return words.stream()
+            .filter(w -> w.getState() == UNSEEN && filter.isShown(w) == isShown)
+            .count();
+    }
+
+    private static List<MarkedWord> largeWords(final int size) {
+        WordState[] states = values();
+
+        return IntStream.range(0, size)
+            .mapToObj(i -> new TestMarkedWord(IDENTIFIERS.get(i % IDENTIFIERS.size()), i % 7, states[i % 5 % states.length]))
+            .collect(toList());
+    }
+
     private MarkedWord word(final WordState state, final int number) {
         String word = String.format("%s %s", state, number);
 
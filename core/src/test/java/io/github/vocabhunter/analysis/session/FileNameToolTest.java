@@ -61,4 +61,15 @@ public class FileNameToolTest {
 
         assertEquals(expected, FileNameTool.isSessionFile(file));
     }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'test.wordy',            'test.wordy.index'",
+        "'/home/next/test.wordy', '/home/next/test.wordy.index'"
+    })
+    public void testIndexFile(final String name, final String expected) {
+        Path file = Paths.get(name);
+
+        assertEquals(Paths.get(expected), FileNameTool.indexFile(file));
+    }
 }
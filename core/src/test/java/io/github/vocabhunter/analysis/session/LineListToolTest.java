@@ -4,13 +4,16 @@
 
 package io.github.vocabhunter.analysis.session;
 
+import io.github.vocabhunter.analysis.core.VocabHunterException;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.stream.IntStream;
 
 import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class LineListToolTest {
     private static final List<String> LINES_A = List.of("A");
@@ -51,6 +54,22 @@ public class LineListToolTest {
         validate(List.of(LINES_AB, LINES_CD), "A", "B", "C", "D");
     }
 
+    @Test
+    public void testManyLines() {
+        List<String> lines = IntStream.range(0, 1000)
+            .mapToObj(i -> "Line " + i)
+            .collect(toList());
+
+        validate(List.of(lines, lines.subList(500, 1000)), lines.toArray(String[]::new));
+    }
+
+    @Test
+    public void testUnknownLine() {
+        LineListTool<List<String>> target = new LineListTool<>(List.of(LINES_AB), identity());
+
+        assertThrows(VocabHunterException.class, () -> target.getLineNo("C"));
+    }
+
     private void validate(final List<List<String>> input, final String... expected) {
         LineListTool<List<String>> target = new LineListTool<>(input, identity());
         List<String> expectedList = List.of(expected);
@@ -0,0 +1,116 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static io.github.vocabhunter.analysis.marked.WordState.*;
+import static io.github.vocabhunter.analysis.session.TestSessionStateTool.buildSession;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LiveSessionStateTest {
+    private static final int LARGE_WORD_COUNT = 100_000;
+
+    private final LiveSessionState target = new LiveSessionState(buildSession());
+
+    @Test
+    public void testUnchanged() {
+        SessionSnapshot snapshot = target.snapshot();
+
+        assertAll(
+            () -> assertEquals(buildSession(), snapshot.toSessionState(), "Session"),
+            () -> assertFalse(target.isModifiedSince(snapshot), "Modified")
+        );
+    }
+
+    @Test
+    public void testChanges() {
+        target.setState(4, KNOWN);
+        target.setNote(0, "Note");
+
+        SessionState expected = buildSession();
+
+        expected.getOrderedUses().get(4).setState(KNOWN);
+        expected.getOrderedUses().get(0).setNote("Note");
+
+        assertAll(
+            () -> assertEquals(KNOWN, target.getState(4), "State"),
+            () -> assertEquals("Note", target.getNote(0), "Note"),
+            () -> assertEquals(expected, target.snapshot().toSessionState(), "Session")
+        );
+    }
+
+    @Test
+    public void testSnapshotIsolated() {
+        SessionSnapshot snapshot = target.snapshot();
+
+        target.setState(4, KNOWN);
+        target.setNote(0, "Note");
+
+        assertAll(
+            () -> assertEquals(buildSession(), snapshot.toSessionState(), "Session"),
+            () -> assertTrue(target.isModifiedSince(snapshot), "Modified")
+        );
+    }
+
+    @Test
+    public void testBaseUnchanged() {
+        target.setState(4, KNOWN);
+        target.snapshot().toSessionState().getOrderedUses().get(0).setNote("Note");
+
+        assertEquals(buildSession(), target.getBase());
+    }
+
+    @Test
+    public void testManySnapshots() {
+        LiveSessionState large = new LiveSessionState(largeSession());
+        SessionSnapshot first = large.snapshot();
+
+        for (int i = 0; i < LARGE_WORD_COUNT; i += 100) {
+            large.setState(i, KNOWN);
+            large.snapshot();
+        }
+
+        SessionSnapshot last = large.snapshot();
+
+        assertAll(
+            () -> assertEquals(0, knownCount(first), "First"),
+            () -> assertEquals(LARGE_WORD_COUNT / 100, knownCount(last), "Last")
+        );
+    }
+
+    private static long knownCount(final SessionSnapshot snapshot) {
+        return snapshot.toSessionState().getOrderedUses().stream()
+            .filter(w -> w.getState() == KNOWN)
+            .count();
+    }
+
+    private static SessionState largeSession() {
+        List<SessionWord> words = IntStream.range(0, LARGE_WORD_COUNT)
+            .mapToObj(LiveSessionStateTest::largeSessionWord)
+            .collect(toList());
+        SessionState state = new SessionState();
+
+        state.setName("large");
+        state.setLines(List.of("Line"));
+        state.setOrderedUses(words);
+
+        return state;
+    }
+
+    private static SessionWord largeSessionWord(final int i) {
+        SessionWord word = new SessionWord();
+
+        word.setWordIdentifier("word" + i);
+        word.setUseCount(1);
+        word.setLineNos(List.of(0));
+
+        return word;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static io.github.vocabhunter.analysis.marked.WordState.*;
+import static io.github.vocabhunter.analysis.session.TestSessionStateTool.*;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionDiffToolTest {
+    private static final int LARGE_WORD_COUNT = 300_000;
+
+    private static final int LARGE_LINE_COUNT = 50_000;
+
+    private final SessionState before = buildSession();
+
+    @Test
+    public void testIdentical() {
+        SessionDiff diff = SessionDiffTool.diff(before, buildSession());
+
+        assertTrue(diff.isEmpty());
+    }
+
+    @Test
+    public void testLinesReordered() {
+        SessionDiff diff = SessionDiffTool.diff(before, buildSession(List.of(LINE_3, LINE_1, LINE_2)));
+
+        assertTrue(diff.isEmpty());
+    }
+
+    @Test
+    public void testStateChange() {
+        SessionState after = buildSession();
+
+        after.getOrderedUses().get(4).setState(KNOWN);
+
+        SessionDiff diff = SessionDiffTool.diff(before, after);
+        SessionWordChange expected = new SessionWordChange("aid", UNSEEN, KNOWN, null, null, false);
+
+        assertAll(
+            () -> assertEquals(List.of(expected), diff.getChangedWords(), "Changed"),
+            () -> assertEquals(List.of(expected), diff.getStateChanges(), "State changes")
+        );
+    }
+
+    @Test
+    public void testNoteChange() {
+        SessionState after = buildSession();
+
+        after.getOrderedUses().get(0).setNote("Note");
+
+        SessionDiff diff = SessionDiffTool.diff(before, after);
+        SessionWordChange change = diff.getChangedWords().get(0);
+
+        assertAll(
+            () -> assertTrue(change.isNoteChanged(), "Note changed"),
+            () -> assertFalse(change.isStateChanged(), "State changed"),
+            () -> assertEquals(List.of(), diff.getStateChanges(), "State changes")
+        );
+    }
+
+    @Test
+    public void testUsesChange() {
+        SessionState after = buildSession();
+
+        after.getOrderedUses().get(0).setLineNos(List.of(2));
+
+        SessionDiff diff = SessionDiffTool.diff(before, after);
+
+        assertEquals(List.of(new SessionWordChange("the", KNOWN, KNOWN, null, null, true)), diff.getChangedWords());
+    }
+
+    @Test
+    public void testAddedAndRemoved() {
+        SessionState after = buildSession();
+        List<SessionWord> words = new ArrayList<>(after.getOrderedUses());
+        SessionWord extra = new SessionWord();
+
+        extra.setWordIdentifier("extra");
+        extra.setLineNos(List.of(0));
+        words.remove(1);
+        words.add(extra);
+        after.setOrderedUses(words);
+
+        SessionDiff diff = SessionDiffTool.diff(before, after);
+
+        assertAll(
+            () -> assertEquals(List.of("extra"), diff.getAddedWords(), "Added"),
+            () -> assertEquals(List.of("is"), diff.getRemovedWords(), "Removed"),
+            () -> assertEquals(List.of(), diff.getChangedWords(), "Changed")
+        );
+    }
+
+    @Test
+    public void testLargeSession() {
+        SessionState large1 = largeSession();
+        SessionState large2 = largeSession();
+        List<SessionWord> words = large2.getOrderedUses();
+
+        for (int i = 0; i < words.size(); i += 1000) {
+            words.get(i).setState(KNOWN);
+        }
+
+        SessionDiff diff = SessionDiffTool.diff(large1, large2);
+
+        assertAll(
+            () -> assertTrue(SessionDiffTool.isEquivalent(large1, largeSession()), "Equivalent"),
+            () -> assertEquals(LARGE_WORD_COUNT / 1000, diff.getStateChanges().size(), "State changes")
+        );
+    }
+
+    private SessionState largeSession() {
+        List<String> lines = IntStream.range(0, LARGE_LINE_COUNT)
+            .mapToObj(i -> "Line " + i)
+            .collect(toList());
+        List<SessionWord> words = IntStream.range(0, LARGE_WORD_COUNT)
+            .mapToObj(SessionDiffToolTest::largeSessionWord)
+            .collect(toList());
+        SessionState state = new SessionState();
+
+        state.setName("large");
+        state.setLines(lines);
+        state.setOrderedUses(words);
+
+        return state;
+    }
+
+    private static SessionWord largeSessionWord(final int i) {
+        SessionWord word = new SessionWord();
+
+        word.setWordIdentifier("word" + i);
+        word.setState(UNSEEN);
+        word.setUseCount(2);
+        word.setLineNos(List.of(i % LARGE_LINE_COUNT, (i * 7) % LARGE_LINE_COUNT));
+
+        return word;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import io.github.vocabhunter.analysis.core.FileTool;
+import io.github.vocabhunter.test.utils.TestFileManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+
+import static io.github.vocabhunter.analysis.session.TestSessionStateTool.buildSession;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionIndexToolTest {
+    private static final SessionIndex EXPECTED_INDEX = new SessionIndex(List.of("the", "to"), List.of("a", "is"));
+
+    private TestFileManager files;
+
+    private Path file;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        files = new TestFileManager(getClass());
+        file = files.addFile("session.wordy");
+        files.addFile("session.wordy.index");
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        files.cleanup();
+    }
+
+    @Test
+    public void testNoIndex() {
+        FileTool.writeAsJson(file, buildSession(), "Unable to save file '%s'");
+
+        assertEquals(Optional.empty(), SessionIndexTool.read(file));
+    }
+
+    @Test
+    public void testIndexWrittenOnSave() {
+        SessionSerialiser.write(file, buildSession());
+
+        assertAll(
+            () -> assertTrue(Files.isRegularFile(FileNameTool.indexFile(file)), "Index file exists"),
+            () -> assertEquals(Optional.of(EXPECTED_INDEX), SessionIndexTool.read(file))
+        );
+    }
+
+    @Test
+    public void testSessionModified() throws Exception {
+        SessionSerialiser.write(file, buildSession());
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 5000));
+
+        assertEquals(Optional.empty(), SessionIndexTool.read(file));
+    }
+
+    @Test
+    public void testCorruptIndex() throws Exception {
+        SessionSerialiser.write(file, buildSession());
+        Files.write(FileNameTool.indexFile(file), List.of("corrupt"));
+
+        assertEquals(Optional.empty(), SessionIndexTool.read(file));
+    }
+
+    @Test
+    public void testSharedPrefixes() {
+        SessionState state = buildSession();
+        List<SessionWord> words = state.getOrderedUses();
+
+        words.get(0).setWordIdentifier("international");
+        words.get(2).setWordIdentifier("internationalisation");
+        words.get(1).setWordIdentifier("inter");
+        words.get(3).setWordIdentifier("");
+        state.setOrderedUses(words);
+        SessionSerialiser.write(file, state);
+
+        SessionIndex expected = new SessionIndex(List.of("international", "internationalisation"), List.of("", "inter"));
+
+        assertEquals(Optional.of(expected), SessionIndexTool.read(file));
+    }
+
+    @Test
+    public void testWordsToolUsesIndex() {
+        SessionSerialiser.write(file, buildSession());
+
+        SessionWordsTool tool = new SessionWordsToolImpl();
+
+        assertAll(
+            () -> assertEquals(List.of("the", "to"), tool.knownWords(file), "Known words"),
+            () -> assertEquals(List.of("the", "to", "a", "is"), tool.seenWords(file), "Seen words")
+        );
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import io.github.vocabhunter.analysis.core.VocabHunterException;
+import io.github.vocabhunter.analysis.marked.WordState;
+import io.github.vocabhunter.test.utils.TestFileManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static io.github.vocabhunter.analysis.marked.WordState.*;
+import static io.github.vocabhunter.analysis.session.FileNameTool.filename;
+import static io.github.vocabhunter.analysis.session.TestSessionStateTool.buildSession;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionMergeToolTest {
+    private static final int AID = 4;
+
+    private static final int ALL = 5;
+
+    private static final int THE = 0;
+
+    private TestFileManager files;
+
+    private Path base;
+
+    private Path output;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        files = new TestFileManager(getClass());
+        base = files.addFile("base.wordy");
+        output = files.addFile("output.wordy");
+        files.addFile("base.wordy.index");
+        files.addFile("output.wordy.index");
+        SessionSerialiser.write(base, buildSession());
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        files.cleanup();
+    }
+
+    @Test
+    public void testNoChanges() {
+        Path derived = derived("derived.wordy", s -> { });
+
+        SessionMergeResult result = SessionMergeTool.merge(base, List.of(derived), output);
+
+        assertAll(
+            () -> assertEquals(new SessionMergeResult(0, 0, List.of()), result, "Result"),
+            () -> assertEquals(buildSession(), SessionSerialiser.read(output).getState(), "Merged session")
+        );
+    }
+
+    @Test
+    public void testIndependentChanges() {
+        SessionState expected = session(s -> {
+            setState(s, AID, KNOWN);
+            setState(s, ALL, UNKNOWN);
+            setNote(s, THE, "Definite article");
+        });
+        Path derived1 = derived("derived1.wordy", s -> setState(s, AID, KNOWN));
+        Path derived2 = derived("derived2.wordy", s -> {
+            setState(s, ALL, UNKNOWN);
+            setNote(s, THE, "Definite article");
+        });
+        SessionMergeResult result = SessionMergeTool.merge(base, List.of(derived1, derived2), output);
+
+        assertAll(
+            () -> assertEquals(new SessionMergeResult(3, 0, List.of()), result, "Result"),
+            () -> assertEquals(expected, SessionSerialiser.read(output).getState(), "Merged session")
+        );
+    }
+
+    @Test
+    public void testConflicts() {
+        SessionState expected = session(s -> {
+            setState(s, AID, UNKNOWN);
+            setNote(s, THE, "Note 2\nNote 1");
+        });
+        Path derived1 = derived("derived1.wordy", s -> {
+            setState(s, AID, KNOWN);
+            setNote(s, THE, "Note 1");
+        });
+        Path derived2 = derived("derived2.wordy", s -> {
+            setState(s, AID, UNKNOWN);
+            setNote(s, THE, "Note 2");
+        });
+        SessionMergeResult result = SessionMergeTool.merge(base, List.of(derived2, derived1), output);
+
+        assertAll(
+            () -> assertEquals(List.of("the", "aid"), result.getConflicts(), "Conflicts"),
+            () -> assertEquals(expected, SessionSerialiser.read(output).getState(), "Merged session")
+        );
+    }
+
+    @Test
+    public void testMergeIntoBase() {
+        Path derived = derived("derived.wordy", s -> setState(s, AID, KNOWN));
+
+        SessionMergeTool.merge(base, List.of(derived), base);
+
+        assertEquals(session(s -> setState(s, AID, KNOWN)), SessionSerialiser.read(base).getState());
+    }
+
+    @Test
+    public void testIndexWritten() {
+        Path derived = derived("derived.wordy", s -> setState(s, AID, KNOWN));
+
+        SessionMergeTool.merge(base, List.of(derived), output);
+
+        SessionIndex expected = new SessionIndex(List.of("aid", "the", "to"), List.of("a", "is"));
+
+        assertEquals(Optional.of(expected), SessionIndexTool.read(output));
+    }
+
+    @Test
+    public void testNoTemporaryFiles() throws Exception {
+        Path derived = derived("derived.wordy", s -> setState(s, AID, KNOWN));
+
+        SessionMergeTool.merge(base, List.of(derived), output);
+
+        try (Stream<Path> paths = Files.list(output.toAbsolutePath().getParent())) {
+            assertTrue(paths.noneMatch(p -> filename(p).endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    public void testLegacyFormat() throws Exception {
+        Path legacy = files.addCopy("format4.wordy");
+
+        assertThrows(VocabHunterException.class, () -> SessionMergeTool.merge(base, List.of(legacy), output));
+    }
+
+    private Path derived(final String name, final Consumer<SessionState> changes) {
+        Path file = files.addFile(name);
+
+        files.addFile(name + ".index");
+        SessionSerialiser.write(file, session(changes));
+
+        return file;
+    }
+
+    private static SessionState session(final Consumer<SessionState> changes) {
+        SessionState state = buildSession();
+
+        changes.accept(state);
+
+        return state;
+    }
+
+    private static void setState(final SessionState state, final int index, final WordState wordState) {
+        state.getOrderedUses().get(index).setState(wordState);
+    }
+
+    private static void setNote(final SessionState state, final int index, final String note) {
+        state.getOrderedUses().get(index).setNote(note);
+    }
+}
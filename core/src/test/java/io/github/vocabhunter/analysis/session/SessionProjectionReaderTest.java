@@ -0,0 +1,148 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import io.github.vocabhunter.analysis.core.FileTool;
+import io.github.vocabhunter.analysis.core.VocabHunterException;
+import io.github.vocabhunter.analysis.marked.WordState;
+import io.github.vocabhunter.test.utils.TestFileManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SessionProjectionReaderTest {
+    private static final Logger LOG = LoggerFactory.getLogger(SessionProjectionReaderTest.class);
+
+    private static final int LARGE_WORD_COUNT = 50_000;
+
+    private static final int LARGE_LINE_COUNT = 20_000;
+
+    private static final WordState[] STATES = WordState.values();
+
+    private TestFileManager files;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        files = new TestFileManager(getClass());
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        files.cleanup();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"format1.wordy", "format2.wordy", "format3.wordy", "format4.wordy", "format5.wordy", "unexpected-field.wordy"})
+    public void testSameAsFullRead(final String filename) throws Exception {
+        Path file = Paths.get(SessionProjectionReaderTest.class.getResource("/" + filename).toURI());
+
+        validate(file);
+    }
+
+    @Test
+    public void testUnsupportedVersion() throws Exception {
+        Path file = Paths.get(SessionProjectionReaderTest.class.getResource("/format-unsupported-version.wordy").toURI());
+
+        assertThrows(VocabHunterException.class, () -> SessionProjectionReader.readWords(file, s -> true));
+    }
+
+    @Test
+    public void testEmptyFile() throws Exception {
+        Path file = files.addFile("empty.wordy");
+
+        Files.createFile(file);
+
+        assertThrows(VocabHunterException.class, () -> SessionProjectionReader.readWords(file, s -> true));
+    }
+
+    @Test
+    public void testMinimalFile() {
+        Path file = files.addFile("minimal.wordy");
+
+        FileTool.writeMinimalJson(file, "Unable to write '%s'");
+
+        assertEquals(List.of(), SessionProjectionReader.readWords(file, s -> true), "No words");
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testLargeSession() {
+        Path file = files.addFile("large.wordy");
+
+        SessionSerialiser.write(file, largeSession());
+
+        List<String> expected = time("Full read", () -> fullRead(file, WordState.KNOWN));
+        List<String> actual = time("Projection read", () -> SessionProjectionReader.readWords(file, WordState.KNOWN::equals));
+
+        assertEquals(expected, actual, "Known words");
+    }
+
+    private void validate(final Path file) {
+        for (WordState state : STATES) {
+            assertEquals(fullRead(file, state), SessionProjectionReader.readWords(file, state::equals), "Words in state " + state);
+        }
+    }
+
+    private List<String> fullRead(final Path file, final WordState state) {
+        return FileTool.readFromJson(SessionState.class, file, "Unable to load file '%s'").getOrderedUses().stream()
+            .filter(w -> w.getState().equals(state))
+            .map(SessionWord::getWordIdentifier)
+            .collect(toList());
+    }
+
+    private <T> T time(final String description, final Supplier<T> supplier) {
+        Instant start = Instant.now();
+        T result = supplier.get();
+        Duration duration = Duration.between(start, Instant.now());
+
+        LOG.info("{} of {} words completed in {}ms", description, LARGE_WORD_COUNT, duration.toMillis());
+
+        return result;
+    }
+
+    private SessionState largeSession() {
+        List<String> lines = IntStream.range(0, LARGE_LINE_COUNT)
+            .mapToObj(i -> String.format("This is line number %d of a fairly long document, used to pad out the session.", i))
+            .collect(toList());
+        List<SessionWord> words = new ArrayList<>();
+
+        for (int i = 0; i < LARGE_WORD_COUNT; i++) {
+            SessionWord word = new SessionWord();
+
+            word.setWordIdentifier("word" + i);
+            word.setState(STATES[i % STATES.length]);
+            word.setUseCount(3);
+            word.setLineNos(List.of(i % LARGE_LINE_COUNT, (i + 1) % LARGE_LINE_COUNT, (i + 2) % LARGE_LINE_COUNT));
+            words.add(word);
+        }
+
+        SessionState state = new SessionState();
+
+        state.setName("large");
+        state.setLines(lines);
+        state.setOrderedUses(words);
+
+        return state;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.session;
+
+import io.github.vocabhunter.test.utils.TestFileManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static io.github.vocabhunter.analysis.session.FileNameTool.filename;
+import static io.github.vocabhunter.analysis.session.TestSessionStateTool.buildSession;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionUpgradeToolTest {
+    private static final List<String> LEGACY_FILES = List.of("format1.wordy", "format2.wordy", "format3.wordy", "format4.wordy");
+
+    private static final String LATEST_FILE = "format5.wordy";
+
+    private static final String UNSUPPORTED_FILE = "format-unsupported-version.wordy";
+
+    private TestFileManager files;
+
+    private Path source;
+
+    private Path target;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        files = new TestFileManager(getClass());
+        source = files.getDirectory().resolve("source");
+        target = files.getDirectory().resolve("target");
+        Files.createDirectories(source);
+        for (String name : LEGACY_FILES) {
+            copy(name);
+        }
+        copy(LATEST_FILE);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        files.cleanup();
+    }
+
+    @Test
+    public void testUpgradeToTarget() {
+        List<SessionUpgradeResult> results = SessionUpgradeTool.upgradeDirectory(source, target, (n, count, r) -> { });
+
+        assertAll(
+            () -> assertEquals(4, results.stream().filter(SessionUpgradeResult::isUpgraded).count(), "Upgraded files"),
+            () -> assertEquals(List.of(1, 2, 3, 4, 5), versions(results), "Original versions"),
+            () -> {
+                for (String name : LEGACY_FILES) {
+                    assertEquals(buildSession(), SessionSerialiser.readSessionState(target.resolve(name)), name);
+                }
+            },
+            () -> assertEquals(buildSession(), SessionSerialiser.readSessionState(target.resolve(LATEST_FILE)), LATEST_FILE)
+        );
+    }
+
+    @Test
+    public void testUpgradeInPlace() {
+        SessionUpgradeTool.upgradeDirectory(source, source, (n, count, r) -> { });
+
+        List<SessionUpgradeResult> results = SessionUpgradeTool.upgradeDirectory(source, source, (n, count, r) -> { });
+
+        assertAll(
+            () -> assertEquals(5, results.size(), "Files"),
+            () -> assertTrue(results.stream().noneMatch(SessionUpgradeResult::isUpgraded), "No further upgrades")
+        );
+    }
+
+    @Test
+    public void testNoTemporaryFiles() throws Exception {
+        SessionUpgradeTool.upgradeDirectory(source, source, (n, count, r) -> { });
+
+        try (Stream<Path> paths = Files.list(source)) {
+            assertTrue(paths.noneMatch(p -> filename(p).endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    public void testIndexWritten() {
+        SessionUpgradeTool.upgradeDirectory(source, target, (n, count, r) -> { });
+
+        for (String name : LEGACY_FILES) {
+            assertTrue(SessionIndexTool.read(target.resolve(name)).isPresent(), name);
+        }
+    }
+
+    @Test
+    public void testProgress() {
+        List<String> progress = new ArrayList<>();
+
+        SessionUpgradeTool.upgradeDirectory(source, target, (n, count, r) -> progress.add(n + "/" + count));
+
+        assertEquals(List.of("1/5", "2/5", "3/5", "4/5", "5/5"), progress);
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        copy(UNSUPPORTED_FILE);
+
+        List<SessionUpgradeResult> results = SessionUpgradeTool.upgradeDirectory(source, target, (n, count, r) -> { });
+        SessionUpgradeResult failure = results.get(0);
+
+        assertAll(
+            () -> assertEquals(6, results.size(), "Files"),
+            () -> assertTrue(failure.getError().isPresent(), "Error"),
+            () -> assertFalse(failure.isUpgraded(), "Not upgraded"),
+            () -> assertFalse(Files.exists(target.resolve(UNSUPPORTED_FILE)), "No output")
+        );
+    }
+
+    private List<Integer> versions(final List<SessionUpgradeResult> results) {
+        return results.stream()
+            .map(SessionUpgradeResult::getOriginalVersion)
+            .collect(toList());
+    }
+
+    private void copy(final String name) throws Exception {
+        Files.copy(files.addCopy(name), source.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
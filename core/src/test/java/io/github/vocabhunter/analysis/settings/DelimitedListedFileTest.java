@@ -0,0 +1,25 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.settings;
+
+import io.github.vocabhunter.test.utils.AbstractBeanTest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+public class DelimitedListedFileTest extends AbstractBeanTest<DelimitedListedFile> {
+    private static final Path FILE = Paths.get("file1");
+
+    @Override
+    protected DelimitedListedFile buildPrimary() {
+        return new DelimitedListedFile(FILE, List.of(0));
+    }
+
+    @Override
+    protected DelimitedListedFile buildSecondary() {
+        return new DelimitedListedFile(FILE, List.of(0, 2));
+    }
+}
@@ -9,8 +9,10 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 
 import static io.github.vocabhunter.analysis.settings.FileListManagerImpl.SETTINGS_JSON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -25,12 +27,18 @@ public class FileListManagerTest {
 
     private ExcelListedFile file3;
 
+    private DelimitedListedFile file4;
+
+    private ExcelListedFile file5;
+
+    private Path settingsFile;
+
     private FileListManager target;
 
     @BeforeEach
     public void setUp() throws Exception {
         files = new TestFileManager(getClass());
-        Path settingsFile = files.addFile(SETTINGS_JSON);
+        settingsFile = files.addFile(SETTINGS_JSON);
         target = new FileListManagerImpl(settingsFile);
 
         Path path1 = files.addFile("file1");
@@ -41,6 +49,12 @@ public class FileListManagerTest {
 
         Path path3 = files.addFile("file3");
         file3 = new ExcelListedFile(path3, List.of(1, 2, 3));
+
+        Path path4 = files.addFile("file4");
+        file4 = new DelimitedListedFile(path4, List.of(0, 2));
+
+        Path path5 = files.addFile("file5");
+        file5 = new ExcelListedFile(path5, Map.of(1, List.of(0), 3, List.of(1, 2)));
     }
 
     @AfterEach
@@ -57,7 +71,7 @@ public class FileListManagerTest {
 
     @Test
     public void testAdd() {
-        List<BaseListedFile> files = List.of(file1, file2, file3);
+        List<BaseListedFile> files = List.of(file1, file2, file3, file4, file5);
 
         target.setFilterFiles(files);
 
@@ -65,4 +79,13 @@ public class FileListManagerTest {
 
         assertEquals(files, actual, "Files");
     }
+
+    @Test
+    public void testReadExcelColumnsOnly() throws Exception {
+        Files.writeString(settingsFile, "{\"filterFiles\":[{\"type\":\"EXCEL\",\"file\":\"file3\",\"columns\":[1,2]}]}");
+
+        List<BaseListedFile> actual = target.getFilterFiles();
+
+        assertEquals(List.of(new ExcelListedFile(Path.of("file3"), Map.of(0, List.of(1, 2)))), actual);
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.analysis.settings;
+
+import io.github.vocabhunter.test.utils.TestFileManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FilterFileWatcherTest {
+    private static final Duration DEBOUNCE = Duration.ofMillis(300);
+
+    private static final long TIMEOUT_SECONDS = 20;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    private final BlockingQueue<Path> changes = new LinkedBlockingQueue<>();
+
+    private TestFileManager files;
+
+    private Path watched;
+
+    private Path unwatched;
+
+    private FilterFileWatcher target;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        files = new TestFileManager(getClass());
+        watched = files.addFile("watched.txt");
+        unwatched = files.addFile("unwatched.txt");
+        Files.writeString(watched, "Original");
+        target = new FilterFileWatcher(scheduler, DEBOUNCE, changes::add);
+        target.watch(List.of(watched));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        target.close();
+        scheduler.shutdownNow();
+        files.cleanup();
+    }
+
+    @Test
+    public void testChangeDebounced() throws Exception {
+        Files.writeString(unwatched, "Ignored");
+        for (int i = 0; i < 5; i++) {
+            Files.writeString(watched, "Change " + i);
+        }
+
+        assertAll(
+            () -> assertEquals(watched.toAbsolutePath().normalize(), changes.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS), "Changed file"),
+            () -> assertNull(changes.poll(DEBOUNCE.toMillis() * 3, TimeUnit.MILLISECONDS), "Further changes")
+        );
+    }
+
+    @Test
+    public void testNoLongerWatched() throws Exception {
+        target.watch(List.of(unwatched));
+        Files.writeString(watched, "Change");
+        Files.writeString(unwatched, "Change");
+
+        assertAll(
+            () -> assertEquals(unwatched.toAbsolutePath().normalize(), changes.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS), "Changed file"),
+            () -> assertNull(changes.poll(DEBOUNCE.toMillis() * 3, TimeUnit.MILLISECONDS), "Further changes")
+        );
+    }
+}
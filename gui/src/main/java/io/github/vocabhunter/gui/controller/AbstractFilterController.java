@@ -5,10 +5,13 @@
 package io.github.vocabhunter.gui.controller;
 
 import io.github.vocabhunter.gui.dialogues.FileDialogueFactory;
+import io.github.vocabhunter.gui.i18n.I18nKey;
 import io.github.vocabhunter.gui.i18n.I18nManager;
 import io.github.vocabhunter.gui.model.AbstractFilterModel;
 import io.github.vocabhunter.gui.model.FilterFileModel;
+import io.github.vocabhunter.gui.model.WordCountStatus;
 import io.github.vocabhunter.gui.view.ErrorClassTool;
+import javafx.beans.binding.Bindings;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -16,6 +19,8 @@ import javafx.scene.control.TextField;
 import javafx.stage.Stage;
 
 import static io.github.vocabhunter.gui.i18n.I18nKey.FILTER_WORDS_COUNT;
+import static io.github.vocabhunter.gui.i18n.I18nKey.FILTER_WORDS_COUNT_FAILED;
+import static io.github.vocabhunter.gui.i18n.I18nKey.FILTER_WORDS_COUNT_PARTIAL;
 
 public abstract class AbstractFilterController<T extends AbstractFilterModel> {
     private final I18nManager i18nManager;
@@ -51,7 +56,8 @@ public abstract class AbstractFilterController<T extends AbstractFilterModel> {
         buttonAddFilterFile.setOnAction(e -> exit(stage, model, onSave, parentModel, true));
         buttonCancel.setOnAction(e -> exit(stage, model, onSave, parentModel, false));
 
-        labelTotalWords.textProperty().bind(i18nManager.textBinding(FILTER_WORDS_COUNT, model.wordCountProperty()));
+        labelTotalWords.textProperty().bind(
+            Bindings.createStringBinding(() -> wordCountText(model), model.wordCountProperty(), model.wordCountStatusProperty()));
 
         buttonAddFilterFile.disableProperty().bind(model.errorProperty());
 
@@ -61,6 +67,20 @@ public abstract class AbstractFilterController<T extends AbstractFilterModel> {
         initialiseInternal(parentModel, model);
     }
 
+    private String wordCountText(final T model) {
+        return i18nManager.text(wordCountKey(model.getWordCountStatus()), model.getWordCount());
+    }
+
+    private static I18nKey wordCountKey(final WordCountStatus status) {
+        if (status == WordCountStatus.FAILED) {
+            return FILTER_WORDS_COUNT_FAILED;
+        } else if (status == WordCountStatus.PARTIAL) {
+            return FILTER_WORDS_COUNT_PARTIAL;
+        } else {
+            return FILTER_WORDS_COUNT;
+        }
+    }
+
     protected abstract void changeFile(Stage stage, FileDialogueFactory factory, T filterModel);
 
     protected abstract T buildFilterModel(FilterFileModel model);
@@ -33,6 +33,7 @@ public final class FileFormatTypeTool {
 
         map.put(FileFormatType.DOCUMENT, FilterFileMode.DOCUMENT);
         map.put(FileFormatType.SPREADSHEET, FilterFileMode.EXCEL);
+        map.put(FileFormatType.DELIMITED, FilterFileMode.DELIMITED);
         map.put(FileFormatType.SESSION, FilterFileMode.SESSION_KNOWN);
 
         return map;
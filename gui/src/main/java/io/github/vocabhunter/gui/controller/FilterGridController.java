@@ -5,10 +5,12 @@
 package io.github.vocabhunter.gui.controller;
 
 import io.github.vocabhunter.analysis.grid.GridCell;
+import io.github.vocabhunter.analysis.grid.GridColumnCounts;
 import io.github.vocabhunter.analysis.grid.GridLine;
 import io.github.vocabhunter.analysis.grid.TextGrid;
 import io.github.vocabhunter.analysis.grid.TextGridManager;
 import io.github.vocabhunter.gui.common.ColumnNameTool;
+import io.github.vocabhunter.gui.common.GuiTaskHandler;
 import io.github.vocabhunter.gui.dialogues.FileDialogue;
 import io.github.vocabhunter.gui.dialogues.FileDialogueFactory;
 import io.github.vocabhunter.gui.dialogues.FileDialogueType;
@@ -17,39 +19,63 @@ import io.github.vocabhunter.gui.i18n.I18nManager;
 import io.github.vocabhunter.gui.model.FilterFileMode;
 import io.github.vocabhunter.gui.model.FilterFileModel;
 import io.github.vocabhunter.gui.model.FilterGridModel;
+import io.github.vocabhunter.gui.view.FilterGridSheetCell;
 import io.github.vocabhunter.gui.view.FilterGridWordTableCell;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.CheckBox;
+import javafx.scene.control.ComboBox;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableColumn.CellDataFeatures;
 import javafx.scene.control.TableView;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 import javax.inject.Inject;
 
 import static java.util.stream.Collectors.toList;
 
 public class FilterGridController extends AbstractFilterController<FilterGridModel> {
+    private static final Logger LOG = LoggerFactory.getLogger(FilterGridController.class);
+
+    private static final int PREVIEW_LINE_COUNT = 2000;
+
+    private static final int CELL_CACHE_SIZE = 1000;
+
     private static final int MAX_COLUMNS_WITHOUT_SCROLL = 3;
 
     private static final int PREFERRED_COLUMN_WIDTH = 200;
 
     private static final int MINIMUM_MULTI_COLUMN_COLUMN_BOX_HEIGHT = 50;
 
+    private final I18nManager i18nManager;
+
     private final TextGridManager textGridManager;
 
     private final ColumnNameTool columnNameTool;
 
+    private final GuiTaskHandler guiTaskHandler;
+
+    @FXML
+    private HBox sheetBox;
+
+    @FXML
+    private ComboBox<Integer> comboSheet;
+
     @FXML
     private TableView<GridLine> tableWords;
 
@@ -62,22 +88,33 @@ public class FilterGridController extends AbstractFilterController<FilterGridMod
     @FXML
     private List<CheckBox> checkBoxes;
 
-    private final Map<GridCell, ReadOnlyObjectWrapper<GridCell>> cellCache = new HashMap<>();
+    private final Map<GridCell, ReadOnlyObjectWrapper<GridCell>> cellCache = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicInteger readCount = new AtomicInteger();
 
     @Inject
-    public FilterGridController(final I18nManager i18nManager, final FileDialogueFactory factory, final TextGridManager textGridManager, final ColumnNameTool columnNameTool) {
+    public FilterGridController(
+        final I18nManager i18nManager, final FileDialogueFactory factory, final TextGridManager textGridManager, final ColumnNameTool columnNameTool,
+        final GuiTaskHandler guiTaskHandler) {
         super(i18nManager, factory);
+        this.i18nManager = i18nManager;
         this.textGridManager = textGridManager;
         this.columnNameTool = columnNameTool;
+        this.guiTaskHandler = guiTaskHandler;
     }
 
     @Override
     protected FilterGridModel buildFilterModel(final FilterFileModel model) {
         Path file = model.getFile();
         FilterFileMode mode = model.getMode();
-        TextGrid grid = readGrid(file, mode);
+        List<String> sheetNames = readSheetNames(file, mode);
+        int sheet = initialSheet(model.getSheetColumns(), sheetNames);
+        TextGrid grid = readPreview(file, mode, sheet);
+        FilterGridModel filterModel = new FilterGridModel(file, grid, mode, model.getSheetColumns(), sheetNames, sheet);
 
-        return new FilterGridModel(file, grid, mode, model.getColumns());
+        readFullGrid(filterModel, file, mode);
+
+        return filterModel;
     }
 
     @Override
@@ -85,7 +122,7 @@ public class FilterGridController extends AbstractFilterController<FilterGridMod
         if (isSaveRequested) {
             parentModel.setMode(filterModel.getMode());
             parentModel.setFile(filterModel.getFile());
-            parentModel.setColumns(filterModel.getColumns());
+            parentModel.setSheetColumns(filterModel.getSheetColumns());
             onSave.run();
         }
         stage.close();
@@ -96,13 +133,47 @@ public class FilterGridController extends AbstractFilterController<FilterGridMod
         tableWords.setItems(filterModel.getLines());
         tableWords.setSelectionModel(null);
         setupColumnsAndCheckBoxes(filterModel);
+        comboSheet.setCellFactory(l -> new FilterGridSheetCell(i18nManager, filterModel));
+        comboSheet.setButtonCell(new FilterGridSheetCell(i18nManager, filterModel));
+        setupSheets(filterModel);
+        comboSheet.valueProperty().addListener((o, n, v) -> changeSheet(filterModel, v));
+    }
+
+    private void setupSheets(final FilterGridModel filterModel) {
+        int sheetCount = filterModel.getSheetNames().size();
+        boolean isSheetChoice = sheetCount > 1;
+
+        comboSheet.getItems().setAll(IntStream.range(0, sheetCount).boxed().collect(toList()));
+        comboSheet.setValue(filterModel.getSheet());
+        sheetBox.setVisible(isSheetChoice);
+        sheetBox.setManaged(isSheetChoice);
+    }
+
+    private void changeSheet(final FilterGridModel filterModel, final Integer sheet) {
+        if (sheet != null && sheet != filterModel.getSheet()) {
+            if (!filterModel.isSheetRead(sheet)) {
+                readSheet(filterModel, sheet);
+            }
+            unbindCheckboxes(filterModel);
+            filterModel.selectSheet(sheet);
+            tableWords.setItems(filterModel.getLines());
+            setupColumnsAndCheckBoxes(filterModel);
+        }
     }
 
     private ObservableValue<GridCell> extractValue(final CellDataFeatures<GridLine, GridCell> features, final int index) {
         List<GridCell> cells = features.getValue().getCells();
         GridCell cell = getCell(cells, index);
+        ReadOnlyObjectWrapper<GridCell> value = cellCache.computeIfAbsent(cell, ReadOnlyObjectWrapper::new);
+
+        if (cellCache.size() > CELL_CACHE_SIZE) {
+            Iterator<ReadOnlyObjectWrapper<GridCell>> iterator = cellCache.values().iterator();
 
-        return cellCache.computeIfAbsent(cell, ReadOnlyObjectWrapper::new);
+            iterator.next();
+            iterator.remove();
+        }
+
+        return value;
     }
 
     private GridCell getCell(final List<GridCell> cells, final int index) {
@@ -123,19 +194,150 @@ public class FilterGridController extends AbstractFilterController<FilterGridMod
             Path file = dialogue.getSelectedFile();
             FileFormatType format = dialogue.getFileFormatType();
             FilterFileMode mode = FileFormatTypeTool.getMode(format);
-            TextGrid grid = readGrid(file, mode);
+            List<String> sheetNames = readSheetNames(file, mode);
+            TextGrid grid = readPreview(file, mode, FilterGridModel.FIRST_SHEET);
 
             unbindCheckboxes(filterModel);
-            filterModel.replaceContent(file, grid, mode, FilterGridModel.DEFAULT_COLUMNS);
+            filterModel.replaceContent(
+                file, grid, mode, Map.of(FilterGridModel.FIRST_SHEET, FilterGridModel.DEFAULT_COLUMNS), sheetNames, FilterGridModel.FIRST_SHEET);
+            tableWords.setItems(filterModel.getLines());
             setupColumnsAndCheckBoxes(filterModel);
+            setupSheets(filterModel);
+            readFullGrid(filterModel, file, mode);
+        }
+    }
+
+    private List<String> readSheetNames(final Path file, final FilterFileMode mode) {
+        if (mode == FilterFileMode.EXCEL) {
+            return textGridManager.readExcelSheetNames(file);
+        } else {
+            return List.of();
+        }
+    }
+
+    private static int initialSheet(final SortedMap<Integer, ?> sheetColumns, final List<String> sheetNames) {
+        if (sheetColumns.isEmpty() || sheetColumns.firstKey() >= sheetNames.size()) {
+            return FilterGridModel.FIRST_SHEET;
+        } else {
+            return sheetColumns.firstKey();
+        }
+    }
+
+    private TextGrid readPreview(final Path file, final FilterFileMode mode, final int sheet) {
+        if (mode == FilterFileMode.DOCUMENT) {
+            return textGridManager.readDocument(file, PREVIEW_LINE_COUNT);
+        } else if (mode == FilterFileMode.DELIMITED) {
+            return textGridManager.readDelimited(file, PREVIEW_LINE_COUNT);
+        } else {
+            return textGridManager.readExcelSheet(file, sheet, PREVIEW_LINE_COUNT);
+        }
+    }
+
+    /**
+     * Reads the sheet shown in full in the background, unless its preview
+     * already reached the end of it, then counts the words in each of the
+     * other sheets without keeping their grids.
+     */
+    private void readFullGrid(final FilterGridModel filterModel, final Path file, final FilterFileMode mode) {
+        int readNo = readCount.incrementAndGet();
+        int shownSheet = filterModel.getSheet();
+        boolean isShownSheetTruncated = filterModel.isSheetTruncated(shownSheet);
+        List<Integer> otherSheets = IntStream.range(0, filterModel.getSheetNames().size())
+            .filter(s -> s != shownSheet)
+            .boxed()
+            .collect(toList());
+
+        if (isShownSheetTruncated || !otherSheets.isEmpty()) {
+            executeRead(filterModel, file, readNo, () -> {
+                if (isShownSheetTruncated) {
+                    readSheetGrid(filterModel, file, mode, shownSheet, readNo);
+                }
+                for (int sheet : otherSheets) {
+                    if (readNo == readCount.get()) {
+                        int[] acceptedCounts = countSheet(file, sheet);
+
+                        executeIfCurrent(readNo, () -> filterModel.updateCounts(sheet, acceptedCounts));
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Shows a preview of a sheet straight away, and reads the rest of it in
+     * the background if the preview stopped short of the end.
+     */
+    private void readSheet(final FilterGridModel filterModel, final int sheet) {
+        Path file = filterModel.getFile();
+        FilterFileMode mode = filterModel.getMode();
+        int readNo = readCount.get();
+
+        filterModel.updateGrid(sheet, readPreview(file, mode, sheet));
+        if (filterModel.isSheetTruncated(sheet)) {
+            executeRead(filterModel, file, readNo, () -> readSheetGrid(filterModel, file, mode, sheet, readNo));
+        }
+    }
+
+    private void executeRead(final FilterGridModel filterModel, final Path file, final int readNo, final Runnable read) {
+        guiTaskHandler.executeInBackground(() -> {
+            try {
+                read.run();
+            } catch (final RuntimeException e) {
+                LOG.error("Unable to read the rest of {}", file, e);
+                executeIfCurrent(readNo, filterModel::markReadFailed);
+            }
+        });
+    }
+
+    /**
+     * Applies the result of a background read, unless the file has changed since.
+     */
+    private void executeIfCurrent(final int readNo, final Runnable action) {
+        guiTaskHandler.executeOnGuiThread(() -> {
+            if (readNo == readCount.get()) {
+                action.run();
+            }
+        });
+    }
+
+    private void readSheetGrid(final FilterGridModel filterModel, final Path file, final FilterFileMode mode, final int sheet, final int readNo) {
+        if (readNo == readCount.get()) {
+            TextGrid grid = readGrid(file, mode, sheet);
+
+            executeIfCurrent(readNo, () -> completeFullGrid(filterModel, sheet, grid));
+        }
+    }
+
+    private int[] countSheet(final Path file, final int sheet) {
+        GridColumnCounts counts = new GridColumnCounts();
+
+        textGridManager.readExcelSheetLines(file, sheet, counts);
+
+        return counts.getAcceptedCounts();
+    }
+
+    private void completeFullGrid(final FilterGridModel filterModel, final int sheet, final TextGrid grid) {
+        boolean isShownSheet = sheet == filterModel.getSheet();
+
+        if (isShownSheet && grid.getColumns().size() != filterModel.getColumnCount()) {
+            unbindCheckboxes(filterModel);
+            filterModel.updateGrid(sheet, grid);
+            setupColumnsAndCheckBoxes(filterModel);
+        } else {
+            filterModel.updateGrid(sheet, grid);
+        }
+        if (isShownSheet) {
+            tableWords.setItems(filterModel.getLines());
         }
     }
 
-    private TextGrid readGrid(final Path file, final FilterFileMode mode) {
+    private TextGrid readGrid(final Path file, final FilterFileMode mode, final int sheet) {
         if (mode == FilterFileMode.DOCUMENT) {
             return textGridManager.readDocument(file);
+        } else if (mode == FilterFileMode.DELIMITED) {
+            return textGridManager.readDelimited(file);
         } else {
-            return textGridManager.readExcel(file);
+            return textGridManager.readExcelSheet(file, sheet);
         }
     }
 
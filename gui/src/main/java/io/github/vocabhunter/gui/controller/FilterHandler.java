@@ -37,8 +37,9 @@ public class FilterHandler {
         int minimumLetters = settingsManager.getFilterMinimumLetters();
         int minimumOccurrences = settingsManager.getFilterMinimumOccurrences();
         boolean allowInitialCapitals = settingsManager.isAllowInitialCapitals();
+        boolean matchWordForms = settingsManager.isMatchWordForms();
         List<BaseListedFile> filterFiles = fileListManager.getFilterFiles();
-        FilterSettings settings = new FilterSettings(minimumLetters, minimumOccurrences, allowInitialCapitals, filterFiles);
+        FilterSettings settings = new FilterSettings(minimumLetters, minimumOccurrences, allowInitialCapitals, matchWordForms, filterFiles);
 
         filterService.setFilterSettings(settings);
         model.filterSettingsProperty().addListener((o, old, v) -> updateFilterSettings(v));
@@ -48,6 +49,7 @@ public class FilterHandler {
         settingsManager.setFilterMinimumLetters(settings.getMinimumLetters());
         settingsManager.setFilterMinimumOccurrences(settings.getMinimumOccurrences());
         settingsManager.setAllowInitialCapitals(settings.isAllowInitialCapitals());
+        settingsManager.setMatchWordForms(settings.isMatchWordForms());
         fileListManager.setFilterFiles(settings.getFilterFiles());
     }
 }
@@ -6,7 +6,8 @@ package io.github.vocabhunter.gui.controller;
 
 import io.github.vocabhunter.analysis.session.EnrichedSessionState;
 import io.github.vocabhunter.analysis.session.FileNameTool;
-import io.github.vocabhunter.analysis.session.SessionState;
+import io.github.vocabhunter.analysis.session.LiveSessionState;
+import io.github.vocabhunter.analysis.session.SessionSnapshot;
 import io.github.vocabhunter.gui.common.GuiTaskHandler;
 import io.github.vocabhunter.gui.dialogues.*;
 import io.github.vocabhunter.gui.model.MainModel;
@@ -76,11 +77,11 @@ public class GuiFileHandler {
             statusManager.performAction(file);
 
             Path fileWithSuffix = FileNameTool.ensureExportFileHasSuffix(file);
-            SessionState sessionState = sessionStateHandler.getSessionState();
+            SessionSnapshot snapshot = sessionStateHandler.getSessionSnapshot();
             GuiTask<Boolean> task = new GuiTask<>(
                 guiTaskHandler,
                 statusManager,
-                () -> processExport(fileWithSuffix, sessionState, isNoteIncluded),
+                () -> processExport(fileWithSuffix, snapshot, isNoteIncluded),
                 e -> dialogueTool.errorOnExport(fileWithSuffix, e)
             );
 
@@ -88,9 +89,9 @@ public class GuiFileHandler {
         }
     }
 
-    private boolean processExport(final Path file, final SessionState sessionState, final boolean isNoteIncluded) {
+    private boolean processExport(final Path file, final SessionSnapshot snapshot, final boolean isNoteIncluded) {
         LOG.info("Exporting to file '{}' (Notes included: {})", file, isNoteIncluded);
-        sessionFileService.exportSelection(sessionState, file, isNoteIncluded);
+        sessionFileService.exportSelection(snapshot.toSessionState(), file, isNoteIncluded);
 
         return true;
     }
@@ -171,7 +172,7 @@ public class GuiFileHandler {
     }
 
     private void finishOpen(final EnrichedSessionState enrichedState) {
-        SessionState state = enrichedState.getState();
+        LiveSessionState state = new LiveSessionState(enrichedState.getState());
         SessionModel sessionModel = sessionStateHandler.addSession(state);
 
         model.replaceSessionModel(state, sessionModel, enrichedState.getFile().orElse(null));
@@ -212,20 +213,21 @@ public class GuiFileHandler {
         statusManager.performAction(file);
         LOG.info("Saving file '{}'", file);
 
-        SessionState sessionState = sessionStateHandler.getSessionState();
+        LiveSessionState sessionState = sessionStateHandler.getSessionState();
+        SessionSnapshot snapshot = sessionState.snapshot();
         GuiTask<Boolean> task = new GuiTask<>(
             guiTaskHandler,
             statusManager,
-            () -> saveFile(file, sessionState),
-            b -> model.setChangesSaved(true),
+            () -> saveFile(file, snapshot),
+            b -> model.setChangesSaved(!sessionState.isModifiedSince(snapshot)),
             e -> dialogueTool.errorOnSave(file, e)
         );
 
         guiTaskHandler.executeInBackground(task);
     }
 
-    private boolean saveFile(final Path file, final SessionState sessionState) {
-        sessionFileService.write(file, sessionState);
+    private boolean saveFile(final Path file, final SessionSnapshot snapshot) {
+        sessionFileService.write(file, snapshot.toSessionState());
 
         return true;
     }
@@ -297,7 +299,7 @@ public class GuiFileHandler {
 
         try {
             LOG.info("Saving file '{}'", file);
-            sessionFileService.write(file, sessionStateHandler.getSessionState());
+            sessionFileService.write(file, sessionStateHandler.getSessionSnapshot().toSessionState());
             model.setChangesSaved(true);
 
             return true;
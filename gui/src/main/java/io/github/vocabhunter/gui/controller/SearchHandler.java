@@ -11,7 +11,6 @@ import io.github.vocabhunter.gui.i18n.I18nManager;
 import io.github.vocabhunter.gui.model.SearchModel;
 import io.github.vocabhunter.gui.model.SessionModel;
 import io.github.vocabhunter.gui.model.WordModel;
-import io.github.vocabhunter.gui.search.SearchTool;
 import io.github.vocabhunter.gui.search.Searcher;
 import javafx.beans.property.ObjectProperty;
 import javafx.collections.ListChangeListener;
@@ -40,7 +39,7 @@ public class SearchHandler {
         this.controls = controls;
         this.model = model;
         this.wordListHandler = wordListHandler;
-        this.searcher = new Searcher<>(i18nManager, SearchTool::matchMaker);
+        this.searcher = new Searcher<>(i18nManager, model.getSearchIndex()::matchMaker);
     }
 
 
@@ -89,7 +88,7 @@ public class SearchHandler {
 
     private void processTextUpdate(final String value) {
         if (StringUtils.isNotBlank(value)) {
-            Predicate<SequencedWord> matcher = SearchTool.matchMaker(value);
+            Predicate<SequencedWord> matcher = model.getSearchIndex().matchMaker(value);
 
             model.getWordList().stream()
                 .filter(matcher)
@@ -26,6 +26,8 @@ import org.controlsfx.control.textfield.CustomTextField;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import javax.inject.Inject;
 
 import static io.github.vocabhunter.gui.common.EventHandlerTool.combine;
@@ -114,6 +116,8 @@ public class SessionController {
 
     private SessionActions sessionActions;
 
+    private WordFilter pendingFilter;
+
     public void initialise(final GuiTaskHandler guiTaskHandler, final SessionModel sessionModel) {
         this.sessionModel = sessionModel;
 
@@ -137,6 +141,7 @@ public class SessionController {
         sessionModel.editableProperty().addListener((p, o, v) -> updateWordList());
         sessionModel.filterSettingsProperty().addListener((p, o, v) -> updateWordListIfFilterEnabled());
         sessionModel.enableFiltersProperty().addListener((p, o, v) -> updateWordList());
+        sessionModel.filterRevisionProperty().addListener((p, o, v) -> updateWordListIfFilterEnabled());
 
         sessionActions = new SessionActions(
             combine(searchHandler::processKeyPress, wordStateHandler::processKeyPress, wordNoteHandler::processKeyPress),
@@ -189,18 +194,30 @@ public class SessionController {
 
         try {
             WordFilter filter = filterService.getFilter(sessionModel.isEnableFilters());
-            MarkTool<WordModel> markTool = new MarkTool<>(filter, sessionModel.getAllWords());
-
-            isFilterSuccess = markTool.isValidFilter();
-            if (isFilterSuccess) {
+            CompletableFuture<Void> readiness = filter.readiness();
+            boolean isReady = readiness.isDone();
+            MarkTool<WordModel> markTool = new MarkTool<>(sessionModel.getAllWords(), sessionModel.getShownWordsCache().shownWords(filter));
+
+            if (isReady) {
+                readiness.join();
+            } else if (!filter.equals(pendingFilter)) {
+                pendingFilter = filter;
+                readiness.whenComplete((v, e) -> Platform.runLater(() -> processFilterReady(filter, e)));
+            }
+            if (markTool.isValidFilter()) {
                 sessionModel.updateWordList(isEditable, markTool);
                 wordListHandler.selectClosestWord(isEditable, filter);
             }
+            isFilterSuccess = markTool.isValidFilter() || !isReady;
             exception = null;
         } catch (final VocabHunterException e) {
             LOG.error("Failed to activate filter", e);
             exception = e;
             isFilterSuccess = false;
+        } catch (final CompletionException e) {
+            LOG.error("Failed to load filter", e);
+            exception = filterException(e);
+            isFilterSuccess = false;
         }
 
         if (!isFilterSuccess) {
@@ -208,6 +225,31 @@ public class SessionController {
         }
     }
 
+    private void processFilterReady(final WordFilter filter, final Throwable e) {
+        if (filter.equals(pendingFilter)) {
+            pendingFilter = null;
+        }
+        if (filter.equals(filterService.getFilter(sessionModel.isEnableFilters()))) {
+            if (e == null) {
+                LOG.info("Filter data loaded, refreshing word list");
+                updateWordList();
+            } else {
+                LOG.error("Failed to load filter", e);
+                reportFilterFailure(filterException(e));
+            }
+        }
+    }
+
+    private VocabHunterException filterException(final Throwable e) {
+        Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+
+        if (cause instanceof VocabHunterException) {
+            return (VocabHunterException) cause;
+        } else {
+            return new VocabHunterException("Failed to load filter", cause);
+        }
+    }
+
     private void processFilterFailure(final VocabHunterException e) {
         Platform.runLater(() -> reportFilterFailure(e));
     }
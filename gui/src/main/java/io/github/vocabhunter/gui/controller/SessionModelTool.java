@@ -4,8 +4,8 @@
 
 package io.github.vocabhunter.gui.controller;
 
+import io.github.vocabhunter.analysis.session.LiveSessionState;
 import io.github.vocabhunter.analysis.session.SessionState;
-import io.github.vocabhunter.analysis.session.SessionWord;
 import io.github.vocabhunter.gui.model.*;
 import io.github.vocabhunter.gui.settings.WindowSettings;
 import io.github.vocabhunter.gui.view.SessionTab;
@@ -18,7 +18,7 @@ import java.util.stream.IntStream;
 import static io.github.vocabhunter.gui.common.GuiNoteTool.fromGuiNote;
 
 public class SessionModelTool {
-    private final SessionState state;
+    private final LiveSessionState state;
 
     private final FilterSettings filterSettings;
 
@@ -26,7 +26,7 @@ public class SessionModelTool {
 
     private final WindowSettings windowSettings;
 
-    public SessionModelTool(final SessionState state, final FilterSettings filterSettings, final SimpleObjectProperty<SessionTab> tabProperty, final WindowSettings windowSettings) {
+    public SessionModelTool(final LiveSessionState state, final FilterSettings filterSettings, final SimpleObjectProperty<SessionTab> tabProperty, final WindowSettings windowSettings) {
         this.state = state;
         this.filterSettings = filterSettings;
         this.tabProperty = tabProperty;
@@ -39,26 +39,25 @@ public class SessionModelTool {
 
         positionModel.analysisModeProperty().bind(Bindings.createBooleanBinding(() -> tabProperty.get().equals(SessionTab.ANALYSIS), tabProperty));
 
-        return new SessionModel(state.getName(), state.getLines(), words(state, progressModel), filterSettings, progressModel, positionModel, windowSettings);
+        SessionState base = state.getBase();
+
+        return new SessionModel(base.getName(), base.getLines(), words(base, progressModel), filterSettings, progressModel, positionModel, windowSettings);
     }
 
     private List<WordModel> words(final SessionState raw, final ProgressModel progressModel) {
-        List<SessionWord> orderedUses = raw.getOrderedUses();
-        int useCount = orderedUses.size();
         List<WordModel> wordModels = WordModelTool.wordModels(raw);
 
-        IntStream.range(0, useCount)
-            .forEach(i -> addListeners(orderedUses, wordModels, i, progressModel));
+        IntStream.range(0, wordModels.size())
+            .forEach(i -> addListeners(wordModels, i, progressModel));
 
         return wordModels;
     }
 
-    private void addListeners(final List<SessionWord> orderedUses, final List<WordModel> wordModels, final int index, final ProgressModel progressModel) {
-        SessionWord sessionWord = orderedUses.get(index);
+    private void addListeners(final List<WordModel> wordModels, final int index, final ProgressModel progressModel) {
         WordModel wordModel = wordModels.get(index);
 
-        wordModel.stateProperty().addListener((o, old, s) -> sessionWord.setState(s));
-        wordModel.noteProperty().addListener((o, old, s) -> sessionWord.setNote(fromGuiNote(s)));
-        wordModel.stateProperty().addListener((o, old, s) -> progressModel.updateWord(old, s));
+        wordModel.stateProperty().addListener((o, old, s) -> state.setState(index, s));
+        wordModel.noteProperty().addListener((o, old, s) -> state.setNote(index, fromGuiNote(s)));
+        wordModel.stateProperty().addListener((o, old, s) -> progressModel.updateWord(index, old, s));
     }
 }
@@ -5,7 +5,8 @@
 package io.github.vocabhunter.gui.controller;
 
 import io.github.vocabhunter.analysis.core.VocabHunterException;
-import io.github.vocabhunter.analysis.session.SessionState;
+import io.github.vocabhunter.analysis.session.LiveSessionState;
+import io.github.vocabhunter.analysis.session.SessionSnapshot;
 import io.github.vocabhunter.gui.common.ControllerAndView;
 import io.github.vocabhunter.gui.common.GuiTaskHandler;
 import io.github.vocabhunter.gui.i18n.I18nManager;
@@ -49,11 +50,15 @@ public class SessionStateHandler {
         this.mainBorderPane = mainBorderPane;
     }
 
-    public SessionState getSessionState() {
+    public LiveSessionState getSessionState() {
         return model.getSessionState().orElseThrow(() -> new VocabHunterException("No session state available"));
     }
 
-    public SessionModel addSession(final SessionState state) {
+    public SessionSnapshot getSessionSnapshot() {
+        return getSessionState().snapshot();
+    }
+
+    public SessionModel addSession(final LiveSessionState state) {
         SessionViewTool viewTool = new SessionViewTool(i18nManager);
         SessionModelTool sessionTool = new SessionModelTool(state, model.getFilterSettings(), viewTool.selectedProperty(), settingsManager.getWindowSettings().orElseGet(WindowSettings::new));
         SessionModel sessionModel = sessionTool.buildModel();
@@ -41,6 +41,9 @@ public class SettingsController {
     @FXML
     private CheckBox fieldInitialCapital;
 
+    @FXML
+    private CheckBox fieldWordForms;
+
     @FXML
     private ListView<FilterFileModel> listExcludedFiles;
 
@@ -91,6 +94,7 @@ public class SettingsController {
         initialiseField(fieldMinimumLetters, settings::getMinimumLetters);
         initialiseField(fieldMinimumOccurrences, settings::getMinimumOccurrences);
         initialiseField(fieldInitialCapital, settings::isAllowInitialCapitals);
+        initialiseField(fieldWordForms, settings::isMatchWordForms);
 
         List<FilterFileModel> filterFiles = settings.getFilterFiles().stream()
             .map(translator::toModel)
@@ -161,11 +165,12 @@ public class SettingsController {
             int minimumLetters = getAsInteger(fieldMinimumLetters::getText, old.getMinimumLetters());
             int minimumOccurrences = getAsInteger(fieldMinimumOccurrences::getText, old.getMinimumOccurrences());
             boolean allowInitialCapitals = fieldInitialCapital.isSelected();
+            boolean matchWordForms = fieldWordForms.isSelected();
             List<BaseListedFile> filterFiles = filterFilesModel.getFiles().stream()
                 .map(translator::fromModel)
                 .collect(Collectors.toList());
 
-            FilterSettings settings = new FilterSettings(minimumLetters, minimumOccurrences, allowInitialCapitals, filterFiles);
+            FilterSettings settings = new FilterSettings(minimumLetters, minimumOccurrences, allowInitialCapitals, matchWordForms, filterFiles);
 
             filterService.setFilterSettings(settings);
             model.setEnableFilters(true);
@@ -24,6 +24,8 @@ public final class FileFormatExtensions {
 
     static final List<String> EXTENSIONS_SPREADSHEET = List.of( "*.xls", "*.xlsx");
 
+    static final List<String> EXTENSIONS_DELIMITED = List.of("*.csv", "*.tsv");
+
     private FileFormatExtensions() {
         // Prevent instantiation - all members are static
     }
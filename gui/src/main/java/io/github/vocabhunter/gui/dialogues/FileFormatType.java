@@ -28,7 +28,8 @@ public enum FileFormatType {
     OFFICE(FILE_TYPE_OFFICE, EXTENSIONS_OFFICE),
     EBOOK(FILE_TYPE_EBOOK, EXTENSIONS_EBOOK),
     SESSION(FILE_TYPE_SESSION, "*" + FileNameTool.SESSION_SUFFIX),
-    SPREADSHEET(FILE_TYPE_SPREADSHEET, EXTENSIONS_SPREADSHEET);
+    SPREADSHEET(FILE_TYPE_SPREADSHEET, EXTENSIONS_SPREADSHEET),
+    DELIMITED(FILE_TYPE_DELIMITED, EXTENSIONS_DELIMITED);
 
     public static final List<FileFormatType> TYPES_INPUT_DOCUMENTS = List.of(DOCUMENT, ANY_TEXT, PDF, OFFICE, EBOOK, ALL);
 
@@ -36,7 +37,7 @@ public enum FileFormatType {
 
     public static final List<FileFormatType> TYPES_EXPORTS = List.of(TEXT);
 
-    public static final List<FileFormatType> TYPES_WORD_GRIDS = List.of(DOCUMENT, SPREADSHEET);
+    public static final List<FileFormatType> TYPES_WORD_GRIDS = List.of(DOCUMENT, SPREADSHEET, DELIMITED);
 
     private static final Map<List<String>, FileFormatType> TYPES = Stream.of(FileFormatType.values())
         .collect(toMap(FileFormatType::getExtensions, identity()));
@@ -21,6 +21,8 @@ public enum I18nKey {
 
     FILTER_WINDOW_TITLE("filter.window.title"),
     FILTER_WORDS_COUNT("filter.words.count"),
+    FILTER_WORDS_COUNT_PARTIAL("filter.words.count.partial"),
+    FILTER_WORDS_COUNT_FAILED("filter.words.count.failed"),
     FILTER_COLUMN("filter.column"),
     FILTER_ERROR_TITLE("filter.error.title"),
     FILTER_ERROR_ALL("filter.error.all"),
@@ -33,6 +35,7 @@ public enum I18nKey {
     FILTER_MAIN_LISTS_TYPE_LIST("filter.main.lists.type.list"),
 
     FILTER_GRID_WINDOW_TITLE("filter.grid.window.title"),
+    FILTER_GRID_SHEET("filter.grid.sheet"),
     FILTER_SESSION_WINDOW_TITLE("filter.session.window.title"),
     FILTER_SESSION_TYPE_KNOWN_TIP("filter.session.type.known.tip"),
     FILTER_SESSION_TYPE_UNKNOWN_TIP("filter.session.type.unknown.tip"),
@@ -77,6 +80,7 @@ public enum I18nKey {
     FILE_TYPE_EBOOK("file.type.ebook"),
     FILE_TYPE_SESSION("file.type.session"),
     FILE_TYPE_SPREADSHEET("file.type.spreadsheet"),
+    FILE_TYPE_DELIMITED("file.type.delimited"),
 
     STATUS_ACTION_NEW("status.action.new"),
     STATUS_ACTION_OPEN("status.action.open"),
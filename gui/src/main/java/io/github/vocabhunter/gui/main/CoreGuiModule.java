@@ -43,11 +43,12 @@ public class CoreGuiModule extends AbstractModule {
 
         bind(DocumentGridReader.class).to(DocumentGridReaderImpl.class);
         bind(ExcelGridReader.class).to(ExcelGridReaderImpl.class);
+        bind(DelimitedGridReader.class).to(DelimitedGridReaderImpl.class);
         bind(SessionWordsTool.class).to(SessionWordsToolImpl.class);
         bind(GridWordsExtractor.class).to(GridWordsExtractorImpl.class);
-        bind(TextGridBuilder.class).to(TextGridBuilderImpl.class);
+        bind(TextGridBuilder.class).to(ParallelTextGridBuilderImpl.class);
         bind(TextGridManager.class).to(TextGridManagerImpl.class);
-        bind(FilterFileWordsExtractor.class).to(FilterFileWordsExtractorImpl.class);
+        bind(FilterFileWordsExtractor.class).to(CachingFilterFileWordsExtractor.class);
         bind(I18nManager.class).to(I18nManagerImpl.class);
 
         bind(StatusManager.class).to(StatusManagerImpl.class);
@@ -20,6 +20,8 @@ public abstract class AbstractFilterModel {
 
     private final SimpleBooleanProperty error = new SimpleBooleanProperty();
 
+    private final SimpleObjectProperty<WordCountStatus> wordCountStatus = new SimpleObjectProperty<>(WordCountStatus.COMPLETE);
+
     protected AbstractFilterModel(final Path file) {
         this.file.set(file);
     }
@@ -32,7 +34,7 @@ public abstract class AbstractFilterModel {
         ObservableNumberValue count = wordCountProperty();
         StringBinding filenameText = Bindings.createStringBinding(() -> filename(file.get()), file);
 
-        error.bind(Bindings.equal(count, 0));
+        error.bind(Bindings.equal(count, 0).or(Bindings.equal(wordCountStatus, WordCountStatus.FAILED)));
         filename.bind(filenameText);
     }
 
@@ -42,6 +44,18 @@ public abstract class AbstractFilterModel {
         return wordCountProperty().intValue();
     }
 
+    public ReadOnlyObjectProperty<WordCountStatus> wordCountStatusProperty() {
+        return wordCountStatus;
+    }
+
+    public WordCountStatus getWordCountStatus() {
+        return wordCountStatus.get();
+    }
+
+    protected void setWordCountStatus(final WordCountStatus status) {
+        wordCountStatus.set(status);
+    }
+
     public Path getFile() {
         return file.get();
     }
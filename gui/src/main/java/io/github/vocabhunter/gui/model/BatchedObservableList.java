@@ -0,0 +1,86 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.gui.model;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+import java.util.function.Consumer;
+
+/**
+ * A read-only view of an observable list that passes on the changes of the
+ * list it wraps.  The changes made within a {@link #batch(Consumer)} reach
+ * listeners as a single change, however many places in the list they touch.
+ */
+public final class BatchedObservableList<E> extends TransformationList<E, E> {
+    private final ObservableList<E> backingList;
+
+    public BatchedObservableList(final ObservableList<E> backingList) {
+        super(backingList);
+        this.backingList = backingList;
+    }
+
+    public void batch(final Consumer<ObservableList<E>> changes) {
+        beginChange();
+        try {
+            changes.accept(backingList);
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    protected void sourceChanged(final ListChangeListener.Change<? extends E> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                nextPermutation(c.getFrom(), c.getTo(), permutation(c));
+            } else if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (c.wasRemoved()) {
+                    nextRemove(c.getFrom(), c.getRemoved());
+                }
+                if (c.wasAdded()) {
+                    nextAdd(c.getFrom(), c.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+
+    private static int[] permutation(final ListChangeListener.Change<?> c) {
+        int[] permutation = new int[c.getTo() - c.getFrom()];
+
+        for (int i = 0; i < permutation.length; i++) {
+            permutation[i] = c.getPermutation(c.getFrom() + i);
+        }
+
+        return permutation;
+    }
+
+    @Override
+    public int getSourceIndex(final int index) {
+        return index;
+    }
+
+    @Override
+    public int getViewIndex(final int index) {
+        return index;
+    }
+
+    @Override
+    public E get(final int index) {
+        return backingList.get(index);
+    }
+
+    @Override
+    public int size() {
+        return backingList.size();
+    }
+}
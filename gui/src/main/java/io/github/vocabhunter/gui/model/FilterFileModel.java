@@ -11,7 +11,10 @@ import javafx.util.Callback;
 
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.TreeSet;
 
 public class FilterFileModel {
@@ -22,16 +25,22 @@ public class FilterFileModel {
 
     private final SimpleObjectProperty<FilterFileMode> modeProperty;
 
-    private Set<Integer> columns;
+    private static final int FIRST_SHEET = 0;
+
+    private SortedMap<Integer, Set<Integer>> sheetColumns;
 
     public FilterFileModel(final Path file, final FilterFileMode mode) {
         this(file, mode, Set.of());
     }
 
     public FilterFileModel(final Path file, final FilterFileMode mode, final Set<Integer> columns) {
+        this(file, mode, Map.of(FIRST_SHEET, columns));
+    }
+
+    public FilterFileModel(final Path file, final FilterFileMode mode, final Map<Integer, ? extends Set<Integer>> sheetColumns) {
         this.file = new SimpleObjectProperty<>(file);
         this.modeProperty = new SimpleObjectProperty<>(mode);
-        this.columns = new TreeSet<>(columns);
+        this.sheetColumns = copySheetColumns(sheetColumns);
     }
 
     public FilterFileMode getMode() {
@@ -55,10 +64,26 @@ public class FilterFileModel {
     }
 
     public Set<Integer> getColumns() {
-        return Collections.unmodifiableSet(columns);
+        return sheetColumns.getOrDefault(FIRST_SHEET, Set.of());
     }
 
     public void setColumns(final Set<Integer> columns) {
-        this.columns = new TreeSet<>(columns);
+        setSheetColumns(Map.of(FIRST_SHEET, columns));
+    }
+
+    public SortedMap<Integer, Set<Integer>> getSheetColumns() {
+        return Collections.unmodifiableSortedMap(sheetColumns);
+    }
+
+    public void setSheetColumns(final Map<Integer, ? extends Set<Integer>> sheetColumns) {
+        this.sheetColumns = copySheetColumns(sheetColumns);
+    }
+
+    private static SortedMap<Integer, Set<Integer>> copySheetColumns(final Map<Integer, ? extends Set<Integer>> sheetColumns) {
+        SortedMap<Integer, Set<Integer>> result = new TreeMap<>();
+
+        sheetColumns.forEach((sheet, columns) -> result.put(sheet, Collections.unmodifiableSet(new TreeSet<>(columns))));
+
+        return result;
     }
 }
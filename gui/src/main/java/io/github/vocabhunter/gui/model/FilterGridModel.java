@@ -8,7 +8,6 @@ import io.github.vocabhunter.analysis.grid.GridLine;
 import io.github.vocabhunter.analysis.grid.TextGrid;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.value.ObservableIntegerValue;
 import javafx.collections.FXCollections;
@@ -16,55 +15,163 @@ import javafx.collections.ObservableList;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-
-import static java.util.stream.Collectors.toList;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 public class FilterGridModel extends AbstractFilterModel {
     public static final Set<Integer> DEFAULT_COLUMNS = Set.of(0);
 
-    private final ObservableList<GridLine> lines = FXCollections.observableArrayList();
+    public static final int FIRST_SHEET = 0;
 
-    private final SimpleIntegerProperty count = new SimpleIntegerProperty();
+    private ObservableList<GridLine> lines;
 
-    private TextGrid grid;
+    private final SimpleIntegerProperty count = new SimpleIntegerProperty();
 
     private FilterFileMode mode;
 
+    private final ObservableList<String> sheetNames = FXCollections.observableArrayList();
+
+    private final SortedMap<Integer, FilterGridSheet> sheets = new TreeMap<>();
+
+    private int sheet;
+
+    private boolean isReadFailed;
+
     private final ObservableList<BooleanProperty> columnSelections = FXCollections.observableArrayList();
 
     public FilterGridModel(final Path file, final TextGrid grid, final FilterFileMode mode, final Set<Integer> columns) {
+        this(file, grid, mode, Map.of(FIRST_SHEET, columns), List.of(), FIRST_SHEET);
+    }
+
+    /**
+     * Shows the given sheet of a workbook, with the grid read so far.  The
+     * grids of the other sheets are added with {@link #updateGrid(int, TextGrid)},
+     * or just their word counts with {@link #updateCounts(int, int[])}.
+     */
+    public FilterGridModel(
+        final Path file, final TextGrid grid, final FilterFileMode mode, final Map<Integer, ? extends Set<Integer>> sheetColumns, final List<String> sheetNames, final int sheet) {
         super(file);
-        setupValues(grid, mode, columns);
+        setupValues(grid, mode, sheetColumns, sheetNames, sheet);
         bindValues();
     }
 
     public void replaceContent(final Path file, final TextGrid grid, final FilterFileMode mode, final Set<Integer> columns) {
+        replaceContent(file, grid, mode, Map.of(FIRST_SHEET, columns), List.of(), FIRST_SHEET);
+    }
+
+    public void replaceContent(
+        final Path file, final TextGrid grid, final FilterFileMode mode, final Map<Integer, ? extends Set<Integer>> sheetColumns, final List<String> sheetNames, final int sheet) {
         replaceContent(file);
-        setupValues(grid, mode, columns);
+        setupValues(grid, mode, sheetColumns, sheetNames, sheet);
+    }
+
+    /**
+     * Replaces a preview with the fully read grid.  The column selections are
+     * kept, and only rebuilt if the full grid has a different number of columns.
+     */
+    public void updateGrid(final TextGrid fullGrid) {
+        updateGrid(sheet, fullGrid);
+    }
+
+    public void updateGrid(final int sheetNo, final TextGrid fullGrid) {
+        sheet(sheetNo).setGrid(fullGrid);
+        if (sheetNo == sheet) {
+            showSheet();
+        }
+        updateTotals();
+    }
+
+    /**
+     * Records the word counts of a sheet that is not shown, without its grid.
+     */
+    public void updateCounts(final int sheetNo, final int... acceptedCounts) {
+        sheet(sheetNo).setAcceptedCounts(acceptedCounts);
+        updateTotals();
+    }
+
+    /**
+     * Shows a sheet whose grid, or at least a preview of it, has been read.
+     */
+    public void selectSheet(final int sheetNo) {
+        sheet = sheetNo;
+        showSheet();
+    }
+
+    public boolean isSheetRead(final int sheetNo) {
+        return sheet(sheetNo).isRead();
     }
 
-    private void setupValues(final TextGrid grid, final FilterFileMode mode, final Set<Integer> columns) {
-        this.grid = grid;
+    /**
+     * Whether the grid read for a sheet is only a preview of its first lines.
+     */
+    public boolean isSheetTruncated(final int sheetNo) {
+        return sheet(sheetNo).isTruncated();
+    }
+
+    /**
+     * Marks the word count as failed after the rest of the file could not be read.
+     */
+    public void markReadFailed() {
+        isReadFailed = true;
+        updateStatus();
+    }
+
+    private void setupValues(
+        final TextGrid grid, final FilterFileMode mode, final Map<Integer, ? extends Set<Integer>> sheetColumns, final List<String> names, final int sheetNo) {
         this.mode = mode;
-        lines.setAll(grid.getLines());
+        isReadFailed = false;
+        sheetNames.setAll(names);
+        sheets.clear();
+        sheetColumns.forEach((s, c) -> sheets.put(s, new FilterGridSheet(c)));
+        sheet = sheetNo;
+        sheet(sheetNo).setGrid(grid);
+        showSheet();
+        updateTotals();
+    }
+
+    private FilterGridSheet sheet(final int sheetNo) {
+        return sheets.computeIfAbsent(sheetNo, s -> new FilterGridSheet(Set.of()));
+    }
+
+    private void showSheet() {
+        FilterGridSheet current = sheet(sheet);
+
+        lines = FXCollections.unmodifiableObservableList(FXCollections.observableList(current.getGrid().getLines()));
+        if (!columnSelections.equals(current.getSelections())) {
+            columnSelections.setAll(current.getSelections());
+        }
+    }
+
+    private void updateTotals() {
+        ObservableIntegerValue[] counts = sheets.values().stream()
+            .map(FilterGridSheet::countProperty)
+            .toArray(ObservableIntegerValue[]::new);
 
-        columnSelections.setAll(buildColumnProperties(columns));
         count.unbind();
-        count.bind(Bindings.createIntegerBinding(this::calculateCount, selectionsArray()));
+        count.bind(Bindings.createIntegerBinding(() -> calculateCount(counts), counts));
+        updateStatus();
     }
 
-    private BooleanProperty[] selectionsArray() {
-        return columnSelections.stream()
-            .toArray(BooleanProperty[]::new);
+    private void updateStatus() {
+        if (isReadFailed) {
+            setWordCountStatus(WordCountStatus.FAILED);
+        } else if (sheets.values().stream().allMatch(FilterGridSheet::isComplete)) {
+            setWordCountStatus(WordCountStatus.COMPLETE);
+        } else {
+            setWordCountStatus(WordCountStatus.PARTIAL);
+        }
     }
 
-    private List<BooleanProperty> buildColumnProperties(final Set<Integer> columns) {
-        return columnIndexStream()
-            .mapToObj(i -> new SimpleBooleanProperty(columns.contains(i)))
-            .collect(toList());
+    private static int calculateCount(final ObservableIntegerValue... counts) {
+        int total = 0;
+
+        for (ObservableIntegerValue sheetCount : counts) {
+            total += Math.max(0, sheetCount.get());
+        }
+
+        return total;
     }
 
     @Override
@@ -72,11 +179,11 @@ public class FilterGridModel extends AbstractFilterModel {
         return count;
     }
 
-    private int calculateCount() {
-        return columnIndexStream()
-            .filter(this::isSelectedColumn)
-            .map(i -> grid.getColumns().get(i).getAcceptedCount())
-            .sum();
+    /**
+     * The number of words chosen in a sheet, or -1 until it is read or counted.
+     */
+    public ObservableIntegerValue sheetWordCountProperty(final int sheetNo) {
+        return sheet(sheetNo).countProperty();
     }
 
     public ObservableList<GridLine> getLines() {
@@ -87,26 +194,40 @@ public class FilterGridModel extends AbstractFilterModel {
         return mode;
     }
 
+    public ObservableList<String> getSheetNames() {
+        return sheetNames;
+    }
+
+    public int getSheet() {
+        return sheet;
+    }
+
     public ObservableList<BooleanProperty> getColumnSelections() {
         return columnSelections;
     }
 
     public Set<Integer> getColumns() {
-        return columnIndexStream()
-            .filter(this::isSelectedColumn)
-            .boxed()
-            .collect(Collectors.toSet());
+        return sheet(sheet).getColumns();
     }
 
-    private boolean isSelectedColumn(final int i) {
-        return columnSelections.get(i).get();
-    }
+    /**
+     * Returns the chosen columns of each sheet, leaving out sheets with none.
+     */
+    public SortedMap<Integer, Set<Integer>> getSheetColumns() {
+        SortedMap<Integer, Set<Integer>> result = new TreeMap<>();
+
+        sheets.forEach((s, state) -> {
+            Set<Integer> columns = state.getColumns();
+
+            if (!columns.isEmpty()) {
+                result.put(s, columns);
+            }
+        });
 
-    private IntStream columnIndexStream() {
-        return IntStream.range(0, getColumnCount());
+        return result;
     }
 
     public int getColumnCount() {
-        return grid.getColumns().size();
+        return sheet(sheet).getColumnCount();
     }
 }
@@ -0,0 +1,145 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.gui.model;
+
+import io.github.vocabhunter.analysis.grid.TextGrid;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.value.ObservableIntegerValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The grid and column selections of one sheet.  Until the grid has been read
+ * the saved columns stand in for the selections, and the count comes from the
+ * accepted counts of each column if the sheet has been counted.
+ */
+final class FilterGridSheet {
+    static final int UNKNOWN_COUNT = -1;
+
+    private final SimpleIntegerProperty count = new SimpleIntegerProperty(UNKNOWN_COUNT);
+
+    private final List<BooleanProperty> selections = new ArrayList<>();
+
+    private final Set<Integer> savedColumns;
+
+    private TextGrid grid;
+
+    private int[] acceptedCounts;
+
+    FilterGridSheet(final Set<Integer> savedColumns) {
+        this.savedColumns = Set.copyOf(savedColumns);
+    }
+
+    /**
+     * The column selections are kept, and only rebuilt if the new grid has a
+     * different number of columns.
+     */
+    void setGrid(final TextGrid newGrid) {
+        Set<Integer> columns = getColumns();
+        boolean isRebuildNeeded = grid == null || newGrid.getColumns().size() != getColumnCount();
+
+        grid = newGrid;
+        if (isRebuildNeeded) {
+            selections.clear();
+            columnIndexStream()
+                .mapToObj(i -> new SimpleBooleanProperty(columns.contains(i)))
+                .forEach(selections::add);
+        }
+        bindCount();
+    }
+
+    /**
+     * Records the number of words in each column of a sheet that was counted
+     * without keeping its grid.
+     */
+    void setAcceptedCounts(final int... counts) {
+        acceptedCounts = counts.clone();
+        bindCount();
+    }
+
+    private void bindCount() {
+        count.unbind();
+        count.bind(Bindings.createIntegerBinding(this::calculateCount, selections.toArray(BooleanProperty[]::new)));
+    }
+
+    private int calculateCount() {
+        if (acceptedCounts == null) {
+            return calculateGridCount();
+        } else {
+            return getColumns().stream()
+                .filter(c -> c < acceptedCounts.length)
+                .mapToInt(c -> acceptedCounts[c])
+                .sum();
+        }
+    }
+
+    private int calculateGridCount() {
+        if (grid == null) {
+            return UNKNOWN_COUNT;
+        } else {
+            return columnIndexStream()
+                .filter(this::isSelectedColumn)
+                .map(grid::getAcceptedCount)
+                .sum();
+        }
+    }
+
+    boolean isRead() {
+        return grid != null;
+    }
+
+    boolean isTruncated() {
+        return grid != null && grid.isTruncated();
+    }
+
+    /**
+     * The count is complete once the whole sheet has been read or counted.
+     */
+    boolean isComplete() {
+        return acceptedCounts != null || isRead() && !grid.isTruncated();
+    }
+
+    TextGrid getGrid() {
+        return grid;
+    }
+
+    List<BooleanProperty> getSelections() {
+        return selections;
+    }
+
+    ObservableIntegerValue countProperty() {
+        return count;
+    }
+
+    Set<Integer> getColumns() {
+        if (grid == null) {
+            return savedColumns;
+        } else {
+            return columnIndexStream()
+                .filter(this::isSelectedColumn)
+                .boxed()
+                .collect(Collectors.toSet());
+        }
+    }
+
+    private boolean isSelectedColumn(final int i) {
+        return selections.get(i).get();
+    }
+
+    private IntStream columnIndexStream() {
+        return IntStream.range(0, getColumnCount());
+    }
+
+    int getColumnCount() {
+        return grid.getColumns().size();
+    }
+}
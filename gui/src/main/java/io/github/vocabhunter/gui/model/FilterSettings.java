@@ -18,12 +18,17 @@ public final class FilterSettings {
 
     private final boolean allowInitialCapitals;
 
+    private final boolean matchWordForms;
+
     private final List<BaseListedFile> filterFiles;
 
-    public FilterSettings(final int minimumLetters, final int minimumOccurrences, final boolean allowInitialCapitals, final List<BaseListedFile> filterFiles) {
+    public FilterSettings(
+        final int minimumLetters, final int minimumOccurrences, final boolean allowInitialCapitals, final boolean matchWordForms,
+        final List<BaseListedFile> filterFiles) {
         this.minimumLetters = minimumLetters;
         this.minimumOccurrences = minimumOccurrences;
         this.allowInitialCapitals = allowInitialCapitals;
+        this.matchWordForms = matchWordForms;
         this.filterFiles = List.copyOf(filterFiles);
     }
 
@@ -39,6 +44,10 @@ public final class FilterSettings {
         return allowInitialCapitals;
     }
 
+    public boolean isMatchWordForms() {
+        return matchWordForms;
+    }
+
     public List<BaseListedFile> getFilterFiles() {
         return filterFiles;
     }
@@ -59,6 +68,7 @@ public final class FilterSettings {
             .append(minimumLetters, that.minimumLetters)
             .append(minimumOccurrences, that.minimumOccurrences)
             .append(allowInitialCapitals, that.allowInitialCapitals)
+            .append(matchWordForms, that.matchWordForms)
             .append(filterFiles, that.filterFiles)
             .isEquals();
     }
@@ -69,6 +79,7 @@ public final class FilterSettings {
             .append(minimumLetters)
             .append(minimumOccurrences)
             .append(allowInitialCapitals)
+            .append(matchWordForms)
             .append(filterFiles)
             .toHashCode();
     }
@@ -79,6 +90,7 @@ public final class FilterSettings {
             .append("minimumLetters", minimumLetters)
             .append("minimumOccurrences", minimumOccurrences)
             .append("allowInitialCapitals", allowInitialCapitals)
+            .append("matchWordForms", matchWordForms)
             .append("filterFiles", filterFiles)
             .toString();
     }
@@ -36,15 +36,22 @@ public class FilterSettingsTool {
         if (!settings.isAllowInitialCapitals()) {
             builder = builder.excludeInitialCapital();
         }
+        if (settings.isMatchWordForms()) {
+            builder = builder.matchExcludedWordStems();
+        }
         for (BaseListedFile file : settings.getFilterFiles()) {
             builder = addFilter(builder, file);
         }
 
-        return builder.build();
+        WordFilter filter = builder.build();
+
+        filter.readiness().whenComplete((v, e) -> extractor.logRebuildStatistics());
+
+        return filter;
     }
 
     private FilterBuilder addFilter(final FilterBuilder builder, final BaseListedFile file) {
-        return builder.addExcludedWordsSupplier(() -> extractor.extract(file));
+        return builder.addExcludedWordsFile(file.getFile(), () -> extractor.extract(file));
     }
 
     public void beginAsyncFiltering() {
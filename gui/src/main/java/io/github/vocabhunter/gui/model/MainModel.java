@@ -5,9 +5,10 @@
 package io.github.vocabhunter.gui.model;
 
 import io.github.vocabhunter.analysis.filter.WordFilter;
-import io.github.vocabhunter.analysis.session.SessionState;
+import io.github.vocabhunter.analysis.session.LiveSessionState;
 import io.github.vocabhunter.gui.i18n.SupportedLocale;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 
@@ -21,7 +22,7 @@ import static javafx.beans.binding.Bindings.isNotEmpty;
 public class MainModel {
     private final SimpleStringProperty title = new SimpleStringProperty();
 
-    private SessionState sessionState;
+    private LiveSessionState sessionState;
 
     private SessionModel sessionModel;
 
@@ -41,6 +42,8 @@ public class MainModel {
 
     private final SimpleBooleanProperty enableFilters = new SimpleBooleanProperty(true);
 
+    private final SimpleIntegerProperty filterRevision = new SimpleIntegerProperty();
+
     private final SimpleObjectProperty<SupportedLocale> locale = new SimpleObjectProperty<>();
 
     private WordFilter filter;
@@ -53,17 +56,18 @@ public class MainModel {
         changesSaved.setValue(true);
     }
 
-    public void replaceSessionModel(final SessionState sessionState, final SessionModel sessionModel, final Path sessionFile) {
+    public void replaceSessionModel(final LiveSessionState sessionState, final SessionModel sessionModel, final Path sessionFile) {
         resetSessionModel(sessionState, sessionModel, sessionFile, true);
         selectionAvailable.bind(isNotEmpty(sessionModel.getSelectedWords()));
         editMode.bindBidirectional(sessionModel.editableProperty());
         sessionModel.filterSettingsProperty().bindBidirectional(filterSettings);
         sessionModel.enableFiltersProperty().bindBidirectional(enableFilters);
+        sessionModel.filterRevisionProperty().bind(filterRevision);
         documentName.bind(sessionModel.documentNameProperty());
         changesSaved.bindBidirectional(sessionModel.changesSavedProperty());
     }
 
-    private void resetSessionModel(final SessionState sessionState, final SessionModel sessionModel, final Path sessionFile, final boolean isSessionOpen) {
+    private void resetSessionModel(final LiveSessionState sessionState, final SessionModel sessionModel, final Path sessionFile, final boolean isSessionOpen) {
         unbindOldSession();
 
         this.sessionState = sessionState;
@@ -80,6 +84,7 @@ public class MainModel {
             changesSaved.unbindBidirectional(sessionModel.changesSavedProperty());
             sessionModel.filterSettingsProperty().unbindBidirectional(filterSettings);
             sessionModel.enableFiltersProperty().unbindBidirectional(enableFilters);
+            sessionModel.filterRevisionProperty().unbind();
         }
     }
 
@@ -155,6 +160,10 @@ public class MainModel {
         return filter;
     }
 
+    public void incrementFilterRevision() {
+        filterRevision.set(filterRevision.get() + 1);
+    }
+
     public SimpleBooleanProperty enableFiltersProperty() {
         return enableFilters;
     }
@@ -175,7 +184,7 @@ public class MainModel {
         return sessionFile.get();
     }
 
-    public Optional<SessionState> getSessionState() {
+    public Optional<LiveSessionState> getSessionState() {
         return Optional.ofNullable(sessionState);
     }
 
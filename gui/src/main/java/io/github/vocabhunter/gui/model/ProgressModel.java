@@ -4,6 +4,7 @@
 
 package io.github.vocabhunter.gui.model;
 
+import io.github.vocabhunter.analysis.marked.MarkCounts;
 import io.github.vocabhunter.analysis.marked.WordState;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.NumberBinding;
@@ -45,6 +46,8 @@ public class ProgressModel {
 
     private final NumberBinding markedPercentVisible = bindPercentage(marked, totalVisible);
 
+    private MarkCounts counts;
+
     private NumberBinding bindPercentage(final NumberExpression property, final NumberBinding total) {
         return Bindings.when(property.isEqualTo(0)).then(0).otherwise(property.multiply(PERCENT).divide(total));
     }
@@ -113,6 +116,20 @@ public class ProgressModel {
         this.unseenFiltered.set(unseenFiltered);
     }
 
+    public void updateProgress(final MarkCounts counts) {
+        this.counts = counts;
+        publishCounts();
+    }
+
+    public void updateWord(final int index, final WordState oldState, final WordState newState) {
+        if (counts == null) {
+            updateWord(oldState, newState);
+        } else {
+            counts.updateWord(index, oldState, newState);
+            publishCounts();
+        }
+    }
+
     public void updateWord(final WordState oldState, final WordState newState) {
         SimpleIntegerProperty oldValue = properties.get(oldState);
         SimpleIntegerProperty newValue = properties.get(newState);
@@ -121,6 +138,10 @@ public class ProgressModel {
         updateValue(newValue, 1);
     }
 
+    private void publishCounts() {
+        updateProgress(counts.getKnown(), counts.getUnknown(), counts.getUnseenUnfiltered(), counts.getUnseenFiltered());
+    }
+
     private void updateValue(final SimpleIntegerProperty property, final int delta) {
         property.set(property.get() + delta);
     }
@@ -4,8 +4,11 @@
 
 package io.github.vocabhunter.gui.model;
 
+import io.github.vocabhunter.analysis.filter.ShownWordsCache;
+import io.github.vocabhunter.analysis.filter.WordFeatures;
 import io.github.vocabhunter.analysis.marked.MarkTool;
 import io.github.vocabhunter.analysis.marked.WordState;
+import io.github.vocabhunter.gui.search.SearchIndex;
 import io.github.vocabhunter.gui.settings.WindowSettings;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
@@ -26,9 +29,13 @@ public final class SessionModel {
 
     private final List<WordModel> allWords;
 
+    private final ShownWordsCache shownWordsCache;
+
+    private final SearchIndex searchIndex;
+
     private final ObservableSet<WordModel> selectedWords = FXCollections.observableSet(new TreeSet<>(WORD_COMPARATOR));
 
-    private final ObservableList<WordModel> wordList =  FXCollections.observableArrayList(WordModel.PROPERTY_EXTRACTOR);
+    private final BatchedObservableList<WordModel> wordList = new BatchedObservableList<>(FXCollections.observableArrayList(WordModel.PROPERTY_EXTRACTOR));
 
     private final ObservableList<String> useList = FXCollections.observableArrayList();
 
@@ -48,6 +55,8 @@ public final class SessionModel {
 
     private final SimpleBooleanProperty enableFilters = new SimpleBooleanProperty();
 
+    private final SimpleIntegerProperty filterRevision = new SimpleIntegerProperty();
+
     private final ProgressModel progress;
 
     private final PositionModel position;
@@ -65,11 +74,13 @@ public final class SessionModel {
         this.progress = progress;
         this.position = position;
         allWords = List.copyOf(words);
+        shownWordsCache = new ShownWordsCache(WordFeatures.fromWords(allWords));
+        searchIndex = new SearchIndex(allWords);
         selectedWords.addAll(words.stream()
                 .filter(w -> w.getState().equals(WordState.UNKNOWN))
                 .collect(toList()));
 
-        updateWordList(true, new MarkTool<>(words));
+        updateWordList(true, new MarkTool<>(allWords, shownWordsCache.shownWords(w -> true)));
         currentWord = new SimpleObjectProperty<>(InitialSelectionTool.nextWord(allWords));
 
         splitUsePosition = new SimpleDoubleProperty(windowSettings.getSplitUsePosition());
@@ -95,12 +106,11 @@ public final class SessionModel {
     }
 
     public void updateWordList(final boolean isEditable, final MarkTool<WordModel> markTool) {
-        wordList.clear();
         if (isEditable) {
-            wordList.addAll(markTool.getShownWords());
-            progress.updateProgress(markTool.getKnown(), markTool.getUnknown(), markTool.getUnseenUnfiltered(), markTool.getUnseenFiltered());
+            WordListUpdateTool.update(wordList, markTool.getShownWords(), WORD_COMPARATOR);
+            progress.updateProgress(markTool.getCounts());
         } else {
-            wordList.addAll(selectedWords);
+            WordListUpdateTool.update(wordList, selectedWords, WORD_COMPARATOR);
         }
     }
 
@@ -114,6 +124,14 @@ public final class SessionModel {
         return selectedWords.contains(word);
     }
 
+    public ShownWordsCache getShownWordsCache() {
+        return shownWordsCache;
+    }
+
+    public SearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
     public WordModel getWord(final int index) {
         return allWords.get(index);
     }
@@ -202,6 +220,10 @@ public final class SessionModel {
         return enableFilters.get();
     }
 
+    public SimpleIntegerProperty filterRevisionProperty() {
+        return filterRevision;
+    }
+
     public ProgressModel getProgress() {
         return progress;
     }
@@ -0,0 +1,9 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.gui.model;
+
+public enum WordCountStatus {
+    COMPLETE, PARTIAL, FAILED
+}
@@ -0,0 +1,110 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.gui.model;
+
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Brings a sorted observable list up to date with a new sorted list by
+ * removing and adding only the runs of words that differ.  All the runs are
+ * applied in one batch, so listeners see a single change however scattered
+ * the differences are, and unchanged words keep their observers.
+ */
+public final class WordListUpdateTool {
+    private WordListUpdateTool() {
+        // Prevent instantiation - all methods are static
+    }
+
+    public static <T> void update(final BatchedObservableList<T> target, final Collection<T> words, final Comparator<? super T> comparator) {
+        List<T> newWords = List.copyOf(words);
+        List<ChangedRun> runs = runs(target, newWords, comparator);
+
+        if (!runs.isEmpty()) {
+            target.batch(l -> applyRuns(l, runs, newWords));
+        }
+    }
+
+    private static <T> void applyRuns(final ObservableList<T> target, final List<ChangedRun> runs, final List<T> newWords) {
+        for (int i = runs.size() - 1; i >= 0; i--) {
+            ChangedRun run = runs.get(i);
+
+            if (run.removeCount > 0) {
+                target.remove(run.from, run.from + run.removeCount);
+            }
+            if (run.addTo > run.addFrom) {
+                target.addAll(run.from, newWords.subList(run.addFrom, run.addTo));
+            }
+        }
+    }
+
+    private static <T> List<ChangedRun> runs(final List<T> oldWords, final List<T> newWords, final Comparator<? super T> comparator) {
+        List<ChangedRun> runs = new ArrayList<>();
+        int oldSize = oldWords.size();
+        int newSize = newWords.size();
+        int i = 0;
+        int j = 0;
+
+        while (i < oldSize || j < newSize) {
+            if (compare(oldWords, newWords, i, j, comparator) == 0) {
+                i++;
+                j++;
+            } else {
+                int from = i;
+                int addFrom = j;
+                int order = compare(oldWords, newWords, i, j, comparator);
+
+                while (order != 0) {
+                    if (order < 0) {
+                        i++;
+                    } else {
+                        j++;
+                    }
+                    order = compare(oldWords, newWords, i, j, comparator);
+                }
+                runs.add(new ChangedRun(from, i - from, addFrom, j));
+            }
+        }
+
+        return runs;
+    }
+
+    /**
+     * Compares the next old and new words, with both lists being used up
+     * counting as a match.
+     */
+    private static <T> int compare(final List<T> oldWords, final List<T> newWords, final int i, final int j, final Comparator<? super T> comparator) {
+        if (i == oldWords.size() && j == newWords.size()) {
+            return 0;
+        } else if (i == oldWords.size()) {
+            return 1;
+        } else if (j == newWords.size()) {
+            return -1;
+        } else {
+            return comparator.compare(oldWords.get(i), newWords.get(j));
+        }
+    }
+
+    private static final class ChangedRun {
+        private final int from;
+
+        private final int removeCount;
+
+        private final int addFrom;
+
+        private final int addTo;
+
+        private ChangedRun(final int from, final int removeCount, final int addFrom, final int addTo) {
+            this.from = from;
+            this.removeCount = removeCount;
+            this.addFrom = addFrom;
+            this.addTo = addTo;
+        }
+    }
+}
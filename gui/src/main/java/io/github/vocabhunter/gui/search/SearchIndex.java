@@ -0,0 +1,155 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.gui.search;
+
+import io.github.vocabhunter.gui.common.SequencedWord;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Finds the words of a session that contain some search text, matching in the
+ * same way as {@link SearchTool#matchMaker(String)}.  The words are normalised
+ * once, and every sequence of up to three letters lists the words containing
+ * it.  Longer searches check either the words listed for their rarest three
+ * letters or, when the text extends the previous search, the previous matches.
+ * This is not thread safe: searches are made on the GUI thread.
+ */
+public final class SearchIndex {
+    private static final int MAX_GRAM_LENGTH = 3;
+
+    private final String[] keys;
+
+    private final BitSet words = new BitSet();
+
+    private final Map<String, Posting> grams = new HashMap<>();
+
+    private String lastSearch;
+
+    private BitSet lastMatches;
+
+    public SearchIndex(final List<? extends SequencedWord> words) {
+        int size = words.stream()
+            .mapToInt(SequencedWord::getSequenceNo)
+            .max()
+            .orElse(-1) + 1;
+
+        keys = new String[size];
+        for (SequencedWord word : words) {
+            int sequenceNo = word.getSequenceNo();
+            String key = SearchTool.normalise(word.getWordIdentifier());
+
+            keys[sequenceNo] = key;
+            this.words.set(sequenceNo);
+            addGrams(key, sequenceNo);
+        }
+    }
+
+    private void addGrams(final String key, final int sequenceNo) {
+        for (int length = 1; length <= MAX_GRAM_LENGTH; length++) {
+            for (int i = 0; i + length <= key.length(); i++) {
+                grams.computeIfAbsent(key.substring(i, i + length), g -> new Posting()).add(sequenceNo);
+            }
+        }
+    }
+
+    public Predicate<SequencedWord> matchMaker(final String text) {
+        BitSet matches = matches(text);
+
+        return w -> matches.get(w.getSequenceNo());
+    }
+
+    /**
+     * Returns the sequence numbers of the words that contain the text.
+     */
+    public BitSet matches(final String text) {
+        String search = SearchTool.normalise(text.trim());
+
+        if (!search.equals(lastSearch)) {
+            lastMatches = findMatches(search);
+            lastSearch = search;
+        }
+
+        return (BitSet) lastMatches.clone();
+    }
+
+    private BitSet findMatches(final String search) {
+        if (search.isEmpty()) {
+            return words;
+        } else {
+            Posting shortest = shortestPosting(search);
+
+            if (shortest == null) {
+                return new BitSet();
+            } else if (search.length() <= MAX_GRAM_LENGTH) {
+                return shortest.toBitSet();
+            } else if (lastSearch != null && search.contains(lastSearch) && lastMatches.cardinality() < shortest.size) {
+                return refine(lastMatches, search);
+            } else {
+                return refine(shortest.toBitSet(), search);
+            }
+        }
+    }
+
+    private Posting shortestPosting(final String search) {
+        int length = Math.min(search.length(), MAX_GRAM_LENGTH);
+        Posting shortest = null;
+
+        for (int i = 0; i + length <= search.length(); i++) {
+            Posting posting = grams.get(search.substring(i, i + length));
+
+            if (posting == null) {
+                return null;
+            } else if (shortest == null || posting.size < shortest.size) {
+                shortest = posting;
+            }
+        }
+
+        return shortest;
+    }
+
+    private BitSet refine(final BitSet candidates, final String search) {
+        BitSet result = new BitSet();
+
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (keys[i].contains(search)) {
+                result.set(i);
+            }
+        }
+
+        return result;
+    }
+
+    private static final class Posting {
+        private static final int INITIAL_CAPACITY = 4;
+
+        private int[] sequenceNos = new int[INITIAL_CAPACITY];
+
+        private int size;
+
+        private void add(final int sequenceNo) {
+            if (size == 0 || sequenceNos[size - 1] != sequenceNo) {
+                if (size == sequenceNos.length) {
+                    sequenceNos = Arrays.copyOf(sequenceNos, size * 2);
+                }
+                sequenceNos[size++] = sequenceNo;
+            }
+        }
+
+        private BitSet toBitSet() {
+            BitSet result = new BitSet();
+
+            for (int i = 0; i < size; i++) {
+                result.set(sequenceNos[i]);
+            }
+
+            return result;
+        }
+    }
+}
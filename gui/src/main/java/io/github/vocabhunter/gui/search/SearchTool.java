@@ -27,7 +27,7 @@ public final class SearchTool {
         return normalise(w.getWordIdentifier()).contains(searchText);
     }
 
-    private static String normalise(final String s) {
+    static String normalise(final String s) {
         return CoreTool.toLowerCase(StringUtils.stripAccents(s));
     }
 
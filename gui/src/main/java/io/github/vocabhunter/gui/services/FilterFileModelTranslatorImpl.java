@@ -6,6 +6,7 @@ package io.github.vocabhunter.gui.services;
 
 import io.github.vocabhunter.analysis.core.VocabHunterException;
 import io.github.vocabhunter.analysis.settings.BaseListedFile;
+import io.github.vocabhunter.analysis.settings.DelimitedListedFile;
 import io.github.vocabhunter.analysis.settings.DocumentListedFile;
 import io.github.vocabhunter.analysis.settings.ExcelListedFile;
 import io.github.vocabhunter.analysis.settings.SessionListedFile;
@@ -32,9 +33,11 @@ public class FilterFileModelTranslatorImpl implements FilterFileModelTranslator
             case SESSION_SEEN:
                 return new SessionListedFile(file, true);
             case EXCEL:
-                return new ExcelListedFile(file, model.getColumns());
+                return new ExcelListedFile(file, model.getSheetColumns());
             case DOCUMENT:
                 return new DocumentListedFile(file);
+            case DELIMITED:
+                return new DelimitedListedFile(file, model.getColumns());
             default:
                 throw new VocabHunterException("Unsupported mode " + mode);
         }
@@ -57,6 +60,7 @@ public class FilterFileModelTranslatorImpl implements FilterFileModelTranslator
         map.put(SessionListedFile.class, FilterFileModelTranslatorImpl::translateSession);
         map.put(ExcelListedFile.class, FilterFileModelTranslatorImpl::translateExcel);
         map.put(DocumentListedFile.class, FilterFileModelTranslatorImpl::translateDocument);
+        map.put(DelimitedListedFile.class, FilterFileModelTranslatorImpl::translateDelimited);
 
         return map;
     }
@@ -77,7 +81,7 @@ public class FilterFileModelTranslatorImpl implements FilterFileModelTranslator
     private static FilterFileModel translateExcel(final BaseListedFile baseListedFile) {
         ExcelListedFile file = (ExcelListedFile) baseListedFile;
 
-        return new FilterFileModel(file.getFile(), FilterFileMode.EXCEL, file.getColumns());
+        return new FilterFileModel(file.getFile(), FilterFileMode.EXCEL, file.getSheets());
     }
 
     private static FilterFileModel translateDocument(final BaseListedFile baseListedFile) {
@@ -85,4 +89,10 @@ public class FilterFileModelTranslatorImpl implements FilterFileModelTranslator
 
         return new FilterFileModel(file.getFile(), FilterFileMode.DOCUMENT, Set.of(0));
     }
+
+    private static FilterFileModel translateDelimited(final BaseListedFile baseListedFile) {
+        DelimitedListedFile file = (DelimitedListedFile) baseListedFile;
+
+        return new FilterFileModel(file.getFile(), FilterFileMode.DELIMITED, file.getColumns());
+    }
 }
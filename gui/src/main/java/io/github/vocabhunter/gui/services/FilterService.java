@@ -4,32 +4,58 @@
 
 package io.github.vocabhunter.gui.services;
 
+import io.github.vocabhunter.analysis.core.ThreadPoolTool;
 import io.github.vocabhunter.analysis.filter.WordFilter;
+import io.github.vocabhunter.analysis.settings.BaseListedFile;
+import io.github.vocabhunter.analysis.settings.FilterFileWatcher;
+import io.github.vocabhunter.gui.common.GuiTaskHandler;
 import io.github.vocabhunter.gui.model.FilterSettings;
 import io.github.vocabhunter.gui.model.FilterSettingsTool;
 import io.github.vocabhunter.gui.model.MainModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import static java.util.stream.Collectors.toList;
+
 @Singleton
 public class FilterService {
+    private static final Logger LOG = LoggerFactory.getLogger(FilterService.class);
+
     private static final WordFilter NOP_FILTER = w -> true;
 
+    private static final Duration WATCH_DEBOUNCE = Duration.ofMillis(500);
+
     private final MainModel model;
 
     private final FilterSettingsTool tool;
 
+    private final GuiTaskHandler guiTaskHandler;
+
+    private final FilterFileWatcher watcher;
+
     @Inject
-    public FilterService(final MainModel model, final FilterSettingsTool tool) {
+    public FilterService(final MainModel model, final FilterSettingsTool tool, final GuiTaskHandler guiTaskHandler, final ThreadPoolTool threadPoolTool) {
         this.model = model;
         this.tool = tool;
+        this.guiTaskHandler = guiTaskHandler;
+        this.watcher = new FilterFileWatcher(threadPoolTool.guiThreadPool(), WATCH_DEBOUNCE, this::processFileChange);
     }
 
     public void setFilterSettings(final FilterSettings settings) {
         if (!settings.equals(model.getFilterSettings())) {
-            model.setFilter(tool.filter(settings));
+            WordFilter filter = tool.filter(settings);
+
+            filter.addLoadListener(() -> guiTaskHandler.executeOnGuiThread(() -> completeLoad(filter)));
+            model.setFilter(filter);
             model.setFilterSettings(settings);
+            watcher.watch(settings.getFilterFiles().stream()
+                .map(BaseListedFile::getFile)
+                .collect(toList()));
         }
     }
 
@@ -40,4 +66,21 @@ public class FilterService {
             return NOP_FILTER;
         }
     }
+
+    // The reloaded data reaches the word list through the load listener
+    private void processFileChange(final Path file) {
+        model.getFilter().refresh(file).whenComplete((isChanged, e) -> processRefresh(file, e));
+    }
+
+    private void processRefresh(final Path file, final Throwable e) {
+        if (e != null) {
+            LOG.error("Failed to reload filter file '{}'", file, e);
+        }
+    }
+
+    private void completeLoad(final WordFilter filter) {
+        if (filter.equals(model.getFilter())) {
+            model.incrementFilterRevision();
+        }
+    }
 }
@@ -38,6 +38,10 @@ public interface SettingsManager {
 
     void setAllowInitialCapitals(boolean allow);
 
+    boolean isMatchWordForms();
+
+    void setMatchWordForms(boolean match);
+
     Optional<WindowSettings> getWindowSettings();
 
     void setWindowSettings(WindowSettings windowSettings);
@@ -97,6 +97,16 @@ public class SettingsManagerImpl extends BaseSettingsManager<VocabHunterSettings
         setValue(VocabHunterSettings::setAllowInitialCapitals, allow);
     }
 
+    @Override
+    public boolean isMatchWordForms() {
+        return getValue(VocabHunterSettings::isMatchWordForms);
+    }
+
+    @Override
+    public void setMatchWordForms(final boolean match) {
+        setValue(VocabHunterSettings::setMatchWordForms, match);
+    }
+
     @Override
     public Optional<WindowSettings> getWindowSettings() {
         WindowSettings value = getValue(VocabHunterSettings::getWindowSettings);
@@ -17,6 +17,8 @@ public class VocabHunterSettings {
 
     public static final boolean DEFAULT_ALLOW_INITIAL_CAPITALS = true;
 
+    public static final boolean DEFAULT_MATCH_WORD_FORMS = false;
+
     private Path documentsPath;
 
     private Path sessionsPath;
@@ -31,6 +33,8 @@ public class VocabHunterSettings {
 
     private boolean isAllowInitialCapitals = DEFAULT_ALLOW_INITIAL_CAPITALS;
 
+    private boolean isMatchWordForms = DEFAULT_MATCH_WORD_FORMS;
+
     private WindowSettings windowSettings;
 
     private SupportedLocale locale;
@@ -91,6 +95,14 @@ public class VocabHunterSettings {
         isAllowInitialCapitals = allowInitialCapitals;
     }
 
+    public boolean isMatchWordForms() {
+        return isMatchWordForms;
+    }
+
+    public void setMatchWordForms(final boolean matchWordForms) {
+        isMatchWordForms = matchWordForms;
+    }
+
     public WindowSettings getWindowSettings() {
         return windowSettings;
     }
@@ -73,6 +73,7 @@ public enum FilterFileModeView {
         map.put(FilterFileMode.SESSION_SEEN, SESSION_SEEN);
         map.put(FilterFileMode.DOCUMENT, GRID);
         map.put(FilterFileMode.EXCEL, GRID);
+        map.put(FilterFileMode.DELIMITED, GRID);
 
         return map;
     }
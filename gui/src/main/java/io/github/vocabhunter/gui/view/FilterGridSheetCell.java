@@ -0,0 +1,36 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.gui.view;
+
+import io.github.vocabhunter.gui.i18n.I18nManager;
+import io.github.vocabhunter.gui.model.FilterGridModel;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.scene.control.ListCell;
+
+import static io.github.vocabhunter.gui.i18n.I18nKey.FILTER_GRID_SHEET;
+
+public class FilterGridSheetCell extends ListCell<Integer> {
+    private final I18nManager i18nManager;
+
+    private final FilterGridModel filterModel;
+
+    public FilterGridSheetCell(final I18nManager i18nManager, final FilterGridModel filterModel) {
+        this.i18nManager = i18nManager;
+        this.filterModel = filterModel;
+    }
+
+    @Override
+    protected void updateItem(final Integer sheet, final boolean isEmpty) {
+        super.updateItem(sheet, isEmpty);
+        textProperty().unbind();
+        if (isEmpty || sheet == null) {
+            setText(null);
+        } else {
+            ReadOnlyStringWrapper name = new ReadOnlyStringWrapper(filterModel.getSheetNames().get(sheet));
+
+            textProperty().bind(i18nManager.textBinding(FILTER_GRID_SHEET, name, filterModel.sheetWordCountProperty(sheet)));
+        }
+    }
+}
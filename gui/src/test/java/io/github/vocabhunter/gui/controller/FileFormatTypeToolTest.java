@@ -23,6 +23,11 @@ public class FileFormatTypeToolTest {
         validate(FileFormatType.SPREADSHEET, FilterFileMode.EXCEL);
     }
 
+    @Test
+    public void testDelimited() {
+        validate(FileFormatType.DELIMITED, FilterFileMode.DELIMITED);
+    }
+
     @Test
     public void testSession() {
         validate(FileFormatType.SESSION, FilterFileMode.SESSION_KNOWN);
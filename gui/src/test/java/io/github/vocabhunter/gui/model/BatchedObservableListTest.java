@@ -0,0 +1,97 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.gui.model;
+
+import javafx.beans.Observable;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BatchedObservableListTest {
+    private final StringProperty first = new SimpleStringProperty("first");
+
+    private final StringProperty second = new SimpleStringProperty("second");
+
+    private final ObservableList<StringProperty> backingList = FXCollections.observableArrayList(p -> new Observable[] {p});
+
+    private final BatchedObservableList<StringProperty> target = new BatchedObservableList<>(backingList);
+
+    private final List<String> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        backingList.addAll(first, second);
+        target.addListener((ListChangeListener<StringProperty>) this::recordChange);
+    }
+
+    @Test
+    public void testContents() {
+        assertEquals(List.of(first, second), target);
+    }
+
+    @Test
+    public void testSourceChange() {
+        backingList.remove(first);
+
+        assertAll(
+            () -> assertEquals(List.of(second), target, "Contents"),
+            () -> assertEquals(List.of("removed 0-1"), changes, "Changes")
+        );
+    }
+
+    @Test
+    public void testUpdate() {
+        second.set("changed");
+
+        assertEquals(List.of("updated 1-2"), changes);
+    }
+
+    @Test
+    public void testBatch() {
+        StringProperty third = new SimpleStringProperty("third");
+
+        target.batch(l -> {
+            l.add(third);
+            l.remove(1);
+            l.add(0, second);
+        });
+
+        assertAll(
+            () -> assertEquals(List.of(second, first, third), target, "Contents"),
+            () -> assertEquals(1, changes.size(), "Change count")
+        );
+    }
+
+    @Test
+    public void testReadOnly() {
+        assertThrows(UnsupportedOperationException.class, () -> target.add(new SimpleStringProperty("other")));
+    }
+
+    private void recordChange(final ListChangeListener.Change<? extends StringProperty> c) {
+        StringBuilder description = new StringBuilder();
+
+        while (c.next()) {
+            if (c.wasUpdated()) {
+                description.append("updated ").append(c.getFrom()).append('-').append(c.getTo());
+            } else if (c.wasAdded()) {
+                description.append("added ").append(c.getFrom()).append('-').append(c.getTo());
+            } else {
+                description.append("removed ").append(c.getFrom()).append('-').append(c.getFrom() + c.getRemovedSize());
+            }
+        }
+        changes.add(description.toString());
+    }
+}
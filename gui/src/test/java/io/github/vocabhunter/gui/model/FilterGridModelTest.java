@@ -4,6 +4,7 @@
 
 package io.github.vocabhunter.gui.model;
 
+import io.github.vocabhunter.analysis.grid.GridColumn;
 import io.github.vocabhunter.analysis.grid.GridTestTool;
 import io.github.vocabhunter.analysis.grid.TextGrid;
 import javafx.beans.property.BooleanProperty;
@@ -11,18 +12,25 @@ import org.junit.jupiter.api.Test;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.IntStream;
 
 import static io.github.vocabhunter.gui.model.FilterModelTestTool.*;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FilterGridModelTest {
     private static final TextGrid EMPTY_GRID = GridTestTool.emptyGrid();
 
     private static final TextGrid NORMAL_GRID = GridTestTool.grid();
 
+    private static final TextGrid PREVIEW_GRID = GridTestTool.truncated(
+        new TextGrid(GridTestTool.normalisedGridLines().subList(0, 1), List.of(new GridColumn(1), new GridColumn(0), new GridColumn(0))));
+
     @Test
     public void testEmpty() {
         FilterGridModel target = build(EMPTY_GRID);
@@ -81,6 +89,162 @@ public class FilterGridModelTest {
         validateReplaceError(target, EMPTY_GRID, FilterFileMode.EXCEL);
     }
 
+    @Test
+    public void testUpdateGridKeepsSelection() {
+        FilterGridModel target = build(PREVIEW_GRID, 0);
+        BooleanProperty selection = target.getColumnSelections().get(0);
+
+        target.updateGrid(NORMAL_GRID);
+
+        assertAll(
+            () -> validateOk(target, NORMAL_GRID, 2, 0),
+            () -> assertSame(selection, target.getColumnSelections().get(0), "Selection property")
+        );
+    }
+
+    @Test
+    public void testUpdateGridAddsColumns() {
+        FilterGridModel target = build(EMPTY_GRID);
+
+        target.updateGrid(NORMAL_GRID);
+        target.getColumnSelections().get(2).set(true);
+
+        validateOk(target, NORMAL_GRID, 1, 2);
+    }
+
+    @Test
+    public void testCompletePreview() {
+        FilterGridModel target = build(NORMAL_GRID, 0);
+
+        assertAll(
+            () -> assertFalse(target.isSheetTruncated(FilterGridModel.FIRST_SHEET), "Truncated"),
+            () -> assertEquals(WordCountStatus.COMPLETE, target.getWordCountStatus(), "Status")
+        );
+    }
+
+    @Test
+    public void testPartialPreview() {
+        FilterGridModel target = build(PREVIEW_GRID, 0);
+
+        assertAll(
+            () -> assertTrue(target.isSheetTruncated(FilterGridModel.FIRST_SHEET), "Truncated"),
+            () -> assertEquals(WordCountStatus.PARTIAL, target.getWordCountStatus(), "Status")
+        );
+    }
+
+    @Test
+    public void testPreviewCompleted() {
+        FilterGridModel target = build(PREVIEW_GRID, 0);
+
+        target.updateGrid(NORMAL_GRID);
+
+        assertEquals(WordCountStatus.COMPLETE, target.getWordCountStatus());
+    }
+
+    @Test
+    public void testReadFailed() {
+        FilterGridModel target = build(PREVIEW_GRID, 0);
+
+        target.markReadFailed();
+
+        assertAll(
+            () -> assertEquals(WordCountStatus.FAILED, target.getWordCountStatus(), "Status"),
+            () -> assertTrue(target.isError(), "Error")
+        );
+    }
+
+    @Test
+    public void testReplaceAfterFailure() {
+        FilterGridModel target = build(PREVIEW_GRID, 0);
+
+        target.markReadFailed();
+        target.replaceContent(FILE_2, NORMAL_GRID, FilterFileMode.EXCEL, columns(0));
+
+        assertAll(
+            () -> assertEquals(WordCountStatus.COMPLETE, target.getWordCountStatus(), "Status"),
+            () -> validateReplaceOk(target, NORMAL_GRID, 2, FilterFileMode.EXCEL, 0)
+        );
+    }
+
+    @Test
+    public void testSheetCounts() {
+        FilterGridModel target = buildSheets();
+
+        target.updateGrid(2, NORMAL_GRID);
+
+        assertAll(
+            () -> assertEquals(2, target.sheetWordCountProperty(0).get(), "First sheet"),
+            () -> assertEquals(-1, target.sheetWordCountProperty(1).get(), "Unread sheet"),
+            () -> assertEquals(3, target.sheetWordCountProperty(2).get(), "Last sheet"),
+            () -> assertEquals(5, target.wordCountProperty().get(), "Total")
+        );
+    }
+
+    @Test
+    public void testCountedSheets() {
+        FilterGridModel target = buildSheets();
+
+        target.updateCounts(1, new int[] {4});
+        target.updateCounts(2, new int[] {2, 0, 1, 7});
+
+        assertAll(
+            () -> assertEquals(0, target.sheetWordCountProperty(1).get(), "Sheet without columns"),
+            () -> assertEquals(3, target.sheetWordCountProperty(2).get(), "Sheet with columns"),
+            () -> assertEquals(5, target.wordCountProperty().get(), "Total"),
+            () -> assertFalse(target.isSheetRead(2), "Grid read"),
+            () -> assertEquals(WordCountStatus.COMPLETE, target.getWordCountStatus(), "Status")
+        );
+    }
+
+    @Test
+    public void testSelectCountedSheet() {
+        FilterGridModel target = buildSheets();
+
+        target.updateCounts(2, new int[] {2, 0, 1});
+        target.updateGrid(2, PREVIEW_GRID);
+        target.selectSheet(2);
+        target.getColumnSelections().get(0).set(false);
+
+        assertAll(
+            () -> assertEquals(1, target.sheetWordCountProperty(2).get(), "Counted sheet"),
+            () -> assertEquals(3, target.wordCountProperty().get(), "Total")
+        );
+    }
+
+    @Test
+    public void testSelectSheet() {
+        FilterGridModel target = buildSheets();
+
+        target.updateGrid(2, NORMAL_GRID);
+        target.selectSheet(2);
+        target.getColumnSelections().get(1).set(false);
+
+        assertAll(
+            () -> assertEquals(2, target.getSheet(), "Sheet"),
+            () -> assertEquals(columns(0, 2), target.getColumns(), "Columns"),
+            () -> assertEquals(Map.of(0, columns(0), 2, columns(0, 2)), target.getSheetColumns(), "Sheet columns"),
+            () -> assertEquals(5, target.wordCountProperty().get(), "Total")
+        );
+    }
+
+    @Test
+    public void testUnreadSheetKeepsColumns() {
+        FilterGridModel target = buildSheets();
+
+        target.getColumnSelections().get(0).set(false);
+
+        assertAll(
+            () -> assertEquals(Map.of(2, columns(0, 1, 2)), target.getSheetColumns(), "Sheet columns"),
+            () -> assertEquals(0, target.wordCountProperty().get(), "Total")
+        );
+    }
+
+    private FilterGridModel buildSheets() {
+        Map<Integer, Set<Integer>> sheetColumns = Map.of(0, columns(0), 2, columns(0, 1, 2));
+
+        return new FilterGridModel(FILE_1, NORMAL_GRID, FilterFileMode.EXCEL, sheetColumns, List.of("A", "B", "C"), 0);
+    }
+
     private void validateOk(final FilterGridModel target, final TextGrid grid, final int count, final Integer... columns) {
         validate(target, FILE_1, FILENAME_1, count, false, grid, FilterFileMode.DOCUMENT, columns(columns));
     }
@@ -14,11 +14,11 @@ public class FilterSettingsTest extends AbstractBeanTest<FilterSettings> {
 
     @Override
     protected FilterSettings buildPrimary() {
-        return new FilterSettings(1, 1, false, FILES);
+        return new FilterSettings(1, 1, false, false, FILES);
     }
 
     @Override
     protected FilterSettings buildSecondary() {
-        return new FilterSettings(1, 1, true, FILES);
+        return new FilterSettings(1, 1, true, true, FILES);
     }
 }
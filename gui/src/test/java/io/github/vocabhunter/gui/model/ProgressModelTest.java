@@ -4,10 +4,14 @@
 
 package io.github.vocabhunter.gui.model;
 
+import io.github.vocabhunter.analysis.marked.MarkCounts;
 import io.github.vocabhunter.analysis.marked.WordState;
 import javafx.beans.binding.NumberBinding;
 import org.junit.jupiter.api.Test;
 
+import java.util.BitSet;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class ProgressModelTest {
@@ -56,6 +60,26 @@ public class ProgressModelTest {
         validateBasic(10, 11, 9, 10);
     }
 
+    @Test
+    public void testUpdateCounts() {
+        target.updateProgress(counts());
+        validateBasic(1, 0, 1, 1);
+    }
+
+    @Test
+    public void testUpdateCountsFilteredWord() {
+        target.updateProgress(counts());
+        target.updateWord(2, WordState.UNSEEN, WordState.UNKNOWN);
+        validateBasic(1, 1, 1, 0);
+    }
+
+    @Test
+    public void testUpdateCountsUnmarkFilteredWord() {
+        target.updateProgress(counts());
+        target.updateWord(0, WordState.KNOWN, WordState.UNSEEN);
+        validateBasic(0, 0, 1, 2);
+    }
+
     @Test
     public void testMarked() {
         target.updateProgress(1, 3, 5, 7);
@@ -68,6 +92,19 @@ public class ProgressModelTest {
         assertEquals(16, target.totalProperty().intValue(), "Total");
     }
 
+    private MarkCounts counts() {
+        List<WordModel> words = List.of(
+            new WordModel(0, "known", List.of(), 1, WordState.KNOWN, null),
+            new WordModel(1, "unseen", List.of(), 1, WordState.UNSEEN, null),
+            new WordModel(2, "filtered", List.of(), 1, WordState.UNSEEN, null)
+        );
+        BitSet filterShown = new BitSet();
+
+        filterShown.set(1);
+
+        return new MarkCounts(words, filterShown);
+    }
+
     private void initialiseValues() {
         target.updateProgress(10, 10, 10, 10);
     }
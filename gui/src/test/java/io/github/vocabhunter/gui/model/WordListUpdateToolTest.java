@@ -0,0 +1,156 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.gui.model;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WordListUpdateToolTest {
+    private static final int LARGE_SIZE = 60_000;
+
+    private static final int RANDOM_ROUNDS = 200;
+
+    private static final int SCATTERED_SIZE = 300;
+
+    private BatchedObservableList<Integer> target;
+
+    private List<Integer> replayed;
+
+    private int changeCount;
+
+    @Test
+    public void testUnchanged() {
+        validate(List.of(1, 2, 3), List.of(1, 2, 3), 0);
+    }
+
+    @Test
+    public void testFromEmpty() {
+        validate(List.of(), List.of(1, 2, 3), 1);
+    }
+
+    @Test
+    public void testToEmpty() {
+        validate(List.of(1, 2, 3), List.of(), 1);
+    }
+
+    @Test
+    public void testAddAtEnds() {
+        validate(List.of(2, 3), List.of(1, 2, 3, 4), 1);
+    }
+
+    @Test
+    public void testRemoveInMiddle() {
+        validate(List.of(1, 2, 3, 4, 5), List.of(1, 5), 1);
+    }
+
+    @Test
+    public void testReplaceRun() {
+        validate(List.of(1, 2, 4, 6), List.of(1, 3, 5, 6), 1);
+    }
+
+    @Test
+    public void testManyRuns() {
+        List<Integer> oldWords = range(0, 100);
+        List<Integer> newWords = oldWords.stream()
+            .filter(i -> i % 2 == 0)
+            .collect(toList());
+
+        validate(oldWords, newWords, 1);
+    }
+
+    @Test
+    public void testScatteredRuns() {
+        List<Integer> oldWords = range(0, SCATTERED_SIZE).stream()
+            .filter(i -> i % 3 != 1)
+            .collect(toList());
+        List<Integer> newWords = range(0, SCATTERED_SIZE).stream()
+            .filter(i -> i % 3 != 2)
+            .collect(toList());
+
+        validate(oldWords, newWords, 1);
+    }
+
+    @Test
+    public void testLargeList() {
+        List<Integer> oldWords = range(0, LARGE_SIZE);
+        List<Integer> newWords = oldWords.stream()
+            .filter(i -> i < LARGE_SIZE / 3 || i >= LARGE_SIZE / 2)
+            .collect(toList());
+
+        validate(oldWords, newWords, 1);
+    }
+
+    @Test
+    public void testRandom() {
+        Random random = new Random(1);
+
+        for (int round = 0; round < RANDOM_ROUNDS; round++) {
+            List<Integer> oldWords = randomWords(random);
+            List<Integer> newWords = randomWords(random);
+
+            build(oldWords);
+            WordListUpdateTool.update(target, newWords, Comparator.naturalOrder());
+
+            String description = "Round " + round;
+
+            assertAll(
+                () -> assertEquals(newWords, target, description),
+                () -> assertEquals(newWords, replayed, "Replayed " + description),
+                () -> assertTrue(changeCount <= 1, "Change count " + changeCount)
+            );
+        }
+    }
+
+    private void validate(final List<Integer> oldWords, final List<Integer> newWords, final int expectedChangeCount) {
+        build(oldWords);
+        WordListUpdateTool.update(target, newWords, Comparator.naturalOrder());
+
+        assertAll(
+            () -> assertEquals(newWords, target, "Words"),
+            () -> assertEquals(newWords, replayed, "Replayed changes"),
+            () -> assertEquals(expectedChangeCount, changeCount, "Change count")
+        );
+    }
+
+    private void build(final List<Integer> words) {
+        target = new BatchedObservableList<>(FXCollections.observableArrayList(words));
+        replayed = new ArrayList<>(words);
+        changeCount = 0;
+        target.addListener((ListChangeListener<Integer>) this::replay);
+    }
+
+    private void replay(final ListChangeListener.Change<? extends Integer> c) {
+        changeCount++;
+        while (c.next()) {
+            replayed.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+            replayed.addAll(c.getFrom(), c.getAddedSubList());
+        }
+    }
+
+    private List<Integer> randomWords(final Random random) {
+        return IntStream.range(0, 40)
+            .filter(i -> random.nextInt(3) != 0)
+            .boxed()
+            .collect(toList());
+    }
+
+    private List<Integer> range(final int from, final int to) {
+        return IntStream.range(from, to)
+            .boxed()
+            .collect(toList());
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Open Source Software published under the Apache Licence, Version 2.0.
+ */
+
+package io.github.vocabhunter.gui.search;
+
+import io.github.vocabhunter.gui.common.SequencedWord;
+import io.github.vocabhunter.gui.common.TestSequencedWord;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SearchIndexTest {
+    private static final Logger LOG = LoggerFactory.getLogger(SearchIndexTest.class);
+
+    private static final List<SequencedWord> WORDS = List.of(
+        new TestSequencedWord("Word", 10),
+        new TestSequencedWord("sword", 20),
+        new TestSequencedWord("W\u00F6rter", 30),
+        new TestSequencedWord("", 40),
+        new TestSequencedWord("cordon", 50));
+
+    private static final int SMALL_SIZE = 2_000;
+
+    private static final int LARGE_SIZE = 100_000;
+
+    private static final int QUERY_COUNT = 20;
+
+    private static final int WARM_UP_QUERY_COUNT = 5;
+
+    private static final int QUERY_LENGTH = 6;
+
+    private static final String LETTERS = "abcde\u00E9ilnorstu";
+
+    private final SearchIndex target = new SearchIndex(WORDS);
+
+    @Test
+    public void testEmptySearch() {
+        validate("", 10, 20, 30, 40, 50);
+    }
+
+    @Test
+    public void testShortSearch() {
+        validate("or", 10, 20, 30, 50);
+    }
+
+    @Test
+    public void testTrigramSearch() {
+        validate("WOR", 10, 20, 30);
+    }
+
+    @Test
+    public void testAccents() {
+        validate(" \u00F6rt ", 30);
+    }
+
+    @Test
+    public void testNoMatch() {
+        validate("word and");
+    }
+
+    @Test
+    public void testRefinedSearch() {
+        validate("o", 10, 20, 30, 50);
+        validate("or", 10, 20, 30, 50);
+        validate("ord", 10, 20, 50);
+        validate("word", 10, 20);
+        validate("ord", 10, 20, 50);
+        validate("cord", 50);
+    }
+
+    @Test
+    public void testEmptyIndex() {
+        SearchIndex emptyTarget = new SearchIndex(List.of());
+
+        assertEquals(new BitSet(), emptyTarget.matches("word"));
+    }
+
+    @Test
+    public void testSameAsScan() {
+        Random random = new Random(1);
+        List<SequencedWord> words = randomWords(random, SMALL_SIZE);
+        SearchIndex smallTarget = new SearchIndex(words);
+
+        for (int query = 0; query < QUERY_COUNT; query++) {
+            String text = randomText(random, QUERY_LENGTH);
+
+            for (int length = 1; length <= QUERY_LENGTH; length++) {
+                String search = text.substring(0, length);
+
+                validateSameAsScan(words, search, smallTarget.matchMaker(search));
+            }
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testLargeIndex() {
+        Random random = new Random(1);
+        List<SequencedWord> words = randomWords(random, LARGE_SIZE);
+        SearchIndex largeTarget = new SearchIndex(words);
+        long totalNanos = 0;
+        int keystrokes = 0;
+
+        for (int query = 0; query < QUERY_COUNT; query++) {
+            String text = randomText(random, QUERY_LENGTH);
+
+            for (int length = 1; length <= QUERY_LENGTH; length++) {
+                String search = text.substring(0, length);
+                long start = System.nanoTime();
+                Predicate<SequencedWord> matcher = largeTarget.matchMaker(search);
+
+                if (query >= WARM_UP_QUERY_COUNT) {
+                    totalNanos += System.nanoTime() - start;
+                    keystrokes++;
+                }
+                validateSameAsScan(words, search, matcher);
+            }
+        }
+        long averageMicros = totalNanos / keystrokes / 1000;
+
+        LOG.info("Searched {} words for each of {} keystrokes in {}us on average", LARGE_SIZE, keystrokes, averageMicros);
+    }
+
+    private List<SequencedWord> randomWords(final Random random, final int size) {
+        return IntStream.range(0, size)
+            .mapToObj(i -> new TestSequencedWord(randomText(random, 4 + random.nextInt(8)), i))
+            .collect(toList());
+    }
+
+    private void validateSameAsScan(final List<SequencedWord> words, final String search, final Predicate<SequencedWord> matcher) {
+        Predicate<SequencedWord> expected = SearchTool.matchMaker(search);
+        List<SequencedWord> expectedMatches = words.stream()
+            .filter(expected)
+            .collect(toList());
+        List<SequencedWord> matches = words.stream()
+            .filter(matcher)
+            .collect(toList());
+
+        assertEquals(expectedMatches, matches, "Matches for " + search);
+    }
+
+    private String randomText(final Random random, final int length) {
+        return IntStream.range(0, length)
+            .mapToObj(i -> String.valueOf(LETTERS.charAt(random.nextInt(LETTERS.length()))))
+            .collect(joining());
+    }
+
+    private void validate(final String search, final Integer... sequenceNos) {
+        BitSet expected = new BitSet();
+
+        for (int sequenceNo : sequenceNos) {
+            expected.set(sequenceNo);
+        }
+
+        assertEquals(expected, target.matches(search), "Matches for " + search);
+    }
+}
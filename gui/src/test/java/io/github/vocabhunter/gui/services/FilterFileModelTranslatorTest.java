@@ -5,6 +5,7 @@
 package io.github.vocabhunter.gui.services;
 
 import io.github.vocabhunter.analysis.settings.BaseListedFile;
+import io.github.vocabhunter.analysis.settings.DelimitedListedFile;
 import io.github.vocabhunter.analysis.settings.DocumentListedFile;
 import io.github.vocabhunter.analysis.settings.ExcelListedFile;
 import io.github.vocabhunter.analysis.settings.SessionListedFile;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.Test;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -27,6 +29,8 @@ public class FilterFileModelTranslatorTest {
 
     private static final Set<Integer> COLUMNS_EXCEL = Set.of(1, 3);
 
+    private static final Map<Integer, Set<Integer>> SHEETS_EXCEL = Map.of(0, Set.of(2), 2, COLUMNS_EXCEL);
+
     private final FilterFileModelTranslator target = new FilterFileModelTranslatorImpl();
 
     @Test
@@ -50,6 +54,14 @@ public class FilterFileModelTranslatorTest {
         validateToModel(file, FilterFileMode.EXCEL, COLUMNS_EXCEL);
     }
 
+    @Test
+    public void testToExcelSheets() {
+        ExcelListedFile file = new ExcelListedFile(FILE, SHEETS_EXCEL);
+        FilterFileModel model = target.toModel(file);
+
+        assertEquals(SHEETS_EXCEL, model.getSheetColumns());
+    }
+
     @Test
     public void testToDocument() {
         DocumentListedFile file = new DocumentListedFile(FILE);
@@ -57,6 +69,13 @@ public class FilterFileModelTranslatorTest {
         validateToModel(file, FilterFileMode.DOCUMENT, COLUMNS_DOCUMENT);
     }
 
+    @Test
+    public void testToDelimited() {
+        DelimitedListedFile file = new DelimitedListedFile(FILE, COLUMNS_EXCEL);
+
+        validateToModel(file, FilterFileMode.DELIMITED, COLUMNS_EXCEL);
+    }
+
     private void validateToModel(final BaseListedFile file, final FilterFileMode mode, final Set<Integer> columns) {
         FilterFileModel model = target.toModel(file);
 
@@ -86,6 +105,13 @@ public class FilterFileModelTranslatorTest {
         validateFromModel(model, new ExcelListedFile(FILE, COLUMNS_EXCEL));
     }
 
+    @Test
+    public void testFromExcelSheets() {
+        FilterFileModel model = new FilterFileModel(FILE, FilterFileMode.EXCEL, SHEETS_EXCEL);
+
+        validateFromModel(model, new ExcelListedFile(FILE, SHEETS_EXCEL));
+    }
+
     @Test
     public void testFromDocument() {
         FilterFileModel model = new FilterFileModel(FILE, FilterFileMode.DOCUMENT, COLUMNS_DOCUMENT);
@@ -93,6 +119,13 @@ public class FilterFileModelTranslatorTest {
         validateFromModel(model, new DocumentListedFile(FILE));
     }
 
+    @Test
+    public void testFromDelimited() {
+        FilterFileModel model = new FilterFileModel(FILE, FilterFileMode.DELIMITED, COLUMNS_EXCEL);
+
+        validateFromModel(model, new DelimitedListedFile(FILE, COLUMNS_EXCEL));
+    }
+
     private void validateFromModel(final FilterFileModel model, final BaseListedFile expected) {
         BaseListedFile actual = target.fromModel(model);
 
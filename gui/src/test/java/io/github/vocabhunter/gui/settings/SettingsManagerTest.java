@@ -141,6 +141,20 @@ public class SettingsManagerTest {
         assertEquals(DEFAULT_ALLOW_INITIAL_CAPITALS, target.isAllowInitialCapitals(), "Missing initial capital");
     }
 
+    @Test
+    public void testUpdateMatchWordForms() {
+        target.setMatchWordForms(true);
+        assertTrue(target.isMatchWordForms(), "Match word forms");
+
+        target.setMatchWordForms(false);
+        assertFalse(target.isMatchWordForms(), "Do not match word forms");
+    }
+
+    @Test
+    public void testMissingMatchWordForms() {
+        assertEquals(DEFAULT_MATCH_WORD_FORMS, target.isMatchWordForms(), "Missing match word forms");
+    }
+
     @Test
     public void testMissingWindowSettings() {
         validateEmpty(target::getWindowSettings);